@@ -0,0 +1,337 @@
+package com.iopipe;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This records where the time went during a cold start, from when the
+ * virtual machine started until the first invocation. Each phase records when
+ * it started, how long it took and how many classes were loaded while it ran.
+ *
+ * The start time of the virtual machine is the start time of the process
+ * where it is known, since {@link java.lang.management.RuntimeMXBean} only
+ * gives the time that the virtual machine finished initializing. That time
+ * separates booting from the classes which were loaded before the agent.
+ *
+ * Only the first occurrence of each phase is recorded, since later ones
+ * happen when the container is already warm.
+ *
+ * @since 2026/10/18
+ */
+public final class ColdStartTimeline
+{
+	/** The phase for starting the virtual machine until it is initialized. */
+	public static final String PHASE_BOOT =
+		"boot";
+	
+	/**
+	 * The phase for after the virtual machine is initialized until the agent
+	 * loads, which is mostly loading the classes of the runtime and the
+	 * application.
+	 */
+	public static final String PHASE_CLASSLOAD =
+		"classload";
+	
+	/** The phase for constructing the service. */
+	public static final String PHASE_SERVICE =
+		"service";
+	
+	/** The phase for discovering and initializing plugins. */
+	public static final String PHASE_SERVICE_PLUGINS =
+		"service.plugins";
+	
+	/** The phase for creating the connection. */
+	public static final String PHASE_SERVICE_CONNECTION =
+		"service.connection";
+	
+	/** The phase for setting up the timeout tracker. */
+	public static final String PHASE_SERVICE_TIMEOUT =
+		"service.timeout";
+	
+	/** The phase for constructing the handler. */
+	public static final String PHASE_HANDLER =
+		"handler";
+	
+	/** The phase for creating the first input translator. */
+	public static final String PHASE_TRANSLATOR =
+		"translator";
+	
+	/** The phase for preparing the agent before the first execution. */
+	public static final String PHASE_PREWARM =
+		"prewarm";
+	
+	/** The number of classes for phases where it is not known. */
+	static final long UNKNOWN_CLASSES =
+		-1;
+	
+	/**
+	 * The number of milliseconds in a clock tick, there are 100 ticks per
+	 * second as in {@link __ChildTracker__}.
+	 */
+	private static final long _TICK_MILLIS =
+		10L;
+	
+	/** A phase which records nothing. */
+	private static final Phase _NOTHING =
+		new Phase(null, 0, 0);
+	
+	/** Used to count loaded classes, may be {@code null}. */
+	private static final ClassLoadingMXBean _CLASSES;
+	
+	/** The time the virtual machine started. */
+	private static final long _JVM_START;
+	
+	/** The recorded phases. */
+	private static final ConcurrentMap<String, Entry> _ENTRIES =
+		new ConcurrentHashMap<>();
+	
+	/**
+	 * Records the time it took for the virtual machine to boot and for the
+	 * agent to be loaded.
+	 *
+	 * @since 2026/10/18
+	 */
+	static
+	{
+		ClassLoadingMXBean classes = null;
+		long loaded = IOpipeConstants.LOAD_TIME,
+			inited = loaded;
+		try
+		{
+			classes = ManagementFactory.getClassLoadingMXBean();
+			inited = Math.min(inited,
+				ManagementFactory.getRuntimeMXBean().getStartTime());
+		}
+		catch (LinkageError|RuntimeException e)
+		{
+			Logger.debug(e, "Cannot measure the cold start timeline.");
+		}
+		
+		long jvmstart = Math.min(inited, ColdStartTimeline.__processStart());
+		
+		_CLASSES = classes;
+		_JVM_START = jvmstart;
+		
+		// Booting is only known if the process start time is known, the
+		// classes which were loaded during it are not counted anywhere
+		if (jvmstart < inited)
+			_ENTRIES.put(PHASE_BOOT, new Entry(PHASE_BOOT, 0,
+				inited - jvmstart, UNKNOWN_CLASSES));
+		
+		// Everything after that until now belongs to the classes the runtime
+		// and application loaded before the agent, the count is taken when
+		// the agent loaded so it also has the classes loaded while booting
+		_ENTRIES.put(PHASE_CLASSLOAD, new Entry(PHASE_CLASSLOAD,
+			inited - jvmstart, loaded - inited,
+			IOpipeConstants.LOAD_CLASS_COUNT));
+	}
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private ColdStartTimeline()
+	{
+	}
+	
+	/**
+	 * Begins the given phase, {@link Phase#end()} must be called when it
+	 * has finished.
+	 *
+	 * @param __name The name of the phase.
+	 * @return The started phase.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final Phase begin(String __name)
+		throws NullPointerException
+	{
+		if (__name == null)
+			throw new NullPointerException();
+		
+		// Do not bother measuring anything which will not be recorded
+		if (_ENTRIES.containsKey(__name))
+			return _NOTHING;
+		
+		return new Phase(__name, System.nanoTime(),
+			ColdStartTimeline.__classes());
+	}
+	
+	/**
+	 * Returns the recorded phases sorted by their start time.
+	 *
+	 * @return The recorded phases.
+	 * @since 2026/10/18
+	 */
+	static final List<Entry> __entries()
+	{
+		List<Entry> rv = new ArrayList<>(_ENTRIES.values());
+		Collections.sort(rv, Comparator.comparingDouble(
+			(Entry __e) -> __e.startms));
+		return rv;
+	}
+	
+	/**
+	 * Returns the time the virtual machine started.
+	 *
+	 * @return The start time in milliseconds since the epoch.
+	 * @since 2026/10/18
+	 */
+	static final long __jvmStart()
+	{
+		return _JVM_START;
+	}
+	
+	/**
+	 * Returns the number of classes which have been loaded.
+	 *
+	 * @return The number of loaded classes, or {@code 0} if unknown.
+	 * @since 2026/10/18
+	 */
+	private static final long __classes()
+	{
+		ClassLoadingMXBean classes = _CLASSES;
+		if (classes == null)
+			return 0;
+		return classes.getTotalLoadedClassCount();
+	}
+	
+	/**
+	 * Returns the time the process started.
+	 *
+	 * @return The start time in milliseconds since the epoch, or
+	 * {@link Long#MAX_VALUE} if it is not known.
+	 * @since 2026/10/18
+	 */
+	private static final long __processStart()
+	{
+		// Both are in clock ticks since the system booted, which does not
+		// depend on the wall clock
+		__ProcReader__ pr = __ProcReader__.__reader();
+		long now = System.currentTimeMillis(),
+			start = __ChildTracker__.__startTime(pr, "self"),
+			uptime = (start < 0 ? -1 : __ChildTracker__.__uptime(pr));
+		if (start < 0 || uptime < start)
+			return Long.MAX_VALUE;
+		
+		return now - ((uptime - start) * _TICK_MILLIS);
+	}
+	
+	/**
+	 * Returns the time since the virtual machine started.
+	 *
+	 * @param __nanos The monotonic time.
+	 * @return The time in milliseconds since the virtual machine started.
+	 * @since 2026/10/18
+	 */
+	private static final double __offset(long __nanos)
+	{
+		// The load time of the agent is used to convert between the clocks
+		return (IOpipeConstants.LOAD_TIME - _JVM_START) +
+			((__nanos - IOpipeConstants.LOAD_TIME_NANOS) / 1_000_000.0);
+	}
+	
+	/**
+	 * A phase which has been recorded.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class Entry
+	{
+		/** The name of the phase. */
+		final String name;
+		
+		/** Start time in milliseconds since the virtual machine started. */
+		final double startms;
+		
+		/** The duration in milliseconds. */
+		final double durationms;
+		
+		/**
+		 * The number of classes loaded during the phase, or
+		 * {@link #UNKNOWN_CLASSES} if it is not known.
+		 */
+		final long classes;
+		
+		/**
+		 * Initializes the entry.
+		 *
+		 * @param __n The name of the phase.
+		 * @param __s The start time.
+		 * @param __d The duration.
+		 * @param __c The number of loaded classes.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		Entry(String __n, double __s, double __d, long __c)
+			throws NullPointerException
+		{
+			if (__n == null)
+				throw new NullPointerException();
+			
+			this.name = __n;
+			this.startms = __s;
+			this.durationms = __d;
+			this.classes = __c;
+		}
+	}
+	
+	/**
+	 * A phase which is in progress.
+	 *
+	 * @since 2026/10/18
+	 */
+	public static final class Phase
+	{
+		/** The name of the phase, {@code null} if nothing is recorded. */
+		private final String _name;
+		
+		/** The time the phase started. */
+		private final long _start;
+		
+		/** The number of classes loaded when the phase started. */
+		private final long _classes;
+		
+		/**
+		 * Initializes the phase.
+		 *
+		 * @param __n The name of the phase.
+		 * @param __s The time the phase started.
+		 * @param __c The number of loaded classes.
+		 * @since 2026/10/18
+		 */
+		private Phase(String __n, long __s, long __c)
+		{
+			this._name = __n;
+			this._start = __s;
+			this._classes = __c;
+		}
+		
+		/**
+		 * Ends the phase and records it, if it was not already recorded.
+		 *
+		 * @since 2026/10/18
+		 */
+		public final void end()
+		{
+			String name = this._name;
+			if (name == null)
+				return;
+			
+			long start = this._start,
+				now = System.nanoTime();
+			_ENTRIES.putIfAbsent(name, new Entry(name,
+				ColdStartTimeline.__offset(start), (now - start) / 1_000_000.0,
+				ColdStartTimeline.__classes() - this._classes));
+		}
+	}
+}
+
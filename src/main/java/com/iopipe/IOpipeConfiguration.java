@@ -121,6 +121,15 @@ public final class IOpipeConfiguration
 	/** Use local coldstarts. */
 	protected final boolean localcoldstart;
 	
+	/** Are executions run concurrently? */
+	protected final boolean concurrent;
+	
+	/** Should the agent be prepared before the first execution? */
+	protected final boolean prewarm;
+	
+	/** The file which switches the agent off while it exists. */
+	protected final String killswitchfile;
+	
 	/** The state of plugins. */
 	private final Map<String, Boolean> _pluginstate =
 		new TreeMap<>(_PLUGIN_COMPARATOR);
@@ -244,6 +253,9 @@ public final class IOpipeConfiguration
 			this.signerurl = signerurl;
 		
 		this.localcoldstart = __builder._localcoldstart;
+		this.concurrent = __builder._concurrent;
+		this.prewarm = __builder._prewarm;
+		this.killswitchfile = __builder._killswitchfile;
 		this._pluginstate.putAll(__builder._pluginstate);
 	}
 	
@@ -268,7 +280,10 @@ public final class IOpipeConfiguration
 			Objects.equals(this.installmethod, o.installmethod) &&
 			this._pluginstate.equals(o._pluginstate) &&
 			Objects.equals(this.serviceurl, o.serviceurl) &&
-			Objects.equals(this.signerurl, o.signerurl);
+			Objects.equals(this.signerurl, o.signerurl) &&
+			this.concurrent == o.concurrent &&
+			this.prewarm == o.prewarm &&
+			Objects.equals(this.killswitchfile, o.killswitchfile);
 	}
 	
 	/**
@@ -352,7 +367,8 @@ public final class IOpipeConfiguration
 			Objects.hashCode(this.installmethod) ^
 			this._pluginstate.hashCode() ^
 			Objects.hashCode(this.serviceurl) ^
-			Objects.hashCode(this.signerurl);
+			Objects.hashCode(this.signerurl) ^
+			Objects.hashCode(this.killswitchfile);
 	}
 	
 	/**
@@ -406,12 +422,14 @@ public final class IOpipeConfiguration
 					"connectionfactory=%s, timeoutwindow=%d, " +
 					"installmethod=%s, " +
 					"pluginstate=%s, serviceurl=%s, signerurl=%s, " +
-					"localcoldstart=%b}",
+					"localcoldstart=%b, concurrent=%b, prewarm=%b, " +
+					"killswitchfile=%s}",
 					this.enabled,
 					this.token, this.connectionfactory, this.timeoutwindow,
 					this.installmethod,
 					this._pluginstate, this.serviceurl, this.signerurl,
-					this.localcoldstart)));
+					this.localcoldstart, this.concurrent, this.prewarm,
+					this.killswitchfile)));
 		
 		return rv;
 	}
@@ -433,6 +451,43 @@ public final class IOpipeConfiguration
 		return this.localcoldstart;
 	}
 	
+	/**
+	 * Returns {@code true} if the service is used by many executions which
+	 * run at the same time, in which case executions are strictly isolated
+	 * from each other.
+	 *
+	 * @return If executions run concurrently.
+	 * @since 2026/10/18
+	 */
+	public final boolean isConcurrent()
+	{
+		return this.concurrent;
+	}
+	
+	/**
+	 * Returns the file which switches the agent off while it exists, so that
+	 * it can be switched off and on without deploying the function again.
+	 *
+	 * @return The kill switch file or {@code null} if there is none.
+	 * @since 2026/10/18
+	 */
+	public final String getKillSwitchFile()
+	{
+		return this.killswitchfile;
+	}
+	
+	/**
+	 * Returns {@code true} if the agent should be prepared when the handler
+	 * is initialized, rather than during the first execution.
+	 *
+	 * @return If the agent should be prepared before the first execution.
+	 * @since 2026/10/18
+	 */
+	public final boolean isPrewarm()
+	{
+		return this.prewarm;
+	}
+	
 	/**
 	 * This returns a configuration which is initialized by values using the
 	 * default means of obtaining them via system properties and then
@@ -478,6 +533,23 @@ public final class IOpipeConfiguration
 				rv.setTimeOutWindow(150);
 			}
 			
+			// Concurrent executions
+			rv.setConcurrent(Boolean.valueOf(Objects.toString(
+				IOpipeConfiguration.getVariable("com.iopipe.concurrent",
+				"IOPIPE_CONCURRENT", "false"))));
+			
+			// Prewarming, provisioned concurrency initializes functions
+			// before they are invoked so it is always worth it there
+			rv.setPrewarm(Boolean.valueOf(Objects.toString(
+				IOpipeConfiguration.getVariable("com.iopipe.prewarm",
+				"IOPIPE_PREWARM", Boolean.toString(
+				"provisioned-concurrency".equals(
+				System.getenv("AWS_LAMBDA_INITIALIZATION_TYPE")))))));
+			
+			// Kill switch
+			rv.setKillSwitchFile(IOpipeConfiguration.getVariable(
+				"com.iopipe.killswitch", "IOPIPE_KILL_SWITCH", null));
+			
 			// Go through system properties to get the enabled state of
 			// plugins
 			for (int z = 0; z < 2; z++)
@@ -43,6 +43,15 @@ public class IOpipeConfigurationBuilder
 	/** Use local coldstarts per service. */
 	volatile boolean _localcoldstart;
 	
+	/** Run many executions at the same time in isolation. */
+	volatile boolean _concurrent;
+	
+	/** Prepare the agent before the first execution. */
+	volatile boolean _prewarm;
+	
+	/** The file which switches the agent off while it exists. */
+	volatile String _killswitchfile;
+	
 	/**
 	 * Initializes the builder with uninitialized values.
 	 *
@@ -74,6 +83,9 @@ public class IOpipeConfigurationBuilder
 		this._serviceurl = __c.getServiceUrl();
 		this._signerurl = __c.getSignerUrl();
 		this._localcoldstart = __c.getUseLocalColdStart();
+		this._concurrent = __c.isConcurrent();
+		this._prewarm = __c.isPrewarm();
+		this._killswitchfile = __c.getKillSwitchFile();
 	}
 	
 	/**
@@ -126,6 +138,22 @@ public class IOpipeConfigurationBuilder
 		this._installmethod = __im;
 	}
 	
+	/**
+	 * Sets the file which switches the agent off while it exists, functions
+	 * are then called directly without being measured or reported. The file
+	 * is checked at most every few seconds while the function is invoked, so
+	 * placing it on a file system which is shared by every instance of the
+	 * function allows the agent to be switched off and on without deploying
+	 * the function again.
+	 *
+	 * @param __f The kill switch file, {@code null} if there is none.
+	 * @since 2026/10/18
+	 */
+	public final void setKillSwitchFile(String __f)
+	{
+		this._killswitchfile = __f;
+	}
+	
 	/**
 	 * This sets the specific state of a plugin.
 	 *
@@ -230,5 +258,43 @@ public class IOpipeConfigurationBuilder
 	{
 		this._localcoldstart = __yes;
 	}
+	
+	/**
+	 * Set to {@code true} if the service is to be used by many executions
+	 * which run at the same time, such as within a server which handles
+	 * many requests at once.
+	 *
+	 * In this mode executions are strictly isolated from each other, the
+	 * current execution is only known to the thread which is running it
+	 * (and any tasks which are explicitly wrapped) and there is no fallback
+	 * to the last execution which was started.
+	 *
+	 * This defaults to {@code false}.
+	 *
+	 * @param __yes If {@code true} then executions run concurrently.
+	 * @since 2026/10/18
+	 */
+	public final void setConcurrent(boolean __yes)
+	{
+		this._concurrent = __yes;
+	}
+	
+	/**
+	 * Set to {@code true} if the agent should be prepared when the handler
+	 * is initialized, this includes building reports which are never sent
+	 * and creating the translator for the generic handler. Functions are
+	 * given more processor time while they are initialized, so this makes
+	 * the first execution run about as fast as the ones after it.
+	 *
+	 * This defaults to {@code false}.
+	 *
+	 * @param __yes If {@code true} then the agent is prepared before the
+	 * first execution.
+	 * @since 2026/10/18
+	 */
+	public final void setPrewarm(boolean __yes)
+	{
+		this._prewarm = __yes;
+	}
 }
 
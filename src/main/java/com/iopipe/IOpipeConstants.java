@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -29,6 +30,10 @@ public interface IOpipeConstants
 	public static final long LOAD_TIME_NANOS =
 		System.nanoTime();
 	
+	/** The number of classes which were loaded when the service was loaded. */
+	public static final long LOAD_CLASS_COUNT =
+		IOpipeConstants.loadedClassCount();
+	
 	/** The default region to connect to. */
 	public static final String DEFAULT_REGION =
 		"us-east-1";
@@ -111,6 +116,28 @@ public interface IOpipeConstants
 		}
 	}
 	
+	/**
+	 * Returns the total number of classes which have been loaded by the
+	 * virtual machine.
+	 *
+	 * @return The number of loaded classes, or {@code 0} if it is not known.
+	 * @since 2026/10/18
+	 */
+	public static long loadedClassCount()
+	{
+		try
+		{
+			return ManagementFactory.getClassLoadingMXBean().
+				getTotalLoadedClassCount();
+		}
+		
+		// Management may not be available in some environments
+		catch (LinkageError|RuntimeException e)
+		{
+			return 0;
+		}
+	}
+	
 	/**
 	 * Returns the default profiler URL.
 	 *
@@ -5,11 +5,16 @@ import com.iopipe.plugin.IOpipePluginExecution;
 import com.iopipe.plugin.NoSuchPluginException;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
@@ -300,5 +305,202 @@ public abstract class IOpipeExecution
 			return new __NoOpExecution__(!IOpipeService._THAWED.get());
 		return rv;
 	}
+	
+	/**
+	 * Runs the given task asynchronously in the common pool with the
+	 * execution of the current thread.
+	 *
+	 * @param __r The task to run.
+	 * @return The future for the task.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final CompletableFuture<Void> runAsync(Runnable __r)
+		throws NullPointerException
+	{
+		return CompletableFuture.runAsync(__Propagator__.__wrap(__r));
+	}
+	
+	/**
+	 * Runs the given task asynchronously in the given executor with the
+	 * execution of the current thread.
+	 *
+	 * @param __r The task to run.
+	 * @param __e The executor to run the task in.
+	 * @return The future for the task.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final CompletableFuture<Void> runAsync(Runnable __r,
+		Executor __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		return CompletableFuture.runAsync(__Propagator__.__wrap(__r), __e);
+	}
+	
+	/**
+	 * Supplies a value asynchronously in the common pool with the execution
+	 * of the current thread.
+	 *
+	 * @param <T> The type of value to supply.
+	 * @param __s The supplier of the value.
+	 * @return The future for the value.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final <T> CompletableFuture<T> supplyAsync(Supplier<T> __s)
+		throws NullPointerException
+	{
+		return CompletableFuture.<T>supplyAsync(
+			__Propagator__.<T>__wrap(__s));
+	}
+	
+	/**
+	 * Supplies a value asynchronously in the given executor with the
+	 * execution of the current thread.
+	 *
+	 * @param <T> The type of value to supply.
+	 * @param __s The supplier of the value.
+	 * @param __e The executor to run the supplier in.
+	 * @return The future for the value.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final <T> CompletableFuture<T> supplyAsync(Supplier<T> __s,
+		Executor __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		return CompletableFuture.<T>supplyAsync(
+			__Propagator__.<T>__wrap(__s), __e);
+	}
+	
+	/**
+	 * Wraps the given task so that when it is called in any thread it runs
+	 * with the execution of the current thread. This is needed for
+	 * concurrent services, since their executions are not inherited by
+	 * other threads, and for thread pools whose threads were created before
+	 * the execution started.
+	 *
+	 * This has a different name from {@link #wrap(Runnable)} and
+	 * {@link #wrapSupplier(Supplier)} so that lambdas are not ambiguous.
+	 *
+	 * @param <V> The return type.
+	 * @param __c The task to wrap.
+	 * @return The wrapped task, or {@code __c} if there is no current
+	 * execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final <V> Callable<V> wrapCallable(Callable<V> __c)
+		throws NullPointerException
+	{
+		return __Propagator__.<V>__wrap(__c);
+	}
+	
+	/**
+	 * Wraps the given executor so that any task which is executed in it runs
+	 * with the execution of the thread which submitted the task.
+	 *
+	 * @param __e The executor to wrap.
+	 * @return The wrapped executor.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final Executor wrap(Executor __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		if (__e instanceof __Propagator__.__Executor__)
+			return __e;
+		return new __Propagator__.__Executor__(__e);
+	}
+	
+	/**
+	 * Wraps the given executor service so that any task which is submitted
+	 * to it runs with the execution of the thread which submitted the task.
+	 *
+	 * @param __e The executor service to wrap.
+	 * @return The wrapped executor service.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final ExecutorService wrap(ExecutorService __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		if (__e instanceof __Propagator__.__ExecutorService__)
+			return __e;
+		return new __Propagator__.__ExecutorService__(__e);
+	}
+	
+	/**
+	 * Wraps the given task so that when it is run in any thread it runs
+	 * with the execution of the current thread.
+	 *
+	 * @param __r The task to wrap.
+	 * @return The wrapped task, or {@code __r} if there is no current
+	 * execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final Runnable wrap(Runnable __r)
+		throws NullPointerException
+	{
+		return __Propagator__.__wrap(__r);
+	}
+	
+	/**
+	 * Returns a task which first clears any execution the current thread
+	 * inherited from the thread which created it. This is meant for the
+	 * initial task of threads which outlive the execution which created
+	 * them, such as threads in pools, so that they do not keep it.
+	 *
+	 * @param __r The task to run.
+	 * @return The task which clears the execution before running.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final Runnable unbound(Runnable __r)
+		throws NullPointerException
+	{
+		if (__r == null)
+			throw new NullPointerException();
+		
+		return () ->
+			{
+				IOpipeService.__unbindThread();
+				__r.run();
+			};
+	}
+	
+	/**
+	 * Wraps the given supplier so that when it is used in any thread it runs
+	 * with the execution of the current thread.
+	 *
+	 * This has a different name from {@link #wrap(Runnable)} and
+	 * {@link #wrapCallable(Callable)} so that lambdas are not ambiguous.
+	 *
+	 * @param <T> The type of value to supply.
+	 * @param __s The supplier to wrap.
+	 * @return The wrapped supplier, or {@code __s} if there is no current
+	 * execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final <T> Supplier<T> wrapSupplier(Supplier<T> __s)
+		throws NullPointerException
+	{
+		return __Propagator__.<T>__wrap(__s);
+	}
 }
 
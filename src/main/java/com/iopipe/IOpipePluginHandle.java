@@ -0,0 +1,125 @@
+package com.iopipe;
+
+import com.iopipe.plugin.IOpipePluginExecution;
+
+/**
+ * This is a handle to the execution state of a single plugin for the current
+ * execution, it is intended to be stored in a static field by utility classes
+ * which are called very often (such as for logging and tracing).
+ *
+ * The slot of the plugin is cached for the plugins of the last service which
+ * it was looked up in, so obtaining the plugin is finding the execution of
+ * the current thread and reading its slot. Executions are never cached, so a
+ * handle does not keep an execution which has ended alive.
+ *
+ * @param <C> The type of plugin execution to obtain.
+ * @since 2026/10/18
+ */
+public final class IOpipePluginHandle<C extends IOpipePluginExecution>
+{
+	/** The class type of the execution state. */
+	protected final Class<C> executionclass;
+	
+	/** The slot of the plugin in the last plugins it was looked up in. */
+	private volatile __Slot__ _slot;
+	
+	/**
+	 * Initializes the handle.
+	 *
+	 * @param __cl The execution state class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private IOpipePluginHandle(Class<C> __cl)
+		throws NullPointerException
+	{
+		if (__cl == null)
+			throw new NullPointerException();
+		
+		this.executionclass = __cl;
+	}
+	
+	/**
+	 * Returns the plugin execution state for the current execution.
+	 *
+	 * @return The execution state of the plugin or {@code null} if there is
+	 * no current execution or the plugin is not enabled.
+	 * @since 2026/10/18
+	 */
+	public final C get()
+	{
+		// Only active executions have plugins
+		IOpipeExecution exec = IOpipeService.__execution();
+		if (!(exec instanceof __ActiveExecution__))
+			return null;
+		__ActiveExecution__ active = (__ActiveExecution__)exec;
+		
+		// The slot only needs to be looked up again if the execution is
+		// from another service
+		__Plugins__ plugins = active._plugins;
+		__Slot__ slot = this._slot;
+		if (slot == null || slot._plugins != plugins)
+			this._slot = (slot = new __Slot__(plugins,
+				plugins.__slot(this.executionclass)));
+		
+		int dx = slot._dx;
+		if (dx < 0)
+			return null;
+		
+		try
+		{
+			return this.executionclass.cast(active.__plugin(dx));
+		}
+		catch (ClassCastException e)
+		{
+			return null;
+		}
+	}
+	
+	/**
+	 * Creates a new handle for the given execution state class.
+	 *
+	 * @param <C> The type of plugin execution to obtain.
+	 * @param __cl The execution state class.
+	 * @return The handle for the given plugin.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static final <C extends IOpipePluginExecution> IOpipePluginHandle<C>
+		of(Class<C> __cl)
+		throws NullPointerException
+	{
+		if (__cl == null)
+			throw new NullPointerException();
+		
+		return new IOpipePluginHandle<C>(__cl);
+	}
+	
+	/**
+	 * The slot of a plugin within a set of plugins.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Slot__
+	{
+		/** The plugins the slot is for. */
+		final __Plugins__ _plugins;
+		
+		/** The slot, negative if there is no such plugin. */
+		final int _dx;
+		
+		/**
+		 * Initializes the slot.
+		 *
+		 * @param __p The plugins the slot is for.
+		 * @param __dx The slot.
+		 * @since 2026/10/18
+		 */
+		__Slot__(__Plugins__ __p, int __dx)
+		{
+			this._plugins = __p;
+			this._dx = __dx;
+		}
+	}
+}
+
@@ -7,7 +7,6 @@ import com.iopipe.http.NullConnection;
 import com.iopipe.http.RemoteBody;
 import com.iopipe.http.RemoteConnection;
 import com.iopipe.http.RemoteConnectionFactory;
-import com.iopipe.http.RemoteException;
 import com.iopipe.http.RemoteRequest;
 import com.iopipe.http.RemoteResult;
 import com.iopipe.http.RequestType;
@@ -15,7 +14,6 @@ import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
 import com.iopipe.plugin.IOpipePluginPreExecutable;
-import com.iopipe.plugin.NoSuchPluginException;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.IOException;
@@ -24,7 +22,14 @@ import java.io.PrintStream;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -63,16 +68,42 @@ public final class IOpipeService
 	
 	/** The process stat when the process started. */
 	static final SystemMeasurement.Times _STAT_START =
-		SystemMeasurement.measureTimes(SystemMeasurement.SELF_PROCESS);
+		SystemMeasurement.Times.__measure(SystemMeasurement.SELF_PROCESS);
 	
 	/** Stores the execution for the current thread, inherited by child threads. */
 	private static final ThreadLocal<Reference<IOpipeExecution>> _EXECUTIONS =
 		new InheritableThreadLocal<>();
 	
-	/** Reference to the last execution that has occurred, just in case. */
+	/**
+	 * Stores the execution for the current thread when executions are
+	 * concurrent, this is not inherited by child threads.
+	 */
+	private static final ThreadLocal<Reference<IOpipeExecution>>
+		_ISOLATED_EXECUTIONS =
+		new ThreadLocal<>();
+	
+	/**
+	 * Reference to the last execution that has occurred, just in case, this
+	 * is never set for concurrent executions.
+	 */
 	private static final AtomicReference<Reference<IOpipeExecution>> _LAST =
 		new AtomicReference<>();
 	
+	/**
+	 * Has any concurrent service been created? Concurrent executions are only
+	 * bound to {@link #_ISOLATED_EXECUTIONS}, so it is not checked until
+	 * there are any.
+	 */
+	private static volatile boolean _ANY_CONCURRENT;
+	
+	/**
+	 * The number of reports which are built before a checkpoint or when
+	 * prewarming, so that the report builder is already compiled when the
+	 * first execution runs.
+	 */
+	private static final int _PRIME_ITERATIONS =
+		200;
+	
 	/** If an instance was created then this will be that one instance. */
 	private static volatile IOpipeService _INSTANCE;
 	
@@ -82,6 +113,9 @@ public final class IOpipeService
 	/** Is the service enabled and working? */
 	protected final boolean enabled;
 	
+	/** Are executions concurrent and isolated from each other? */
+	final boolean _concurrent;
+	
 	/** The coldstart flag indicator to use. */
 	private final AtomicBoolean _coldstartflag;
 	
@@ -94,6 +128,16 @@ public final class IOpipeService
 	/** Plugin state. */
 	final __Plugins__ _plugins;
 	
+	/** Is the next cold start the first after a restore? */
+	private final AtomicBoolean _restored =
+		new AtomicBoolean();
+	
+	/** The checkpoint registration, {@code null} if not supported. */
+	private final __Checkpoint__ _checkpoint;
+	
+	/** The kill switch, {@code null} if there is none. */
+	private final __KillSwitch__ _killswitch;
+	
 	/**
 	 * Initializes the service using the default configuration.
 	 *
@@ -117,47 +161,80 @@ public final class IOpipeService
 		if (__config == null)
 			throw new NullPointerException();
 		
-		// Try to open a connection to the IOpipe service, if that fails
-		// then fall back to a disabled connection
-		RemoteConnection connection = null;
-		boolean enabled = false;
-		if (__config.isEnabled())
-			try
-			{
-				connection = __config.getRemoteConnectionFactory().connect(
-					__config.getServiceUrl(), __config.getProjectToken());
-				enabled = true;
-			}
-			
-			// Cannot report error to IOpipe so print to the console
-			catch (RemoteException e)
-			{
-				Logger.error(e, "Could not connect to the remote server.");
-			}
+		ColdStartTimeline.Phase phase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_SERVICE);
 		
-		// If the connection failed, use one which does nothing
-		if (!enabled || connection == null)
-			connection = new NullConnection();
+		// The connection to the IOpipe service is opened when it is first
+		// used, if that fails then it falls back to a disabled connection
+		ColdStartTimeline.Phase subphase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_SERVICE_CONNECTION);
+		boolean enabled = __config.isEnabled();
+		RemoteConnection connection = (enabled ?
+			new __LazyConnection__(__config.getRemoteConnectionFactory(),
+				__config.getServiceUrl(), __config.getProjectToken()) :
+			new NullConnection());
 		
 		// This class manages sending all our requests
 		__RequestSender__ rsender;
 		this._rsender = (rsender = new __RequestSender__(connection));
+		subphase.end();
 		
 		// Setup timeout tracker
+		subphase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_SERVICE_TIMEOUT);
 		this._timeout = new __TimeOutTracker__(rsender,
 			__config.getTimeOutWindow());
+		subphase.end();
 		
 		// Store config and such
 		this.enabled = enabled;
 		this.config = __config;
 		
+		// If executions are concurrent then there must never be a fallback
+		// to another execution, this only applies to this service
+		boolean concurrent = __config.isConcurrent();
+		this._concurrent = concurrent;
+		if (concurrent)
+			_ANY_CONCURRENT = true;
+		
 		// Detect all available plugins
-		this._plugins = new __Plugins__(enabled, __config);
+		subphase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_SERVICE_PLUGINS);
+		__Plugins__ plugins = new __Plugins__(enabled, __config);
+		this._plugins = plugins;
 		
 		// Cold starts can either use the default global instance or they
 		// can use a per-instance indicator. This is mostly used for testing.
 		this._coldstartflag = (__config.getUseLocalColdStart() ?
 			new AtomicBoolean() : IOpipeService._THAWED);
+		
+		// Initialize container state for plugins and make sure they are
+		// cleaned up when the container goes away
+		if (plugins._enabled.length > 0)
+		{
+			plugins.__init(this);
+			
+			try
+			{
+				Runtime.getRuntime().addShutdownHook(new Thread(
+					__Shared__._SERVICE_THREAD_GROUP, plugins::__shutdown,
+					"IOpipe-PluginShutdown"));
+			}
+			catch (IllegalStateException|SecurityException e)
+			{
+				Logger.debug(e, "Could not add plugin shutdown hook.");
+			}
+		}
+		subphase.end();
+		
+		// Snapshots of the process need to be prepared for and the state
+		// of the agent is stale after a restore
+		this._checkpoint = (enabled ? __Checkpoint__.__register(this) : null);
+		
+		// The agent can be switched off without deploying again
+		this._killswitch = (enabled ? __KillSwitch__.__of(__config) : null);
+		
+		phase.end();
 	}
 	
 	/**
@@ -182,6 +259,23 @@ public final class IOpipeService
 		return this.enabled;
 	}
 	
+	/**
+	 * Are executions currently measured and reported? This is {@code false}
+	 * if the service is disabled or if it was switched off by the kill
+	 * switch, in which case functions are called directly.
+	 *
+	 * @return If executions are measured and reported.
+	 * @since 2026/10/18
+	 */
+	public final boolean isActive()
+	{
+		if (!this.enabled)
+			return false;
+		
+		__KillSwitch__ killswitch = this._killswitch;
+		return (killswitch == null || !killswitch.__isOff());
+	}
+	
 	/**
 	 * Runs the specified function and generates a report.
 	 *
@@ -204,6 +298,14 @@ public final class IOpipeService
 		if (__func == null)
 			throw new NullPointerException();
 		
+		// Call the function directly if executions are not measured
+		if (!this.isActive())
+		{
+			this.__coldStart();
+			return __func.handleRequest(__input, (__context != null ?
+				__context : new __PseudoContext__(__input)));
+		}
+		
 		// Use the context derived from the execution in the event that it is
 		// changed
 		return this.<O>run(__context, (__exec) -> __func.handleRequest(
@@ -231,6 +333,15 @@ public final class IOpipeService
 		if (__func == null)
 			throw new NullPointerException();
 		
+		// Call the function directly if executions are not measured
+		if (!this.isActive())
+		{
+			this.__coldStart();
+			__func.handleRequest(__in, __out, (__context != null ?
+				__context : new __PseudoContext__(__in)));
+			return;
+		}
+		
 		// Use the context derived from the execution in the event that it is
 		// changed
 		try
@@ -306,26 +417,48 @@ public final class IOpipeService
 			__context = new __PseudoContext__(__input);
 		
 		// If an execution is already running, just ignore wrapping and
-		// generating events and just call it directly
+		// generating events and just call it directly. Concurrent services
+		// only use the execution bound to this thread, since the last
+		// execution may be running in another thread
 		{
-			IOpipeExecution exec = IOpipeService.__execution();
+			IOpipeExecution exec = (this._concurrent ?
+				IOpipeService.__boundExecution() :
+				IOpipeService.__execution());
 			if (exec != null)
 				return __func.apply(exec);
 		}
 		
+		// If executions are not measured then just call the function, the
+		// execution it is given does nothing but it is still bound to the
+		// thread so that the function sees the same execution and context
+		if (!this.isActive())
+		{
+			IOpipeExecution noop = new __NoOpExecution__(this.__coldStart(),
+				this, __context, __input);
+			
+			boolean concurrent = this._concurrent;
+			Reference<IOpipeExecution> ref = new WeakReference<>(noop),
+				prev = IOpipeService.__enter(ref, concurrent);
+			try
+			{
+				return __func.apply(noop);
+			}
+			finally
+			{
+				IOpipeService.__exit(ref, prev, concurrent);
+			}
+		}
+		
 		// Earliest start time for method entry
 		long nowtime = System.currentTimeMillis(),
 			nowmono = System.nanoTime();
 		
-		// Is this enabled?
-		boolean enabled = config.isEnabled();
-				
 		// Is this coldstarted?
-		boolean coldstarted = !this._coldstartflag.getAndSet(true);
+		boolean coldstarted = this.__coldStart();
 		
 		// Setup execution information
+		IOpipeConfiguration config = this.config;
 		__Plugins__ plugins = this._plugins;
-		__Plugins__.__Info__[] pinfos = plugins.__info();
 		__ActiveExecution__ exec = new __ActiveExecution__(this, config,
 			__context, nowtime, __input, nowmono, coldstarted, plugins);
 		
@@ -333,57 +466,69 @@ public final class IOpipeService
 		// it is no longer referred to or is in the stack of any method.
 		// Otherwise execution references will just sit around in memory and
 		// might not get freed ever.
-		ThreadLocal<Reference<IOpipeExecution>> executions = _EXECUTIONS;
-		Reference<IOpipeExecution> refexec = new WeakReference<>(exec);
+		// Concurrent executions are only bound to this thread.
+		boolean concurrent = this._concurrent;
+		ThreadLocal<Reference<IOpipeExecution>> executions = (concurrent ?
+			_ISOLATED_EXECUTIONS : _EXECUTIONS);
+		Reference<IOpipeExecution> refexec = exec._selfref;
 		executions.set(refexec);
 		
 		// Just in case there was no way to get the current execution in the
-		// event that the thread local could not be obtained
+		// event that the thread local could not be obtained, this is not
+		// done for concurrent executions since it would leak into others
 		AtomicReference<Reference<IOpipeExecution>> lastexec = _LAST;
-		lastexec.compareAndSet(null, refexec);
+		if (!concurrent)
+			lastexec.compareAndSet(null, refexec);
 		
-		// If disabled, just run the function
-		IOpipeConfiguration config = this.config;
-		if (!enabled)
+		// The handler thread is measured from here until the report is about
+		// to be built, which includes plugins
+		__ThreadUsage__.__Mark__ usagemark = exec._usage.__begin();
+		
+		// Measure the resources used by the process so that the resources used
+		// by only this invocation can be reported
+		if (__ActiveExecution__._IS_LINUX)
 		{
-			// Disabled lambdas could still rely on measurements, despite them
-			// not doing anything useful at all
-			try
-			{
-				return __func.apply(exec);
-			}
-			finally
-			{
-				// Clear the last execution because it is no longer occuring
-				executions.set(null);
-				lastexec.compareAndSet(refexec, null);
-			}
+			exec._resstart = __Resources__.__snapshot(null);
+			exec._children = __ChildTracker__.TRACKER.__begin();
 		}
 		
 		// Keep track of this execution and make sure that timeouts trigger
 		// if they occur, the atomic is so that only a single event is sent
 		AtomicBoolean execsent = new AtomicBoolean();
-		this._timeout.__track(__context, exec, execsent,
-			Thread.currentThread());
+		__TimeOutTracker__ timeout = this._timeout;
+		__TimeOutTracker__.__Track__ track = timeout.__track(__context, exec,
+			execsent, Thread.currentThread());
 		
-		// Add auto-label for coldstart
+		// Add auto-label for coldstart, otherwise the container was thawed
 		if (coldstarted)
+		{
 			exec.label("@iopipe/coldstart");
+			if (this._restored.getAndSet(false))
+				exec.label("@iopipe/restored");
+			
+			// Anything which is not needed until the report is sent is
+			// initialized while the function runs
+			this.__warmUp();
+		}
+		else
+			plugins.__thaw();
 		
-		// Run pre-execution plugins
-		for (__Plugins__.__Info__ i : pinfos)
-			if (i.isEnabled())
-				try
-				{
-					IOpipePluginPreExecutable l = i.getPreExecutable();
-					if (l != null)
-						l.preExecute(exec.plugin(i.executionClass()));
-				}
-				catch (RuntimeException|NoSuchPluginException e)
-				{
-					Logger.error(e, "Could not run pre-executable plugin {}.",
-						i);
-				}
+		// Run pre-execution plugins, these were determined when the service
+		// was initialized so no lookup needs to be done
+		IOpipePluginPreExecutable[] preexecs = plugins._preexecs;
+		int[] preslots = plugins._preslots;
+		for (int i = 0, n = preexecs.length; i < n; i++)
+			try
+			{
+				IOpipePluginExecution pe = exec.__plugin(preslots[i]);
+				if (pe != null)
+					preexecs[i].preExecute(pe);
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not run pre-executable plugin {}.",
+					plugins._infos[preslots[i]]);
+			}
 		
 		// Run the function
 		R value = null;
@@ -404,30 +549,69 @@ public final class IOpipeService
 			exec.label("@iopipe/error");
 		}
 		
-		// Run post-execution plugins
-		for (__Plugins__.__Info__ i : pinfos)
-			if (i.isEnabled())
-				try
-				{
-					IOpipePluginPostExecutable l = i.getPostExecutable();
-					if (l != null)
-						l.postExecute(exec.plugin(i.executionClass()));
-				}
-				catch (RuntimeException|NoSuchPluginException e)
-				{
-					Logger.error(e, "Could not run post-executable plugin {}.",
-						i);
-				}
+		// Run post-execution plugins, plugins which are independent are run
+		// on the agent executor and are waited on before the report is built
+		IOpipePluginPostExecutable[] postexecs = plugins._postexecs;
+		int[] postslots = plugins._postslots;
+		Executor executor = __Shared__._EXECUTOR;
+		CompletableFuture<?>[] pending = null;
+		int numpending = 0;
+		for (int i = 0, n = postexecs.length; i < n; i++)
+			try
+			{
+				IOpipePluginExecution pe = exec.__plugin(postslots[i]);
+				if (pe == null)
+					continue;
+				
+				CompletionStage<?> stage = postexecs[i].postExecuteAsync(pe,
+					executor);
+				if (stage == null)
+					continue;
+				
+				// Log any failures when they complete
+				__Plugins__.__Info__ info = plugins._infos[postslots[i]];
+				CompletableFuture<Object> done = new CompletableFuture<>();
+				stage.whenComplete((__v, __t) ->
+					{
+						if (__t != null)
+							Logger.error(__t, "Could not run post-executable " +
+								"plugin {}.", info);
+						done.complete(null);
+					});
+				
+				if (pending == null)
+					pending = new CompletableFuture<?>[n];
+				pending[numpending++] = done;
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not run post-executable plugin {}.",
+					plugins._infos[postslots[i]]);
+			}
+		
+		// Wait for any plugins to finish
+		if (numpending > 0)
+			this.__awaitPostExecutes(__context, (numpending == pending.length ?
+				pending : Arrays.copyOf(pending, numpending)));
+		
+		exec._usage.__end(usagemark);
 		
-		// Only send the request if the watchdog did not
+		// Only send the request if the watchdog did not, it no longer needs
+		// to watch this execution
+		timeout.__cancel(track);
 		if (execsent.compareAndSet(false, true))
 			if (exec instanceof __ActiveExecution__)
 				this._rsender.__send(((__ActiveExecution__)exec).__buildRequest());
 		
+		// Processes no longer need to be tracked, even if the report could
+		// not be built
+		__ChildTracker__.TRACKER.__end(exec._children);
+		
 		// Clear the last execution that is occuring, but only if ours was
 		// still associated with it
 		executions.set(null);
-		lastexec.compareAndSet(refexec, null);
+		if (!concurrent)
+			lastexec.compareAndSet(refexec, null);
 		
 		// Throw the called exception as if the wrapper did not have any
 		// trouble
@@ -439,6 +623,203 @@ public final class IOpipeService
 		return value;
 	}
 	
+	/**
+	 * Resets the state of the agent after the process was restored from a
+	 * checkpoint, the next execution is then a cold start.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __afterRestore()
+	{
+		// The host and process are not the ones the checkpoint was taken on
+		SystemMeasurement.__restored();
+		__Shared__.__restored();
+		
+		// Connections from before the checkpoint are no longer open
+		this._rsender.connection.reset();
+		this._timeout.__restored();
+		
+		this._restored.set(true);
+		this._coldstartflag.set(false);
+	}
+	
+	/**
+	 * Prepares the agent before a checkpoint of the process is taken, so that
+	 * everything needed to report is already initialized when it is
+	 * restored.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __beforeCheckpoint()
+	{
+		RemoteConnection connection = this._rsender.connection;
+		if (connection instanceof __LazyConnection__)
+			((__LazyConnection__)connection).__open();
+		
+		this.__prime(_PRIME_ITERATIONS);
+		
+		// Connections and files cannot be kept open in the checkpoint
+		connection.reset();
+		this._plugins.__beforeCheckpoint();
+		__ProcReader__.__closeAll();
+	}
+	
+	/**
+	 * Prepares everything which is needed to run executions and send their
+	 * reports, without sending anything, so that the first execution runs
+	 * about as fast as the ones after it. This is best done while the
+	 * function is being initialized.
+	 *
+	 * This does nothing if the service is disabled.
+	 *
+	 * @since 2026/10/18
+	 */
+	public final void prewarm()
+	{
+		if (!this.enabled)
+			return;
+		
+		ColdStartTimeline.Phase phase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_PREWARM);
+		
+		// The client is created but no connection is made
+		RemoteConnection connection = this._rsender.connection;
+		if (connection instanceof __LazyConnection__)
+			((__LazyConnection__)connection).__open();
+		
+		__Shared__.__json();
+		__Shared__.__processId();
+		SystemMeasurement.measure();
+		this.__prime(_PRIME_ITERATIONS);
+		
+		phase.end();
+	}
+	
+	/**
+	 * Builds reports for executions which never happened, without sending
+	 * them, so that everything needed to build them is loaded and compiled.
+	 * Enabled plugins which are {@link IOpipePlugin#isPrewarmable()} are
+	 * initialized for each execution, but they do not run.
+	 *
+	 * @param __n The number of reports to build.
+	 * @since 2026/10/18
+	 */
+	final void __prime(int __n)
+	{
+		IOpipeConfiguration config = this.config;
+		__Plugins__ plugins = this._plugins;
+		int[] prewarmslots = plugins._prewarmslots;
+		Context context = new __PseudoContext__(null);
+		
+		for (int i = 0; i < __n; i++)
+			try
+			{
+				__ActiveExecution__ exec = new __ActiveExecution__(this,
+					config, context, System.currentTimeMillis(), null,
+					System.nanoTime(), false, plugins);
+				exec._dryrun = true;
+				
+				for (int p : prewarmslots)
+					exec.__plugin(p);
+				
+				exec.__buildRequest();
+			}
+			catch (RuntimeException e)
+			{
+				Logger.debug(e, "Could not prime the report builder.");
+				return;
+			}
+	}
+	
+	/**
+	 * Checks if this is a cold start, the flag is read first so that it is
+	 * not written to on every execution.
+	 *
+	 * @return If this is a cold start.
+	 * @since 2026/10/18
+	 */
+	private final boolean __coldStart()
+	{
+		AtomicBoolean coldstartflag = this._coldstartflag;
+		return (!coldstartflag.get() && !coldstartflag.getAndSet(true));
+	}
+	
+	/**
+	 * Initializes everything which is needed to build and send the report
+	 * in the background.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __warmUp()
+	{
+		RemoteConnection connection = this._rsender.connection;
+		try
+		{
+			__Shared__._EXECUTOR.execute(() ->
+				{
+					if (connection instanceof __LazyConnection__)
+						((__LazyConnection__)connection).__open();
+					
+					// This loads the JSON provider and reads the host
+					// identifiers
+					__Shared__.__json();
+					__Shared__.__processId();
+					SystemMeasurement.measure();
+				});
+		}
+		catch (RuntimeException e)
+		{
+			Logger.debug(e, "Could not initialize in the background.");
+		}
+	}
+	
+	/**
+	 * Waits for the given post-executions to complete, but only until the
+	 * point where the timeout window would be reached.
+	 *
+	 * @param __context The context of the execution.
+	 * @param __pending The pending post-executions.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final void __awaitPostExecutes(Context __context,
+		CompletableFuture<?>[] __pending)
+		throws NullPointerException
+	{
+		if (__context == null || __pending == null)
+			throw new NullPointerException();
+		
+		CompletableFuture<Void> all = CompletableFuture.allOf(__pending);
+		
+		try
+		{
+			// The mock context uses a very long time which means that there
+			// is no limit
+			int rem = __context.getRemainingTimeInMillis();
+			if (rem == Integer.MAX_VALUE)
+				all.get();
+			
+			// Otherwise wait until the timeout window, plugins that do not
+			// finish by then just are not reported
+			else
+				all.get(Math.max(0, rem - this.config.getTimeOutWindow()),
+					TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e)
+		{
+			Logger.warn("Post-executable plugins did not finish in time.");
+		}
+		catch (InterruptedException e)
+		{
+			// Keep the interrupt for the caller
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e)
+		{
+			// Failures are handled by each plugin
+		}
+	}
+	
 	/**
 	 * Returns a single instance of the IOpipe service.
 	 *
@@ -457,6 +838,83 @@ public final class IOpipeService
 		return rv;
 	}
 	
+	/**
+	 * Prewarms the single instance of the service if the default
+	 * configuration has prewarming enabled, handlers call this when they
+	 * are initialized. The service is not initialized if prewarming is not
+	 * enabled.
+	 *
+	 * @return The prewarmed service, or {@code null} if prewarming is not
+	 * enabled.
+	 * @since 2026/10/18
+	 */
+	public static final IOpipeService prewarmInstance()
+	{
+		if (!IOpipeConfiguration.DEFAULT_CONFIG.isPrewarm())
+			return null;
+		
+		IOpipeService rv = IOpipeService.instance();
+		rv.prewarm();
+		return rv;
+	}
+	
+	/**
+	 * Clears the execution which is bound to the current thread, this is used
+	 * by agent threads which would otherwise inherit the execution of the
+	 * thread which created them.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final void __unbindThread()
+	{
+		_EXECUTIONS.remove();
+	}
+	
+	/**
+	 * Binds the given execution to the current thread while a task which was
+	 * propagated to it runs.
+	 *
+	 * @param __ref The execution to bind.
+	 * @param __iso Is the execution isolated?
+	 * @return The binding which was previously set.
+	 * @since 2026/10/18
+	 */
+	static final Reference<IOpipeExecution> __enter(
+		Reference<IOpipeExecution> __ref, boolean __iso)
+	{
+		ThreadLocal<Reference<IOpipeExecution>> executions = (__iso ?
+			_ISOLATED_EXECUTIONS : _EXECUTIONS);
+		
+		// Tasks run in the same thread do not need to change anything
+		Reference<IOpipeExecution> rv = executions.get();
+		if (rv != __ref)
+			executions.set(__ref);
+		
+		return rv;
+	}
+	
+	/**
+	 * Restores the binding which was set before a propagated task ran.
+	 *
+	 * @param __ref The execution which was bound.
+	 * @param __prev The binding which was previously set.
+	 * @param __iso Is the execution isolated?
+	 * @since 2026/10/18
+	 */
+	static final void __exit(Reference<IOpipeExecution> __ref,
+		Reference<IOpipeExecution> __prev, boolean __iso)
+	{
+		if (__prev == __ref)
+			return;
+		
+		ThreadLocal<Reference<IOpipeExecution>> executions = (__iso ?
+			_ISOLATED_EXECUTIONS : _EXECUTIONS);
+		if (__prev == null)
+			executions.remove();
+		else
+			executions.set(__prev);
+	}
+	
 	/**
 	 * Returns the current execution of the current thread.
 	 *
@@ -465,21 +923,38 @@ public final class IOpipeService
 	 */
 	static final IOpipeExecution __execution()
 	{
-		Reference<IOpipeExecution> ref = _EXECUTIONS.get();
+		IOpipeExecution rv = IOpipeService.__boundExecution();
+		if (rv != null)
+			return rv;
+		
+		// If there is no thread local then use the last instance, this is
+		// never a concurrent execution so those cannot leak into each other
+		Reference<IOpipeExecution> ref = _LAST.get();
+		return (ref == null ? null : ref.get());
+	}
+	
+	/**
+	 * Returns the execution which is bound to the current thread, unlike
+	 * {@link #__execution()} this never falls back to the last execution.
+	 *
+	 * @return The bound execution or {@code null} if there is none.
+	 * @since 2026/10/18
+	 */
+	static final IOpipeExecution __boundExecution()
+	{
+		Reference<IOpipeExecution> ref;
 		IOpipeExecution rv;
 		
-		// If there is no thread local then use the last instance
-		if (ref == null || null == (rv = ref.get()))
+		// Concurrent executions are only bound to their own thread
+		if (_ANY_CONCURRENT)
 		{
-			ref = _LAST.get();
-			
-			// No last execution exists either
-			if (ref == null || null == (rv = ref.get()))
-				return null;
+			ref = _ISOLATED_EXECUTIONS.get();
+			if (ref != null && null != (rv = ref.get()))
+				return rv;
 		}
 		
-		// There was a thread local or last execution
-		return rv;
+		ref = _EXECUTIONS.get();
+		return (ref == null ? null : ref.get());
 	}
 }
 
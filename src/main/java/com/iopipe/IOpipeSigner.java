@@ -206,7 +206,8 @@ public final class IOpipeSigner
 			
 			// Build request to remote end
 			StringWriter out = new StringWriter();
-			try (JsonGenerator gen = Json.createGenerator(out))
+			try (JsonGenerator gen = __Shared__.__json().
+				createGenerator(out))
 			{
 				gen.writeStartObject();
 				
@@ -16,6 +16,17 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 public abstract class SimpleRequestHandlerWrapper<I, O>
 	implements RequestHandler<I, O>
 {
+	/**
+	 * Initializes the wrapper, the service is prewarmed if that is
+	 * enabled.
+	 *
+	 * @since 2026/10/18
+	 */
+	public SimpleRequestHandlerWrapper()
+	{
+		IOpipeService.prewarmInstance();
+	}
+	
 	/**
 	 * This method is implemented by sub-classes and is used as the actual
 	 * entry point for lambdas.
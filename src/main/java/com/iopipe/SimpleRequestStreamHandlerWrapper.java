@@ -17,6 +17,17 @@ import java.io.OutputStream;
 public abstract class SimpleRequestStreamHandlerWrapper
 	implements RequestStreamHandler
 {
+	/**
+	 * Initializes the wrapper, the service is prewarmed if that is
+	 * enabled.
+	 *
+	 * @since 2026/10/18
+	 */
+	public SimpleRequestStreamHandlerWrapper()
+	{
+		IOpipeService.prewarmInstance();
+	}
+	
 	/**
 	 * This method is implemented by sub-classes and is used as the actual
 	 * entry point for lambdas.
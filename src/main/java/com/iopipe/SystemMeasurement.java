@@ -12,9 +12,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class reads and provides a snapshot of all the system information which
@@ -28,10 +28,18 @@ public final class SystemMeasurement
 	public static final int SELF_PROCESS =
 		Integer.MIN_VALUE;
 	
-	/** The boot ID. */
+	/**
+	 * The boot ID when this class was loaded, this is not changed if the
+	 * process is restored from a checkpoint so {@link #bootId()} should be
+	 * used instead.
+	 */
 	public static final String BOOTID;
 	
-	/** The hostname. */
+	/**
+	 * The hostname when this class was loaded, this is not changed if the
+	 * process is restored from a checkpoint so {@link #hostname()} should be
+	 * used instead.
+	 */
 	public static final String HOSTNAME;
 	
 	/** Memory information. */
@@ -49,6 +57,44 @@ public final class SystemMeasurement
 	/** Temporary path disk usage. */
 	public final Disk tempdir;
 	
+	/** The current boot ID. */
+	private static volatile String _bootid;
+	
+	/** The current hostname. */
+	private static volatile String _hostname;
+	
+	/** File stores which have been looked up. */
+	private static final ConcurrentMap<Path, FileStore> _STORES =
+		new ConcurrentHashMap<>();
+	
+	/** Key for total memory. */
+	private static final byte[] _KEY_MEMTOTAL =
+		__ProcReader__.__key("MemTotal:");
+	
+	/** Key for free memory. */
+	private static final byte[] _KEY_MEMFREE =
+		__ProcReader__.__key("MemFree:");
+	
+	/** Key for the process ID. */
+	private static final byte[] _KEY_PID =
+		__ProcReader__.__key("Pid:");
+	
+	/** Key for the file descriptor table size. */
+	private static final byte[] _KEY_FDSIZE =
+		__ProcReader__.__key("FDSize:");
+	
+	/** Key for the number of threads. */
+	private static final byte[] _KEY_THREADS =
+		__ProcReader__.__key("Threads:");
+	
+	/** Key for the resident set size. */
+	private static final byte[] _KEY_VMRSS =
+		__ProcReader__.__key("VmRSS:");
+	
+	/** Key for CPUs. */
+	private static final byte[] _KEY_CPU =
+		__ProcReader__.__key("cpu");
+	
 	/**
 	 * This caches information which will always be the same regardless.
 	 *
@@ -59,6 +105,9 @@ public final class SystemMeasurement
 		HOSTNAME = __readFirstLine(Paths.get("/etc/hostname"), "unknown");
 		BOOTID = __readFirstLine(
 			Paths.get("/proc/sys/kernel/random/boot_id"), "unknown");
+		
+		_hostname = HOSTNAME;
+		_bootid = BOOTID;
 	}
 	
 	/**
@@ -84,6 +133,28 @@ public final class SystemMeasurement
 			__tempdir);
 	}
 	
+	/**
+	 * Returns the boot ID of the host the process is running on.
+	 *
+	 * @return The boot ID.
+	 * @since 2026/10/18
+	 */
+	public static String bootId()
+	{
+		return _bootid;
+	}
+	
+	/**
+	 * Returns the hostname of the host the process is running on.
+	 *
+	 * @return The hostname.
+	 * @since 2026/10/18
+	 */
+	public static String hostname()
+	{
+		return _hostname;
+	}
+	
 	/**
 	 * Performs all measurements.
 	 *
@@ -113,7 +184,14 @@ public final class SystemMeasurement
 		
 		try
 		{
-			FileStore store = Files.getFileStore(__p);
+			// Looking up the store is costly, so the store is cached
+			ConcurrentMap<Path, FileStore> stores = _STORES;
+			FileStore store = stores.get(__p);
+			if (store == null)
+			{
+				store = Files.getFileStore(__p);
+				stores.putIfAbsent(__p, store);
+			}
 			
 			// Usable space is the amount of space that can be used by the virtual
 			// machine, which may include quotas and any other kind of limit
@@ -138,27 +216,28 @@ public final class SystemMeasurement
 	 */
 	public static List<Cpu> measureCPUs()
 	{
-		// Obtain CPU information
+		// Obtain CPU information, the line for all CPUs is skipped
 		List<Cpu> cpus = new ArrayList<>(
 			Runtime.getRuntime().availableProcessors());
-		Map<String, String> kernelstat = __readMap(Paths.get("/proc/stat"));
-		for (int i = 0; i >= 0; i++)
-		{
-			String val = kernelstat.get("cpu" + i);
-			if (val != null)
+		__ProcReader__ pr = __ProcReader__.__reader();
+		if (pr.__load("/proc/stat", true))
+			while (pr.__seekLine(_KEY_CPU))
 			{
-				List<String> fields = __readValues(val);
-				int user = __readInt(fields, 0),
-					nice = __readInt(fields, 1),
-					sys = __readInt(fields, 2),
-					idle = __readInt(fields, 3),
-					irq = __readInt(fields, 5);
+				int c = pr.__byteAt(pr.__at());
+				if (c < '0' || c > '9')
+					continue;
+				
+				// The CPU number is not needed, they are in order
+				pr.__skipFields(1);
+				int user = __clamp(pr.__long()),
+					nice = __clamp(pr.__long()),
+					sys = __clamp(pr.__long()),
+					idle = __clamp(pr.__long());
+				pr.__skipFields(1);
+				int irq = __clamp(pr.__long());
 				
 				cpus.add(new Cpu(user, nice, sys, idle, irq));
 			}
-			else
-				break;
-		}
 		
 		return cpus;
 	}
@@ -174,43 +253,16 @@ public final class SystemMeasurement
 		long mt = 0,
 			mf = 0;
 		
-		// Read in fields
-		int bits = 0;
-		try (BufferedReader br = new BufferedReader(new InputStreamReader(
-			Files.newInputStream(Paths.get("/proc/meminfo"),
-			StandardOpenOption.READ))))
-		{
-			// While these are not read
-			while (bits != 0b11)
-			{
-				String ln = br.readLine();
-				if (ln == null)
-					break;
-				
-				// Parse values
-				try
-				{
-					// Total memory
-					if ((bits & 0b01) == 0 && ln.startsWith("MemTotal:"))
-					{
-						mt = __readMemValue(ln.substring(9));
-						bits |= 0b01;
-					}
-					
-					// Free memory
-					else if ((bits & 0b10) == 0 && ln.startsWith("MemFree:"))
-					{
-						mf = __readMemValue(ln.substring(8));
-						bits |= 0b10;
-					}
-				}
-				catch (NumberFormatException e)
-				{
-				}
-			}
-		}
-		catch (IOException e)
+		// Values are in KiB
+		__ProcReader__ pr = __ProcReader__.__reader();
+		if (pr.__load("/proc/meminfo", true))
 		{
+			if (pr.__seekLine(_KEY_MEMTOTAL))
+				mt = pr.__long() * 1024;
+			
+			pr.__at(0);
+			if (pr.__seekLine(_KEY_MEMFREE))
+				mf = pr.__long() * 1024;
 		}
 		
 		return new Memory(mt, mf);
@@ -231,58 +283,27 @@ public final class SystemMeasurement
 			threads = 0,
 			vmrss = 0;
 		
-		// Read in fields
-		int bits = 0;
-		try (BufferedReader br = new BufferedReader(new InputStreamReader(
-			Files.newInputStream(Paths.get("/proc/" +
-				(__id == SELF_PROCESS ? "self" : __id) + "/status"),
-			StandardOpenOption.READ))))
-		{
-			// While these are not read
-			while (bits != 0b1111)
-			{
-				String ln = br.readLine();
-				if (ln == null)
-					break;
-				
-				// Parse values
-				try
-				{
-					// PID
-					if ((bits & 0b0001) == 0 && ln.startsWith("Pid:"))
-					{
-						pid = Integer.parseInt(ln.substring(4).trim());
-						bits |= 0b0001;
-					}
-					
-					// FDSize
-					else if ((bits & 0b0010) == 0 && ln.startsWith("FDSize:"))
-					{
-						fdsize = Integer.parseInt(ln.substring(7).trim());
-						bits |= 0b0010;
-					}
-					
-					// Threads
-					else if ((bits & 0b0100) == 0 && ln.startsWith("Threads:"))
-					{
-						threads = Integer.parseInt(ln.substring(8).trim());
-						bits |= 0b0100;
-					}
-					
-					// VMRss
-					else if ((bits & 0b1000) == 0 && ln.startsWith("VmRSS:"))
-					{
-						vmrss = (int)(__readMemValue(ln.substring(6)) / 1024);
-						bits |= 0b1000;
-					}
-				}
-				catch (NumberFormatException e)
-				{
-				}
-			}
-		}
-		catch (IOException e)
+		// Fields are in order, so they are searched from the last one
+		__ProcReader__ pr = __ProcReader__.__reader();
+		if (__id == SELF_PROCESS ? pr.__load("/proc/self/status", true) :
+			pr.__load("/proc/" + __id + "/status", false))
 		{
+			if (pr.__seekLine(_KEY_PID))
+				pid = __clamp(pr.__long());
+			
+			if (pr.__seekLine(_KEY_FDSIZE))
+				fdsize = __clamp(pr.__long());
+			else
+				pr.__at(0);
+			
+			// The resident set size is in KiB
+			if (pr.__seekLine(_KEY_VMRSS))
+				vmrss = __clamp(pr.__long());
+			else
+				pr.__at(0);
+			
+			if (pr.__seekLine(_KEY_THREADS))
+				threads = __clamp(pr.__long());
 		}
 		
 		return new Stat(pid, fdsize, threads, vmrss);
@@ -298,11 +319,39 @@ public final class SystemMeasurement
 	 */
 	public static Times measureTimes(int __id)
 	{
-		List<String> pidstat = __readValuesFromFile(
-			Paths.get("/proc/" + (__id == SELF_PROCESS ? "self" : __id) +
-			"/stat"));
-		return new Times(__readInt(pidstat, 13), __readInt(pidstat, 14),
-			__readInt(pidstat, 15), __readInt(pidstat, 16));
+		return Times.__measure(__id);
+	}
+	
+	/**
+	 * Clamps the given value to an integer.
+	 *
+	 * @param __v The value to clamp.
+	 * @return The clamped value.
+	 * @since 2026/10/18
+	 */
+	private static int __clamp(long __v)
+	{
+		if (__v < Integer.MIN_VALUE)
+			return Integer.MIN_VALUE;
+		else if (__v > Integer.MAX_VALUE)
+			return Integer.MAX_VALUE;
+		return (int)__v;
+	}
+	
+	/**
+	 * Reads the host information again, this is used when the process was
+	 * restored from a checkpoint which may have been taken on another host.
+	 *
+	 * @since 2026/10/18
+	 */
+	static void __restored()
+	{
+		_hostname = __readFirstLine(Paths.get("/etc/hostname"), "unknown");
+		_bootid = __readFirstLine(
+			Paths.get("/proc/sys/kernel/random/boot_id"), "unknown");
+		
+		// The file systems may be mounted differently
+		_STORES.clear();
 	}
 	
 	/**
@@ -420,104 +469,6 @@ public final class SystemMeasurement
 		return __readLong(__l.get(__dx));
 	}
 	
-	/**
-	 * Parses a map-like structure of keys and values from the given path.
-	 *
-	 * @param __p The path to decode.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2017/12/19
-	 */
-	private static Map<String, String> __readMap(Path __p)
-		throws NullPointerException
-	{
-		if (__p == null)
-			throw new NullPointerException("NARG");
-		
-		Map<String, String> rv = new LinkedHashMap<>();
-		
-		try
-		{
-			for (String l : Files.readAllLines(__p))
-			{
-				l = l.trim();
-				if (l.isEmpty())
-					continue;
-				
-				// Determine splice point which is earliest of the colon
-				// or the space
-				int fc = l.indexOf(':'),
-					fs = l.indexOf(' ');
-				int splice = ((fc < 0) || (fs >= 0 && fs < fc) ? fs : fc);
-				
-				rv.put(l.substring(0, splice).trim(),
-					l.substring(splice + 1).trim());
-			}
-		}
-		catch (IOException e)
-		{
-		}
-		
-		return rv;
-	}
-	
-	/**
-	 * Reads memory value.
-	 *
-	 * @param __v The input field value.
-	 * @return The read value.
-	 * @since 2018/11/20
-	 */
-	private static long __readMemValue(String __v)
-	{
-		if (__v == null)
-			return 0;
-		
-		// Trim first
-		__v = __v.trim();
-		
-		// Read multiplier
-		long mul;
-		if (__v.endsWith("kB"))
-		{
-			mul = 1024;
-			__v = __v.substring(0, __v.length() - 2).trim();
-		}
-		else
-			mul = 1;
-		
-		return Long.parseLong(__v, 10) * mul;
-	}
-	
-	/**
-	 * Reads a number of space separated values from a file.
-	 *
-	 * @param __s The string to decode from.
-	 * @return The list of values which are separated by space.
-	 * @since 2017/12/19
-	 */
-	private static List<String> __readValues(String __s)
-	{
-		if (__s == null)
-			throw new NullPointerException("NARG");
-		
-		return Arrays.<String>asList(__s.split(" "));
-	}
-	
-	/**
-	 * Reads a number of space separated values from a file.
-	 *
-	 * @param __p The path to read from.
-	 * @return The list of values which are separated by space.
-	 * @since 2017/12/19
-	 */
-	private static List<String> __readValuesFromFile(Path __p)
-	{
-		if (__p == null)
-			throw new NullPointerException("NARG");
-		
-		return __readValues(__readFirstLine(__p, ""));
-	}
-	
 	/**
 	 * Contains information about a single CPU.
 	 *
@@ -740,6 +691,39 @@ public final class SystemMeasurement
 			this.stime = __stime;
 			this.utime = __utime;
 		}
+		
+		/**
+		 * Measures the given process times, this is here so that the times
+		 * may be measured without initializing the host information.
+		 *
+		 * @param __id The process ID, {@code SELF_PROCESS} means the current
+		 * process.
+		 * @return The process times for the given process.
+		 * @since 2026/10/18
+		 */
+		static Times __measure(int __id)
+		{
+			int utime = 0,
+				stime = 0,
+				cutime = 0,
+				cstime = 0;
+			
+			// The name of the command may contain spaces, so the fields after
+			// it are used which start with the state
+			__ProcReader__ pr = __ProcReader__.__reader();
+			if ((__id == SELF_PROCESS ? pr.__load("/proc/self/stat", true) :
+				pr.__load("/proc/" + __id + "/stat", false)) &&
+				pr.__seekAfterLast((byte)')'))
+			{
+				pr.__skipFields(11);
+				utime = pr.__int();
+				stime = pr.__int();
+				cutime = pr.__int();
+				cstime = pr.__int();
+			}
+			
+			return new Times(cstime, cutime, stime, utime);
+		}
 	}
 }
 
@@ -8,8 +8,8 @@ import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
 import com.iopipe.plugin.NoSuchPluginException;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
@@ -41,8 +41,20 @@ final class __ActiveExecution__
 	private static final String _TRACE_ID =
 		Objects.toString(System.getenv("_X_AMZN_TRACE_ID"), "unknown");
 	
+	/** The names of the resources which have pressure information. */
+	private static final String[] _PRESSURES =
+		{"cpu", "memory", "io"};
+	
+	/** The names of I/O values. */
+	private static final String[] _IO_KEYS =
+		{"read_bytes", "write_bytes", "syscr", "syscw"};
+	
+	/** The names of network values. */
+	private static final String[] _NET_KEYS =
+		{"rx_bytes", "rx_packets", "tx_bytes", "tx_packets"};
+	
 	/** Is this a Linux system? */
-	private static final boolean _IS_LINUX =
+	static final boolean _IS_LINUX =
 		"linux".compareToIgnoreCase(
 			System.getProperty("os.name", "unknown")) == 0;
 	
@@ -89,8 +101,31 @@ final class __ActiveExecution__
 	/** Plugin information. */
 	private final __Plugins__.__Info__[] _pinfos;
 	
-	/** Plugin execution to index. */
-	private final Map<Class<? extends IOpipePluginExecution>, Integer> _pxtoi;
+	/** Plugin information and slot lookup. */
+	final __Plugins__ _plugins;
+	
+	/**
+	 * A weak reference to this execution, this is shared by everything which
+	 * binds this execution to a thread so that it need not be created again.
+	 */
+	final Reference<IOpipeExecution> _selfref =
+		new WeakReference<>(this);
+	
+	/** Resources used by the process when the invocation started. */
+	volatile __Resources__ _resstart;
+	
+	/** The CPU time and allocations of threads which ran the execution. */
+	final __ThreadUsage__ _usage =
+		new __ThreadUsage__();
+	
+	/** Tracks processes started during the invocation. */
+	volatile __ChildTracker__.__Session__ _children;
+	
+	/**
+	 * Is this an execution which never happens and is only used to prepare
+	 * the agent? Nothing may be sent for these executions.
+	 */
+	volatile boolean _dryrun;
 	
 	/** The exception which may have been thrown. */
 	private final AtomicReference<Throwable> _thrown =
@@ -150,7 +185,7 @@ final class __ActiveExecution__
 		__PluginState__[] active = new __PluginState__[numplugins];
 		for (int i = 0; i < numplugins; i++)
 			active[i] = new __PluginState__();
-		this._pxtoi = __p._xtoi;
+		this._plugins = __p;
 		this._active = active;
 		this._pinfos = __p._infos;
 	}
@@ -316,7 +351,7 @@ final class __ActiveExecution__
 	{
 		return this.input;
 	}
-
+	
 	/**
 	 * Adds a single label which will be passed in the report.
 	 *
@@ -359,60 +394,11 @@ final class __ActiveExecution__
 			throw new NullPointerException();
 		
 		// Get the index of the plugin
-		Integer dxi = this._pxtoi.get(__cl);
-		if (dxi == null)
-			return null;
-		int dx = dxi;
-		
-		// Check state to see if it was initialized already
-		__PluginState__ state = this._active[dxi];
-		IOpipePluginExecution rv = state._exec;
-		if (rv != null)
-			return __cl.cast(rv);
-			
-		// Was not enabled or failed to initialize
-		if (state._disabledorfailed)
+		int dx = this._plugins.__slot(__cl);
+		if (dx < 0)
 			return null;
 		
-		// Lock on the state because other plugins can initialize at the
-		// same time
-		synchronized (state)
-		{
-			// Double check initialization
-			rv = state._exec;
-			if (rv != null)
-				return __cl.cast(rv);
-			
-			// Is the plugin disabled?
-			__Plugins__.__Info__ pinfo = this._pinfos[dx];
-			if (pinfo == null || !pinfo.isEnabled())
-			{
-				state._disabledorfailed = true;
-				return null;
-			}
-			
-			// Try to initialize the plugin
-			try
-			{
-				rv = pinfo.plugin().execute(this);
-				
-				// Store it for later use
-				state._exec = rv;
-			}
-			
-			// Could not initialize
-			catch (Throwable t)
-			{
-				// Set as disabled
-				state._disabledorfailed = true;
-				
-				// Log it
-				Logger.error(t, "Failed to initialize plugin {}.", __cl);
-			}
-			
-			// Return the execution
-			return __cl.cast(rv);
-		}
+		return __cl.cast(this.__plugin(dx));
 	}
 	
 	/**
@@ -432,6 +418,10 @@ final class __ActiveExecution__
 	@Override
 	public final IOpipeSigner signer(String __ext)
 	{
+		// Signers request upload locations as soon as they are created
+		if (this._dryrun)
+			return null;
+		
 		Context context = this.context;
 		return new IOpipeSigner(
 			__ext,
@@ -450,7 +440,7 @@ final class __ActiveExecution__
 	{
 		return this.starttimemillis;
 	}
-
+	
 	/**
 	 * Builds the request which is sent to the remote service.
 	 *
@@ -463,7 +453,7 @@ final class __ActiveExecution__
 	{
 		Context aws = this.context;
 		IOpipeConfiguration config = this.config;
-
+		
 		// Snapshot system information
 		SystemMeasurement sysinfo = SystemMeasurement.measure();
 		
@@ -472,17 +462,18 @@ final class __ActiveExecution__
 			starttimemononanos = this.starttimemononanos;
 		
 		StringWriter out = new StringWriter();
-		try (JsonGenerator gen = Json.createGenerator(out))
+		try (JsonGenerator gen = __Shared__.__json().
+			createGenerator(out))
 		{
 			gen.writeStartObject();
-
+			
 			gen.write("client_id", config.getProjectToken());
 			gen.write("installMethod",
 				Objects.toString(config.getInstallMethod(), "unknown"));
-
+			
 			SystemMeasurement.Stat stat = sysinfo.stat;
 			
-			gen.write("processId", __Shared__._PROCESS_ID.toString());
+			gen.write("processId", __Shared__.__processId().toString());
 			gen.write("timestamp", this.starttimemillis);
 			gen.write("timestampEnd", nowtimestamp);
 			gen.write("coldstart", this.isColdStarted());
@@ -502,7 +493,7 @@ final class __ActiveExecution__
 				gen.write("traceId", _TRACE_ID);
 			}
 			gen.writeEnd();
-
+			
 			// Disk usage			
 			SystemMeasurement.Disk tempdir = sysinfo.tempdir;
 			
@@ -513,7 +504,7 @@ final class __ActiveExecution__
 				gen.write("usedPercentage", tempdir.usedpercent * 100.0);
 			}
 			gen.writeEnd();
-
+			
 			// Environment start
 			gen.writeStartObject("environment");
 			{
@@ -523,9 +514,34 @@ final class __ActiveExecution__
 					gen.write("runtime", "java");
 					gen.write("version", IOpipeConstants.AGENT_VERSION);
 					gen.write("load_time", IOpipeConstants.LOAD_TIME);
+					
+					// Where the time went before the first invocation
+					if (this.isColdStarted())
+					{
+						gen.writeStartObject("coldstart");
+						gen.write("jvm_start", ColdStartTimeline.__jvmStart());
+						
+						gen.writeStartArray("phases");
+						for (ColdStartTimeline.Entry e :
+							ColdStartTimeline.__entries())
+						{
+							gen.writeStartObject();
+							
+							gen.write("name", e.name);
+							gen.write("start_ms", e.startms);
+							gen.write("duration_ms", e.durationms);
+							if (e.classes != ColdStartTimeline.UNKNOWN_CLASSES)
+								gen.write("classes", e.classes);
+							
+							gen.writeEnd();
+						}
+						gen.writeEnd();
+						
+						gen.writeEnd();
+					}
 				}
 				gen.writeEnd();
-
+				
 				// Runtime information
 				gen.writeStartObject("runtime");
 				{
@@ -540,35 +556,35 @@ final class __ActiveExecution__
 				// Unique operating system boot identifier
 				gen.writeStartObject("host");
 				{
-					gen.write("boot_id", SystemMeasurement.BOOTID);
+					gen.write("boot_id", SystemMeasurement.bootId());
 				}
 				gen.writeEnd();
-
+				
 				// Operating System
 				gen.writeStartObject("os");
 				{
 					// Hostname
-					gen.write("hostname", SystemMeasurement.HOSTNAME);
+					gen.write("hostname", SystemMeasurement.hostname());
 					
 					// Memory
 					SystemMeasurement.Memory memory = sysinfo.memory;
 					gen.write("totalmem", memory.totalbytes);
 					gen.write("freemem", memory.freebytes);
 					gen.write("usedmem", memory.usedbytes);
-
+					
 					// CPUs
 					gen.writeStartArray("cpus");
 					for (SystemMeasurement.Cpu cpu : sysinfo.cpus)
 					{
 						gen.writeStartObject();
 						gen.writeStartObject("times");
-
+						
 						gen.write("idle", cpu.idle);
 						gen.write("irq", cpu.irq);
 						gen.write("sys", cpu.sys);
 						gen.write("user", cpu.user);
 						gen.write("nice", cpu.nice);
-
+						
 						gen.writeEnd();
 						gen.writeEnd();
 					}
@@ -620,6 +636,13 @@ final class __ActiveExecution__
 						}
 						gen.writeEnd();
 						
+						// Resources used by this invocation
+						__Resources__ resstart = this._resstart;
+						if (resstart != null)
+							__ActiveExecution__.__writeInvocation(gen,
+								resstart, __Resources__.__snapshot(resstart),
+								__ChildTracker__.TRACKER.__end(this._children));
+						
 						// End of Linux
 						gen.writeEnd();
 					}
@@ -643,16 +666,16 @@ final class __ActiveExecution__
 				
 				gen.writeStartObject("errors");
 				{
-					// Write the stack as if it were normally output on the console
-					StringWriter trace = new StringWriter();
-					try (PrintWriter pw = new PrintWriter(trace))
-					{
-						thrown.printStackTrace(pw);
-
-						pw.flush();
-					}
-
-					gen.write("stack", trace.toString());
+					// Write the stack as if it were normally output on the
+					// console, but without the agent and reflection frames.
+					// The same error being thrown over and over again will
+					// use the same stack which was rendered before
+					__Stacks__.__Chain__ chain = __Stacks__.__chain(thrown);
+					__StackCache__.__Rendered__ rendered =
+						__StackCache__.__lookup(chain);
+					gen.write("stack", rendered.__stack(chain));
+					gen.write("occurrences",
+						rendered.count.incrementAndGet());
 					gen.write("name", thrown.getClass().getName());
 					gen.write("message",
 						Objects.toString(thrown.getMessage(), ""));
@@ -761,14 +784,10 @@ final class __ActiveExecution__
 						// to which to obtain information from
 						IOpipePluginExecution iope = active._exec;
 						
-						// If it does define an extra object then record all
-						// of the fields
-						JsonObject extraobject = (iope == null ? null :
-							iope.extraReport());
-						if (extraobject != null)
-							for (Map.Entry<String, JsonValue> e :
-								extraobject.entrySet())
-								gen.write(e.getKey(), e.getValue());
+						// If it does define extra fields then they are written
+						// directly into the report
+						if (iope != null)
+							iope.writeExtraReport(gen);
 					}
 					
 					gen.writeEnd();
@@ -777,9 +796,24 @@ final class __ActiveExecution__
 				gen.writeEnd();
 			}
 			
+			// Work done by the handler thread and any thread which ran
+			// tasks for this execution, the utilization is more than one if
+			// multiple threads were busy at once
+			long duration = System.nanoTime() - starttimemononanos;
+			__ThreadUsage__ usage = this._usage;
+			if (__ThreadUsage__.__canCpu())
+			{
+				long cpunanos = usage.cpunanos.sum();
+				gen.write("cpuNanos", cpunanos);
+				if (duration > 0)
+					gen.write("utilization", (double)cpunanos / duration);
+			}
+			if (__ThreadUsage__.__canAllocated())
+				gen.write("allocatedBytes", usage.allocatedbytes.sum());
+			
 			// Write duration last so that all the overhead is recoreded as
 			// much as possible
-			long duration = System.nanoTime() - starttimemononanos;
+			duration = System.nanoTime() - starttimemononanos;
 			if (duration >= 0)
 				gen.write("duration", duration);
 			
@@ -791,10 +825,73 @@ final class __ActiveExecution__
 		{
 			throw new RemoteException("Could not build request", e);
 		}
-
+		
 		return new RemoteRequest(RemoteBody.MIMETYPE_JSON, out.toString());
 	}
 	
+	/**
+	 * Returns the execution state of the plugin in the given slot, it will be
+	 * initialized if it has not been yet.
+	 *
+	 * @param __dx The slot of the plugin.
+	 * @return The execution state of the plugin or {@code null} if it is
+	 * disabled or failed to initialize.
+	 * @since 2026/10/18
+	 */
+	final IOpipePluginExecution __plugin(int __dx)
+	{
+		// Check state to see if it was initialized already
+		__PluginState__ state = this._active[__dx];
+		IOpipePluginExecution rv = state._exec;
+		if (rv != null)
+			return rv;
+			
+		// Was not enabled or failed to initialize
+		if (state._disabledorfailed)
+			return null;
+		
+		// Lock on the state because other plugins can initialize at the
+		// same time
+		synchronized (state)
+		{
+			// Double check initialization
+			rv = state._exec;
+			if (rv != null)
+				return rv;
+			
+			// Is the plugin disabled?
+			__Plugins__.__Info__ pinfo = this._pinfos[__dx];
+			if (pinfo == null || !pinfo.isEnabled())
+			{
+				state._disabledorfailed = true;
+				return null;
+			}
+			
+			// Try to initialize the plugin
+			try
+			{
+				rv = pinfo.plugin().execute(this);
+				
+				// Store it for later use
+				state._exec = rv;
+			}
+			
+			// Could not initialize
+			catch (Throwable t)
+			{
+				// Set as disabled
+				state._disabledorfailed = true;
+				
+				// Log it
+				Logger.error(t, "Failed to initialize plugin {}.",
+					pinfo.executionClass());
+			}
+			
+			// Return the execution
+			return rv;
+		}
+	}
+	
 	/**
 	 * Sets the throwable generated during execution.
 	 *
@@ -806,6 +903,154 @@ final class __ActiveExecution__
 		this._thrown.compareAndSet(null, __t);
 	}
 	
+	/**
+	 * Writes an object containing the differences between the given values,
+	 * values which are not available are not written.
+	 *
+	 * @param __gen The generator to write to.
+	 * @param __name The name of the object.
+	 * @param __keys The keys for each value.
+	 * @param __start The values at the start of the invocation.
+	 * @param __end The values at the end of the invocation.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __writeDeltas(JsonGenerator __gen, String __name,
+		String[] __keys, long[] __start, long[] __end)
+		throws NullPointerException
+	{
+		if (__gen == null || __name == null || __keys == null ||
+			__start == null || __end == null)
+			throw new NullPointerException();
+		
+		__gen.writeStartObject(__name);
+		for (int i = 0, n = __keys.length; i < n; i++)
+		{
+			long v = __Resources__.__delta(__end[i], __start[i]);
+			if (v >= 0)
+				__gen.write(__keys[i], v);
+		}
+		__gen.writeEnd();
+	}
+	
+	/**
+	 * Writes the resources which were used by the invocation.
+	 *
+	 * @param __gen The generator to write to.
+	 * @param __start The resources at the start of the invocation.
+	 * @param __end The resources at the end of the invocation.
+	 * @param __kids Resources used by processes which were started.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __writeInvocation(JsonGenerator __gen,
+		__Resources__ __start, __Resources__ __end,
+		Collection<__ChildTracker__.__Usage__> __kids)
+		throws NullPointerException
+	{
+		if (__gen == null || __start == null || __end == null ||
+			__kids == null)
+			throw new NullPointerException();
+		
+		__gen.writeStartObject("invocation");
+		
+		__gen.write("utime", __end.utime - __start.utime);
+		__gen.write("stime", __end.stime - __start.stime);
+		__gen.write("minflt", __end.minflt - __start.minflt);
+		__gen.write("majflt", __end.majflt - __start.majflt);
+		__gen.write("voluntary_ctxt_switches", __end.vctx - __start.vctx);
+		__gen.write("nonvoluntary_ctxt_switches",
+			__end.nvctx - __start.nvctx);
+		
+		// Per CPU busy and idle times, the ratio tells whether the whole
+		// system was busy
+		__gen.writeStartArray("cpus");
+		for (int i = 0, n = __end.__cpus(__start); i < n; i++)
+		{
+			__gen.writeStartObject();
+			
+			__gen.write("busy", __end.__cpuBusy(__start, i));
+			__gen.write("idle", __end.__cpuIdle(__start, i));
+			__gen.write("busyRatio", __end.__busyRatio(__start, i));
+			
+			__gen.writeEnd();
+		}
+		__gen.writeEnd();
+		
+		// Control group limits, the memory is the amount at the end of the
+		// invocation
+		int cgversion = __Cgroups__.FILES.version;
+		if (cgversion != 0)
+		{
+			__gen.writeStartObject("cgroup");
+			
+			__gen.write("version", cgversion);
+			__gen.write("nr_throttled", __Resources__.__delta(
+				__end.nrthrottled, __start.nrthrottled));
+			__gen.write("throttled_usec", __Resources__.__delta(
+				__end.throttledusec, __start.throttledusec));
+			__gen.write("memory_current", __end.memcurrent);
+			__gen.write("memory_max", __end.memmax);
+			__gen.write("memory_delta", (__end.memcurrent < 0 ||
+				__start.memcurrent < 0 ? 0 :
+				__end.memcurrent - __start.memcurrent));
+			
+			__gen.writeEnd();
+		}
+		
+		// Storage and network I/O
+		__ActiveExecution__.__writeDeltas(__gen, "io", _IO_KEYS,
+			__start.io, __end.io);
+		__ActiveExecution__.__writeDeltas(__gen, "net", _NET_KEYS,
+			__start.net, __end.net);
+		
+		// CPU time of native threads by what they are used for, this
+		// includes the garbage collector and compilers
+		__gen.writeStartObject("threads");
+		long[] threads = __end.threads.__since(__start.threads);
+		for (int i = 0, n = threads.length; i < n; i++)
+			__gen.write(__NativeThreads__.CLASS_NAMES[i], threads[i]);
+		__gen.writeEnd();
+		
+		// Processes which were started, by the executable name
+		__gen.writeStartArray("children");
+		for (__ChildTracker__.__Usage__ u : __kids)
+		{
+			__gen.writeStartObject();
+			
+			__gen.write("name", u.name);
+			__gen.write("processes", u.processes);
+			__gen.write("cpu_ticks", u.cputicks);
+			__gen.write("wall_ms", u.wallnanos / 1_000_000L);
+			__gen.write("peak_rss_kib", u.peakrsskib);
+			
+			__gen.writeEnd();
+		}
+		__gen.writeEnd();
+		
+		// Time where some or all tasks were stalled waiting on a resource
+		__gen.writeStartObject("pressure");
+		long[] stalls = __end.stalls,
+			was = __start.stalls;
+		for (int i = 0; i < 3; i++)
+		{
+			int dx = i * 2;
+			long some = __Resources__.__delta(stalls[dx], was[dx]),
+				full = __Resources__.__delta(stalls[dx + 1], was[dx + 1]);
+			if (some < 0)
+				continue;
+			
+			__gen.writeStartObject(_PRESSURES[i]);
+			__gen.write("some_usec", some);
+			if (full >= 0)
+				__gen.write("full_usec", full);
+			__gen.writeEnd();
+		}
+		__gen.writeEnd();
+		
+		__gen.writeEnd();
+	}
+	
 	/**
 	 * Contains the state of the plugin.
 	 *
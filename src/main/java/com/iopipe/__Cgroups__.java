@@ -0,0 +1,187 @@
+package com.iopipe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This locates the control group files for this process, which contain the
+ * limits which are enforced on the function rather than those of the host.
+ * Both cgroup v1 and v2 are supported, on hosts which have both the v1
+ * controllers are used if they are mounted.
+ *
+ * The files are located once since they do not move while the process is
+ * running.
+ *
+ * @since 2026/10/18
+ */
+final class __Cgroups__
+{
+	/** The root of the control group mounts. */
+	private static final Path _ROOT =
+		Paths.get("/sys/fs/cgroup");
+	
+	/** The located files. */
+	static final __Cgroups__ FILES =
+		__Cgroups__.__locate();
+	
+	/** The version of control groups, {@code 0} if there are none. */
+	final int version;
+	
+	/** The CPU statistics, may be {@code null}. */
+	final String cpustat;
+	
+	/** The current memory usage, may be {@code null}. */
+	final String memcurrent;
+	
+	/** The memory limit, may be {@code null}. */
+	final String memmax;
+	
+	/** CPU pressure, may be {@code null}. */
+	final String psicpu;
+	
+	/** Memory pressure, may be {@code null}. */
+	final String psimemory;
+	
+	/** I/O pressure, may be {@code null}. */
+	final String psiio;
+	
+	/**
+	 * Initializes the located files.
+	 *
+	 * @param __v The control group version.
+	 * @param __cs The CPU statistics.
+	 * @param __mc The current memory usage.
+	 * @param __mm The memory limit.
+	 * @param __pc CPU pressure.
+	 * @param __pm Memory pressure.
+	 * @param __pi I/O pressure.
+	 * @since 2026/10/18
+	 */
+	private __Cgroups__(int __v, Path __cs, Path __mc, Path __mm, Path __pc,
+		Path __pm, Path __pi)
+	{
+		this.version = __v;
+		this.cpustat = __Cgroups__.__ifExists(__cs);
+		this.memcurrent = __Cgroups__.__ifExists(__mc);
+		this.memmax = __Cgroups__.__ifExists(__mm);
+		this.psicpu = __Cgroups__.__ifExists(__pc);
+		this.psimemory = __Cgroups__.__ifExists(__pm);
+		this.psiio = __Cgroups__.__ifExists(__pi);
+	}
+	
+	/**
+	 * Returns the directory of the given control group, if the group is not
+	 * visible (such as in a container with its own namespace) then the mount
+	 * is used since that is the group of the container.
+	 *
+	 * @param __mount The mount of the hierarchy.
+	 * @param __group The group from {@code /proc/self/cgroup}.
+	 * @return The directory of the group.
+	 * @since 2026/10/18
+	 */
+	private static final Path __dir(Path __mount, String __group)
+	{
+		if (__group != null && !__group.equals("/"))
+		{
+			Path rv = __mount.resolve(__group.substring(1));
+			if (Files.isDirectory(rv))
+				return rv;
+		}
+		
+		return __mount;
+	}
+	
+	/**
+	 * Returns the path as a string if the file exists.
+	 *
+	 * @param __p The path to check.
+	 * @return The path or {@code null} if it does not exist.
+	 * @since 2026/10/18
+	 */
+	private static final String __ifExists(Path __p)
+	{
+		if (__p == null || !Files.isReadable(__p))
+			return null;
+		return __p.toString();
+	}
+	
+	/**
+	 * Locates the control group files.
+	 *
+	 * @return The located files.
+	 * @since 2026/10/18
+	 */
+	private static final __Cgroups__ __locate()
+	{
+		// Determine which groups this process is in, v1 groups have their
+		// controllers listed while the v2 group has none
+		String v1cpu = null,
+			v1memory = null,
+			v2 = null;
+		try
+		{
+			List<String> lines = Files.readAllLines(
+				Paths.get("/proc/self/cgroup"));
+			for (String line : lines)
+			{
+				int a = line.indexOf(':'),
+					b = line.indexOf(':', a + 1);
+				if (a < 0 || b < 0)
+					continue;
+				
+				String controllers = line.substring(a + 1, b),
+					group = line.substring(b + 1);
+				if (controllers.isEmpty())
+					v2 = group;
+				else
+					for (String c : controllers.split(","))
+						if (c.equals("cpu"))
+							v1cpu = group;
+						else if (c.equals("memory"))
+							v1memory = group;
+			}
+		}
+		catch (IOException|SecurityException e)
+		{
+			return new __Cgroups__(0, null, null, null, null, null, null);
+		}
+		
+		Path root = _ROOT,
+			procpsi = Paths.get("/proc/pressure");
+		
+		// Only v2, the controllers are all in the same group
+		if (Files.exists(root.resolve("cgroup.controllers")))
+		{
+			Path dir = __Cgroups__.__dir(root, v2);
+			return new __Cgroups__(2, dir.resolve("cpu.stat"),
+				dir.resolve("memory.current"), dir.resolve("memory.max"),
+				dir.resolve("cpu.pressure"), dir.resolve("memory.pressure"),
+				dir.resolve("io.pressure"));
+		}
+		
+		// v1, the CPU controller is usually mounted along with the CPU
+		// accounting controller
+		if (v1cpu != null || v1memory != null)
+		{
+			Path cpumount = root.resolve("cpu,cpuacct");
+			if (!Files.isDirectory(cpumount))
+				cpumount = root.resolve("cpu");
+			
+			Path cpudir = __Cgroups__.__dir(cpumount, v1cpu),
+				memdir = __Cgroups__.__dir(root.resolve("memory"), v1memory);
+			return new __Cgroups__(1, cpudir.resolve("cpu.stat"),
+				memdir.resolve("memory.usage_in_bytes"),
+				memdir.resolve("memory.limit_in_bytes"),
+				procpsi.resolve("cpu"), procpsi.resolve("memory"),
+				procpsi.resolve("io"));
+		}
+		
+		// No control groups, but there may still be pressure information
+		return new __Cgroups__(0, null, null, null, procpsi.resolve("cpu"),
+			procpsi.resolve("memory"), procpsi.resolve("io"));
+	}
+}
+
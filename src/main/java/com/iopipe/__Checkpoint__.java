@@ -0,0 +1,156 @@
+package com.iopipe;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This registers a service with the coordinated restore at checkpoint API
+ * (which Lambda SnapStart uses) when it is available, so that the agent is
+ * ready to report before the checkpoint is taken and does not report stale
+ * information after the process is restored.
+ *
+ * The API is an optional dependency, so it is only accessed by reflection.
+ *
+ * @since 2026/10/18
+ */
+final class __Checkpoint__
+	implements InvocationHandler
+{
+	/** The packages which may contain the API, the first found is used. */
+	private static final String[] _PACKAGES =
+		{"org.crac", "jdk.crac"};
+	
+	/** The service to notify. */
+	protected final IOpipeService service;
+	
+	/**
+	 * The resource which was registered, contexts only weakly refer to their
+	 * resources so this keeps it alive for as long as the service is.
+	 */
+	private volatile Object _resource;
+	
+	/**
+	 * Initializes the handler.
+	 *
+	 * @param __sv The service to notify.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private __Checkpoint__(IOpipeService __sv)
+		throws NullPointerException
+	{
+		if (__sv == null)
+			throw new NullPointerException();
+		
+		this.service = __sv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final Object invoke(Object __proxy, Method __m, Object[] __args)
+	{
+		// The agent never stops a checkpoint or restore from happening
+		IOpipeService service = this.service;
+		switch (__m.getName())
+		{
+			case "beforeCheckpoint":
+				try
+				{
+					service.__beforeCheckpoint();
+				}
+				catch (RuntimeException e)
+				{
+					Logger.error(e, "Could not prepare for the checkpoint.");
+				}
+				return null;
+			
+			case "afterRestore":
+				try
+				{
+					service.__afterRestore();
+				}
+				catch (RuntimeException e)
+				{
+					Logger.error(e, "Could not reset after the restore.");
+				}
+				return null;
+			
+			case "equals":
+				return (__args != null && __args.length == 1 &&
+					__proxy == __args[0]);
+			
+			case "hashCode":
+				return System.identityHashCode(__proxy);
+			
+			case "toString":
+				return "IOpipe-Checkpoint@" + Integer.toHexString(
+					System.identityHashCode(__proxy));
+			
+			default:
+				return null;
+		}
+	}
+	
+	/**
+	 * Registers the given service to be notified of checkpoints and
+	 * restores.
+	 *
+	 * @param __sv The service to register.
+	 * @return The registration, which must be kept for as long as the service
+	 * is, or {@code null} if checkpoints are not supported.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final __Checkpoint__ __register(IOpipeService __sv)
+		throws NullPointerException
+	{
+		if (__sv == null)
+			throw new NullPointerException();
+		
+		for (String pkg : _PACKAGES)
+		{
+			Class<?> resource,
+				context,
+				core;
+			try
+			{
+				resource = Class.forName(pkg + ".Resource");
+				context = Class.forName(pkg + ".Context");
+				core = Class.forName(pkg + ".Core");
+			}
+			catch (ClassNotFoundException|LinkageError e)
+			{
+				continue;
+			}
+			
+			try
+			{
+				__Checkpoint__ rv = new __Checkpoint__(__sv);
+				Object proxy = Proxy.newProxyInstance(
+					resource.getClassLoader(), new Class<?>[]{resource}, rv);
+				rv._resource = proxy;
+				
+				context.getMethod("register", resource).invoke(
+					core.getMethod("getGlobalContext").invoke(null), proxy);
+				
+				Logger.debug("Registered for checkpoints with {}.", pkg);
+				return rv;
+			}
+			catch (IllegalAccessException|InvocationTargetException|
+				LinkageError|NoSuchMethodException|RuntimeException e)
+			{
+				Logger.debug(e, "Could not register for checkpoints.");
+				return null;
+			}
+		}
+		
+		return null;
+	}
+}
+
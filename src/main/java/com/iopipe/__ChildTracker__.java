@@ -0,0 +1,537 @@
+package com.iopipe;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.locks.LockSupport;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This keeps track of processes which are started by the function (such as
+ * image and video converters), since their resources are only reported by
+ * the system after they have finished and only as a total.
+ *
+ * While invocations are running, descendant processes are found through the
+ * {@code children} file of each thread and their CPU time and peak resident
+ * set size are sampled. If no process was created since the last sample,
+ * which is known from the last process ID in {@code /proc/loadavg}, then
+ * the search is skipped.
+ *
+ * Processes which start and finish between two samples are not seen, their
+ * time is still part of the child times of the process. Times in clock
+ * ticks assume that there are 100 ticks per second, which is the case for
+ * every Linux system the agent runs on.
+ *
+ * @since 2026/10/18
+ */
+final class __ChildTracker__
+{
+	/** The number of nanoseconds in a clock tick. */
+	private static final long _TICK_NANOS =
+		10_000_000L;
+	
+	/** The time between samples, in nanoseconds. */
+	private static final long _SAMPLE_NANOS =
+		50_000_000L;
+	
+	/** The tracker for this process. */
+	static final __ChildTracker__ TRACKER =
+		new __ChildTracker__();
+	
+	/** Key for the peak resident set size. */
+	private static final byte[] _KEY_VMHWM =
+		__ProcReader__.__key("VmHWM:");
+	
+	/** Key for the resident set size. */
+	private static final byte[] _KEY_VMRSS =
+		__ProcReader__.__key("VmRSS:");
+	
+	/** Invocations which are tracking processes (locked by this). */
+	private final List<__Session__> _sessions =
+		new ArrayList<>();
+	
+	/** Processes which were last seen, by process ID (locked by this). */
+	private final Map<Integer, __Child__> _known =
+		new HashMap<>();
+	
+	/** The last process ID which was created (locked by this). */
+	private long _lastpid =
+		-1;
+	
+	/** The thread which samples, started when first needed (locked). */
+	private Thread _thread;
+	
+	/**
+	 * Only the single instance is used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __ChildTracker__()
+	{
+	}
+	
+	/**
+	 * Starts tracking processes for an invocation.
+	 *
+	 * @return The tracking session.
+	 * @since 2026/10/18
+	 */
+	final __Session__ __begin()
+	{
+		__Session__ rv = new __Session__(System.nanoTime());
+		
+		synchronized (this)
+		{
+			// Processes which are already running only count from now
+			for (__Child__ c : this._known.values())
+				rv._base.put(c, new long[]{c._cpu, rv._start});
+			
+			List<__Session__> sessions = this._sessions;
+			sessions.add(rv);
+			
+			// Start the sampler or wake it up if it was waiting
+			Thread thread = this._thread;
+			if (thread == null)
+			{
+				thread = new Thread(__Shared__._SERVICE_THREAD_GROUP,
+					this::__run, "IOpipeChildTracker");
+				thread.setDaemon(true);
+				thread.start();
+				
+				this._thread = thread;
+			}
+			else if (sessions.size() == 1)
+				LockSupport.unpark(thread);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Stops tracking for the given invocation and returns the resources used
+	 * by processes during it, grouped by the name of the executable.
+	 *
+	 * @param __s The session to end, may be {@code null}.
+	 * @return The used resources, this will be empty if no processes were
+	 * seen or the session already ended.
+	 * @since 2026/10/18
+	 */
+	final Collection<__Usage__> __end(__Session__ __s)
+	{
+		if (__s == null)
+			return Collections.<__Usage__>emptyList();
+		
+		Map<String, __Usage__> rv = new LinkedHashMap<>();
+		synchronized (this)
+		{
+			if (!this._sessions.remove(__s))
+				return Collections.<__Usage__>emptyList();
+			
+			// Sample again so that processes which are still running are
+			// counted up to now
+			this.__sample(System.nanoTime());
+			
+			for (Map.Entry<__Child__, long[]> e : __s._base.entrySet())
+			{
+				__Child__ c = e.getKey();
+				long[] base = e.getValue();
+				
+				__Usage__ u = rv.get(c._name);
+				if (u == null)
+					rv.put(c._name, (u = new __Usage__(c._name)));
+				
+				u.processes++;
+				u.cputicks += Math.max(0, c._cpu - base[0]);
+				u.wallnanos += Math.max(0, c._lastseen - base[1]);
+				u.peakrsskib = Math.max(u.peakrsskib, c._peakrss);
+			}
+		}
+		
+		return rv.values();
+	}
+	
+	/**
+	 * Adds the children of the given process to the queue.
+	 *
+	 * @param __pid The process to get the children of.
+	 * @param __into The queue to add to.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final void __children(String __pid, Deque<Integer> __into)
+		throws NullPointerException
+	{
+		if (__pid == null || __into == null)
+			throw new NullPointerException();
+		
+		// Every thread has its own children
+		__ProcReader__ pr = __ProcReader__.__reader();
+		try (DirectoryStream<Path> tasks = Files.newDirectoryStream(
+			Paths.get("/proc", __pid, "task")))
+		{
+			for (Path task : tasks)
+				if (pr.__load(task.resolve("children").toString(), false))
+					for (;;)
+					{
+						int at = pr.__at();
+						long pid = pr.__long();
+						if (pr.__at() == at || pid <= 0)
+							break;
+						
+						__into.add((int)pid);
+					}
+		}
+		
+		// The process could have finished
+		catch (IOException|SecurityException e)
+		{
+		}
+	}
+	
+	/**
+	 * Samples until there are no sessions, then waits for one.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __run()
+	{
+		// This thread outlives the execution which started it, so it must
+		// not keep it
+		IOpipeService.__unbindThread();
+		
+		for (;;)
+		{
+			long now = System.nanoTime();
+			boolean idle;
+			synchronized (this)
+			{
+				idle = this._sessions.isEmpty();
+				if (!idle)
+					this.__sample(now);
+			}
+			
+			if (idle)
+				LockSupport.park(this);
+			else
+				LockSupport.parkNanos(this,
+					(now + _SAMPLE_NANOS) - System.nanoTime());
+		}
+	}
+	
+	/**
+	 * Samples all of the descendant processes, this must be called while
+	 * the tracker is locked.
+	 *
+	 * @param __now The current time.
+	 * @since 2026/10/18
+	 */
+	private final void __sample(long __now)
+	{
+		Map<Integer, __Child__> known = this._known;
+		
+		// If no process was created and there are no children, then there
+		// is nothing to search for
+		__ProcReader__ pr = __ProcReader__.__reader();
+		long lastpid = -1;
+		if (pr.__load("/proc/loadavg", true) && pr.__seekAfterLast((byte)' '))
+			lastpid = pr.__long();
+		if (known.isEmpty() && lastpid >= 0 && lastpid == this._lastpid)
+			return;
+		this._lastpid = lastpid;
+		
+		// Find all descendants
+		Deque<Integer> queue = new ArrayDeque<>();
+		this.__children("self", queue);
+		long uptime = -1;
+		Map<Integer, __Child__> seen = new HashMap<>();
+		while (!queue.isEmpty())
+		{
+			int pid = queue.poll();
+			if (seen.containsKey(pid))
+				continue;
+			
+			// The process may have finished or be a different one with the
+			// same ID
+			String spid = Integer.toString(pid);
+			__Child__ c = known.get(pid);
+			long start = __ChildTracker__.__startTime(pr, spid);
+			if (start < 0)
+				continue;
+			if (c == null || c._starttime != start)
+			{
+				// The start time is relative to boot, so determine how long
+				// ago that was
+				if (uptime < 0)
+					uptime = __ChildTracker__.__uptime(pr);
+				long started = (uptime < start ? __now :
+					__now - ((uptime - start) * _TICK_NANOS));
+				
+				c = new __Child__(pid, start, __ChildTracker__.__name(spid),
+					__now);
+				
+				// This is new to every session, but only the time after the
+				// session started counts
+				for (__Session__ s : this._sessions)
+					s._base.put(c, new long[]{0, Math.max(s._start, started)});
+			}
+			
+			c.__update(pr, spid, __now);
+			seen.put(pid, c);
+			
+			this.__children(spid, queue);
+		}
+		
+		// Processes which were not seen have finished
+		known.clear();
+		known.putAll(seen);
+	}
+	
+	/**
+	 * Reads the name of the given process.
+	 *
+	 * @param __pid The process ID.
+	 * @return The name of the process.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final String __name(String __pid)
+		throws NullPointerException
+	{
+		if (__pid == null)
+			throw new NullPointerException();
+		
+		try
+		{
+			List<String> lines = Files.readAllLines(
+				Paths.get("/proc", __pid, "comm"));
+			if (!lines.isEmpty())
+				return lines.get(0).trim();
+		}
+		catch (IOException|SecurityException e)
+		{
+		}
+		
+		return "unknown";
+	}
+	
+	/**
+	 * Reads the start time of the given process.
+	 *
+	 * @param __pr The reader to use.
+	 * @param __pid The process ID.
+	 * @return The start time in clock ticks since boot, or {@code -1} if the
+	 * process does not exist.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final long __startTime(__ProcReader__ __pr, String __pid)
+		throws NullPointerException
+	{
+		if (__pr == null || __pid == null)
+			throw new NullPointerException();
+		
+		if (!__pr.__load("/proc/" + __pid + "/stat", false) ||
+			!__pr.__seekAfterLast((byte)')'))
+			return -1;
+		
+		__pr.__skipFields(19);
+		return __pr.__long();
+	}
+	
+	/**
+	 * Reads the time since the system booted.
+	 *
+	 * @param __pr The reader to use.
+	 * @return The time since boot in clock ticks, or {@code -1} if it is not
+	 * known.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final long __uptime(__ProcReader__ __pr)
+		throws NullPointerException
+	{
+		if (__pr == null)
+			throw new NullPointerException();
+		
+		if (!__pr.__load("/proc/uptime", true))
+			return -1;
+		
+		// This is in seconds with two decimal places
+		long secs = __pr.__long();
+		if (__pr.__byteAt(__pr.__at()) != '.')
+			return secs * 100;
+		
+		__pr.__at(__pr.__at() + 1);
+		return (secs * 100) + __pr.__long();
+	}
+	
+	/**
+	 * A process which was seen.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Child__
+	{
+		/** The process ID. */
+		final int _pid;
+		
+		/** The start time in clock ticks since boot. */
+		final long _starttime;
+		
+		/** The name of the executable. */
+		final String _name;
+		
+		/** The user and system time in clock ticks. */
+		long _cpu;
+		
+		/** The peak resident set size in KiB. */
+		long _peakrss;
+		
+		/** When the process was last seen. */
+		long _lastseen;
+		
+		/**
+		 * Initializes the process.
+		 *
+		 * @param __pid The process ID.
+		 * @param __st The start time.
+		 * @param __n The name of the executable.
+		 * @param __now When the process was first seen.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Child__(int __pid, long __st, String __n, long __now)
+			throws NullPointerException
+		{
+			if (__n == null)
+				throw new NullPointerException();
+			
+			this._pid = __pid;
+			this._starttime = __st;
+			this._name = __n;
+			this._lastseen = __now;
+		}
+		
+		/**
+		 * Updates the time and memory of the process.
+		 *
+		 * @param __pr The reader to use.
+		 * @param __pid The process ID.
+		 * @param __now The current time.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		final void __update(__ProcReader__ __pr, String __pid, long __now)
+			throws NullPointerException
+		{
+			if (__pr == null || __pid == null)
+				throw new NullPointerException();
+			
+			if (__pr.__load("/proc/" + __pid + "/stat", false) &&
+				__pr.__seekAfterLast((byte)')'))
+			{
+				__pr.__skipFields(11);
+				this._cpu = Math.max(this._cpu, __pr.__long() + __pr.__long());
+			}
+			
+			// The peak is kept by the system, but this may not be available
+			// so the current size is used instead
+			if (__pr.__load("/proc/" + __pid + "/status", false))
+			{
+				long rss = 0;
+				if (__pr.__seekLine(_KEY_VMHWM))
+					rss = __pr.__long();
+				else
+				{
+					__pr.__at(0);
+					if (__pr.__seekLine(_KEY_VMRSS))
+						rss = __pr.__long();
+				}
+				
+				this._peakrss = Math.max(this._peakrss, rss);
+			}
+			
+			this._lastseen = __now;
+		}
+	}
+	
+	/**
+	 * Tracks processes for a single invocation.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Session__
+	{
+		/** When the session started. */
+		final long _start;
+		
+		/**
+		 * The processes seen during this session, with their CPU time and
+		 * the time when the session first saw them (locked by tracker).
+		 */
+		final Map<__Child__, long[]> _base =
+			new IdentityHashMap<>();
+		
+		/**
+		 * Initializes the session.
+		 *
+		 * @param __s When the session started.
+		 * @since 2026/10/18
+		 */
+		__Session__(long __s)
+		{
+			this._start = __s;
+		}
+	}
+	
+	/**
+	 * The resources used by all processes with the same name.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Usage__
+	{
+		/** The name of the executable. */
+		final String name;
+		
+		/** The number of processes. */
+		int processes;
+		
+		/** The user and system time in clock ticks. */
+		long cputicks;
+		
+		/** The time the processes were seen running, in nanoseconds. */
+		long wallnanos;
+		
+		/** The largest peak resident set size of any process in KiB. */
+		long peakrsskib;
+		
+		/**
+		 * Initializes the usage.
+		 *
+		 * @param __n The name of the executable.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Usage__(String __n)
+			throws NullPointerException
+		{
+			if (__n == null)
+				throw new NullPointerException();
+			
+			this.name = __n;
+		}
+	}
+}
+
@@ -0,0 +1,196 @@
+package com.iopipe;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.locks.LockSupport;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This switches the agent off while a file exists, the file is checked every
+ * so often by a service thread so that executions never access the file
+ * system.
+ *
+ * @since 2026/10/18
+ */
+final class __KillSwitch__
+{
+	/** How often the file is checked, in nanoseconds. */
+	private static final long _INTERVAL =
+		5_000_000_000L;
+	
+	/** The file to check. */
+	protected final Path path;
+	
+	/** How often the file is checked, in nanoseconds. */
+	protected final long interval;
+	
+	/** Is the agent switched off? */
+	private volatile boolean _off;
+	
+	/**
+	 * Initializes the switch, checks the file and starts the thread which
+	 * checks it from then on.
+	 *
+	 * @param __p The file to check.
+	 * @param __i How often the file is checked, in nanoseconds.
+	 * @throws IllegalArgumentException If the interval is not positive.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__KillSwitch__(Path __p, long __i)
+		throws IllegalArgumentException, NullPointerException
+	{
+		if (__p == null)
+			throw new NullPointerException();
+		if (__i <= 0)
+			throw new IllegalArgumentException("The kill switch interval " +
+				"must be positive.");
+		
+		this.path = __p;
+		this.interval = __i;
+		this.__check();
+		
+		// The thread only weakly refers to the switch so that it stops when
+		// the service is gone
+		Thread thread = new Thread(__Shared__._SERVICE_THREAD_GROUP,
+			new __Checker__(new WeakReference<>(this), __i),
+			"IOpipeKillSwitch");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Returns if the agent is switched off, this is only a read since the
+	 * file is checked by another thread.
+	 *
+	 * @return If the agent is switched off.
+	 * @since 2026/10/18
+	 */
+	final boolean __isOff()
+	{
+		return this._off;
+	}
+	
+	/**
+	 * Checks the file.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __check()
+	{
+		boolean off;
+		try
+		{
+			off = Files.exists(this.path);
+		}
+		catch (SecurityException e)
+		{
+			off = false;
+		}
+		
+		if (off != this._off)
+		{
+			this._off = off;
+			if (off)
+				Logger.info("IOpipe was switched off by {}.", this.path);
+			else
+				Logger.info("IOpipe was switched on since {} was removed.",
+					this.path);
+		}
+	}
+	
+	/**
+	 * Returns the kill switch for the given configuration.
+	 *
+	 * @param __conf The configuration.
+	 * @return The kill switch or {@code null} if there is none.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final __KillSwitch__ __of(IOpipeConfiguration __conf)
+		throws NullPointerException
+	{
+		if (__conf == null)
+			throw new NullPointerException();
+		
+		String file = __conf.getKillSwitchFile();
+		if (file == null || file.isEmpty())
+			return null;
+		
+		try
+		{
+			return new __KillSwitch__(Paths.get(file), _INTERVAL);
+		}
+		catch (InvalidPathException e)
+		{
+			Logger.error(e, "The kill switch file {} is not valid.", file);
+			return null;
+		}
+	}
+	
+	/**
+	 * This is the thread which checks the file.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Checker__
+		implements Runnable
+	{
+		/** The switch to check. */
+		private final Reference<__KillSwitch__> _switch;
+		
+		/** How often the file is checked, in nanoseconds. */
+		private final long _interval;
+		
+		/**
+		 * Initializes the checker.
+		 *
+		 * @param __s The switch to check.
+		 * @param __i How often the file is checked, in nanoseconds.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Checker__(Reference<__KillSwitch__> __s, long __i)
+			throws NullPointerException
+		{
+			if (__s == null)
+				throw new NullPointerException();
+			
+			this._switch = __s;
+			this._interval = __i;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final void run()
+		{
+			// This thread outlives the execution which started it, so it
+			// must not keep it
+			IOpipeService.__unbindThread();
+			
+			Reference<__KillSwitch__> ref = this._switch;
+			for (;;)
+			{
+				// Spurious wake ups just park again, the next check is
+				// counted from now so that a frozen container does not
+				// check many times once it thaws
+				long next = System.nanoTime() + this._interval;
+				for (long left; (left = next - System.nanoTime()) > 0;)
+					LockSupport.parkNanos(this, left);
+				
+				__KillSwitch__ killswitch = ref.get();
+				if (killswitch == null)
+					return;
+				killswitch.__check();
+			}
+		}
+	}
+}
+
@@ -0,0 +1,120 @@
+package com.iopipe;
+
+import com.iopipe.http.NullConnection;
+import com.iopipe.http.RemoteConnection;
+import com.iopipe.http.RemoteConnectionFactory;
+import com.iopipe.http.RemoteException;
+import com.iopipe.http.RemoteRequest;
+import com.iopipe.http.RemoteResult;
+import com.iopipe.http.RequestType;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This is a connection to the service which is only opened when it is first
+ * used, so that the classes needed to connect are not loaded while the
+ * service is being initialized.
+ *
+ * @since 2026/10/18
+ */
+final class __LazyConnection__
+	implements RemoteConnection
+{
+	/** The factory used to connect. */
+	protected final RemoteConnectionFactory factory;
+	
+	/** The URL to connect to. */
+	protected final String url;
+	
+	/** The authorization token. */
+	protected final String auth;
+	
+	/** The opened connection. */
+	private volatile RemoteConnection _connection;
+	
+	/**
+	 * Initializes the connection.
+	 *
+	 * @param __f The factory to connect with.
+	 * @param __url The URL to connect to.
+	 * @param __auth The authorization token.
+	 * @throws NullPointerException On null arguments except for
+	 * {@code __auth}.
+	 * @since 2026/10/18
+	 */
+	__LazyConnection__(RemoteConnectionFactory __f, String __url,
+		String __auth)
+		throws NullPointerException
+	{
+		if (__f == null || __url == null)
+			throw new NullPointerException();
+		
+		this.factory = __f;
+		this.url = __url;
+		this.auth = __auth;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void reset()
+	{
+		// Nothing needs to be reset if nothing was ever opened
+		RemoteConnection connection = this._connection;
+		if (connection != null)
+			connection.reset();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final RemoteResult send(RequestType __t, RemoteRequest __r)
+		throws NullPointerException, RemoteException
+	{
+		if (__t == null || __r == null)
+			throw new NullPointerException();
+		
+		return this.__open().send(__t, __r);
+	}
+	
+	/**
+	 * Opens the connection if it has not been opened.
+	 *
+	 * @return The opened connection.
+	 * @since 2026/10/18
+	 */
+	final RemoteConnection __open()
+	{
+		RemoteConnection rv = this._connection;
+		if (rv != null)
+			return rv;
+		
+		synchronized (this)
+		{
+			rv = this._connection;
+			if (rv != null)
+				return rv;
+			
+			// If the connection fails then it is not tried again, since the
+			// reason it failed is not going to change
+			try
+			{
+				rv = this.factory.connect(this.url, this.auth);
+			}
+			catch (RemoteException e)
+			{
+				Logger.error(e, "Could not connect to the remote server.");
+			}
+			
+			if (rv == null)
+				rv = new NullConnection();
+			
+			this._connection = rv;
+			return rv;
+		}
+	}
+}
+
@@ -0,0 +1,324 @@
+package com.iopipe;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is a snapshot of the CPU time of every native thread in the process,
+ * which includes threads of the virtual machine (such as the garbage
+ * collector and compilers) that are not visible as Java threads.
+ *
+ * Threads are classified by their name, the name is only read the first
+ * time a thread is seen since it is not changed afterwards. Since thread IDs
+ * are reused by the kernel, threads are identified by their ID along with
+ * the time they started.
+ *
+ * The stat file of each thread is kept open while the thread is alive since
+ * snapshots are taken twice for every invocation, they are closed when the
+ * thread is no longer listed.
+ *
+ * @since 2026/10/18
+ */
+final class __NativeThreads__
+{
+	/** Garbage collection threads. */
+	static final byte CLASS_GC =
+		0;
+	
+	/** Compiler threads. */
+	static final byte CLASS_COMPILER =
+		1;
+	
+	/** Other virtual machine threads. */
+	static final byte CLASS_VM =
+		2;
+	
+	/** Threads belonging to the agent. */
+	static final byte CLASS_AGENT =
+		3;
+	
+	/** Threads belonging to the application. */
+	static final byte CLASS_APPLICATION =
+		4;
+	
+	/** The names of each class. */
+	static final String[] CLASS_NAMES =
+		{"gc", "compiler", "vm", "agent", "application"};
+	
+	/** The prefixes of names for garbage collection threads. */
+	private static final String[] _GC_PREFIXES =
+		{
+			"GC ",
+			"G1 ",
+			"Gang worker",
+			"Concurrent Mark",
+			"ParGC Thread",
+			"Shenandoah",
+			"ZWorker",
+			"ZDirector",
+			"ZDriver",
+			"ZStat",
+			"ZUncommit",
+			"ZUnmapper",
+		};
+	
+	/** The prefixes of names for other virtual machine threads. */
+	private static final String[] _VM_PREFIXES =
+		{
+			"VM ",
+			"Reference Handl",
+			"Finalizer",
+			"Signal Dispatch",
+			"Service Thread",
+			"Notification Th",
+			"Attach Listener",
+			"Common-Cleaner",
+			"Monitor Deflati",
+			"Sweeper thread",
+		};
+	
+	/**
+	 * Threads which have been seen, by thread ID, the value is the start
+	 * time of the thread shifted up by eight bits along with its class.
+	 * Threads which have finished are removed whenever a snapshot is taken.
+	 */
+	private static final Map<Integer, Long> _SEEN =
+		new ConcurrentHashMap<>();
+	
+	/** The thread IDs, sorted. */
+	final int[] tids;
+	
+	/** The user and system time of each thread in clock ticks. */
+	final long[] cpu;
+	
+	/** The time each thread started, in clock ticks since boot. */
+	final long[] starts;
+	
+	/** The class of each thread. */
+	final byte[] classes;
+	
+	/**
+	 * Initializes the snapshot.
+	 *
+	 * @param __tids The thread IDs, sorted.
+	 * @param __cpu The time of each thread.
+	 * @param __st The start time of each thread.
+	 * @param __cl The class of each thread.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private __NativeThreads__(int[] __tids, long[] __cpu, long[] __st,
+		byte[] __cl)
+		throws NullPointerException
+	{
+		if (__tids == null || __cpu == null || __st == null || __cl == null)
+			throw new NullPointerException();
+		
+		this.tids = __tids;
+		this.cpu = __cpu;
+		this.starts = __st;
+		this.classes = __cl;
+	}
+	
+	/**
+	 * Returns the CPU time used by each class of thread since the given
+	 * snapshot, threads which finished in between are not counted.
+	 *
+	 * @param __s The earlier snapshot.
+	 * @return The time used by each class in clock ticks.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final long[] __since(__NativeThreads__ __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		long[] rv = new long[CLASS_NAMES.length];
+		int[] tids = this.tids,
+			was = __s.tids;
+		long[] cpu = this.cpu,
+			wascpu = __s.cpu,
+			starts = this.starts,
+			wasstarts = __s.starts;
+		byte[] classes = this.classes;
+		for (int i = 0, n = tids.length; i < n; i++)
+		{
+			// Threads which started in between count from zero, even if
+			// they were given the ID of a thread which finished
+			int dx = Arrays.binarySearch(was, tids[i]);
+			if (dx >= 0 && wasstarts[dx] != starts[i])
+				dx = -1;
+			rv[classes[i]] += Math.max(0, cpu[i] - (dx >= 0 ? wascpu[dx] : 0));
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Classifies the given thread.
+	 *
+	 * @param __tid The thread ID.
+	 * @return The class of the thread.
+	 * @since 2026/10/18
+	 */
+	private static final byte __classify(String __tid)
+	{
+		String name;
+		try
+		{
+			List<String> lines = Files.readAllLines(
+				Paths.get("/proc/self/task", __tid, "comm"));
+			if (lines.isEmpty())
+				return CLASS_APPLICATION;
+			name = lines.get(0);
+		}
+		catch (IOException|SecurityException e)
+		{
+			return CLASS_APPLICATION;
+		}
+		
+		// Names are limited to 15 characters, so only the start of names
+		// are checked
+		if (name.startsWith("IOpipe"))
+			return CLASS_AGENT;
+		if (name.contains("Compiler") || name.startsWith("JVMCI"))
+			return CLASS_COMPILER;
+		for (String prefix : _GC_PREFIXES)
+			if (name.startsWith(prefix))
+				return CLASS_GC;
+		for (String prefix : _VM_PREFIXES)
+			if (name.startsWith(prefix))
+				return CLASS_VM;
+		
+		return CLASS_APPLICATION;
+	}
+	
+	/**
+	 * Takes a snapshot of the native threads.
+	 *
+	 * @return The snapshot.
+	 * @since 2026/10/18
+	 */
+	static final __NativeThreads__ __snapshot()
+	{
+		int[] tids = new int[64];
+		long[] cpu = new long[64],
+			starts = new long[64];
+		byte[] classes = new byte[64];
+		int n = 0;
+		boolean complete = false;
+		
+		Map<Integer, Long> seen = _SEEN;
+		__ProcReader__ pr = __ProcReader__.__reader();
+		try (DirectoryStream<Path> tasks = Files.newDirectoryStream(
+			Paths.get("/proc/self/task")))
+		{
+			for (Path task : tasks)
+			{
+				String stid = task.getFileName().toString();
+				int tid;
+				try
+				{
+					tid = Integer.parseInt(stid);
+				}
+				catch (NumberFormatException e)
+				{
+					continue;
+				}
+				
+				// The thread may have finished, a kept file fails to read if
+				// it belongs to a finished thread whose ID was reused so
+				// it is opened again
+				String path = __NativeThreads__.__statPath(tid);
+				if ((!pr.__load(path, true) && !pr.__load(path, true)) ||
+					!pr.__seekAfterLast((byte)')'))
+					continue;
+				pr.__skipFields(11);
+				long time = pr.__long() + pr.__long();
+				pr.__skipFields(6);
+				long start = pr.__long();
+				
+				// The thread is only new if the ID was reused
+				Long was = seen.get(tid);
+				byte cl;
+				if (was != null && (was >>> 8) == start)
+					cl = (byte)(was & 0xFF);
+				else
+				{
+					cl = __NativeThreads__.__classify(stid);
+					seen.put(tid, (start << 8) | cl);
+				}
+				
+				if (n == tids.length)
+				{
+					tids = Arrays.copyOf(tids, n * 2);
+					cpu = Arrays.copyOf(cpu, n * 2);
+					starts = Arrays.copyOf(starts, n * 2);
+					classes = Arrays.copyOf(classes, n * 2);
+				}
+				
+				tids[n] = tid;
+				cpu[n] = time;
+				starts[n] = start;
+				classes[n] = cl;
+				n++;
+			}
+			
+			complete = true;
+		}
+		catch (IOException|SecurityException e)
+		{
+		}
+		
+		// Sort by thread ID so that snapshots can be compared
+		long[] order = new long[n];
+		for (int i = 0; i < n; i++)
+			order[i] = ((long)tids[i] << 32) | i;
+		Arrays.sort(order);
+		
+		int[] stids = new int[n];
+		long[] scpu = new long[n],
+			sstarts = new long[n];
+		byte[] sclasses = new byte[n];
+		for (int i = 0; i < n; i++)
+		{
+			int from = (int)order[i];
+			stids[i] = tids[from];
+			scpu[i] = cpu[from];
+			sstarts[i] = starts[from];
+			sclasses[i] = classes[from];
+		}
+		
+		// Forget threads which have finished and close their files, this is
+		// only done if every thread was listed
+		if (complete)
+			for (Integer tid : seen.keySet())
+				if (Arrays.binarySearch(stids, tid) < 0 &&
+					seen.remove(tid) != null)
+					__ProcReader__.__close(__NativeThreads__.__statPath(tid));
+		
+		return new __NativeThreads__(stids, scpu, sstarts, sclasses);
+	}
+	
+	/**
+	 * Returns the path to the stat file of the given thread.
+	 *
+	 * @param __tid The thread ID.
+	 * @return The path to the stat file.
+	 * @since 2026/10/18
+	 */
+	static final String __statPath(int __tid)
+	{
+		return "/proc/self/task/" + __tid + "/stat";
+	}
+}
+
@@ -19,6 +19,15 @@ final class __NoOpExecution__
 	protected final long starttimemillis =
 		System.currentTimeMillis();
 	
+	/** The service which ran the function, may be {@code null}. */
+	protected final IOpipeService service;
+	
+	/** The context of the function, may be {@code null}. */
+	protected final Context context;
+	
+	/** The input to the function, may be {@code null}. */
+	protected final Object input;
+	
 	/**
 	 * Initializes the noop execution.
 	 *
@@ -26,8 +35,28 @@ final class __NoOpExecution__
 	 * @since 2018/08/27
 	 */
 	__NoOpExecution__(boolean __cold)
+	{
+		this(__cold, null, null, null);
+	}
+	
+	/**
+	 * Initializes the noop execution for a function which is run by a
+	 * service which is disabled.
+	 *
+	 * @param __cold Has this been coldstarted?
+	 * @param __sv The service which runs the function, may be {@code null}.
+	 * @param __context The context of the function, may be {@code null}.
+	 * @param __input The input to the function, may be {@code null}.
+	 * @since 2026/10/18
+	 */
+	__NoOpExecution__(boolean __cold, IOpipeService __sv, Context __context,
+		Object __input)
 	{
 		super(__cold);
+		
+		this.service = __sv;
+		this.context = __context;
+		this.input = __input;
 	}
 	
 	/**
@@ -57,7 +86,10 @@ final class __NoOpExecution__
 	@Override
 	public final Context context()
 	{
-		return new __Context__();
+		Context rv = this.context;
+		if (rv == null)
+			return new __Context__();
+		return rv;
 	}
 	
 	/**
@@ -127,7 +159,7 @@ final class __NoOpExecution__
 	@Override
 	public final Object input()
 	{
-		return null;
+		return this.input;
 	}
 	
 	/**
@@ -157,7 +189,10 @@ final class __NoOpExecution__
 	@Override
 	public final IOpipeService service()
 	{
-		return IOpipeService.instance();
+		IOpipeService rv = this.service;
+		if (rv == null)
+			return IOpipeService.instance();
+		return rv;
 	}
 	
 	/**
@@ -1,23 +1,30 @@
 package com.iopipe;
 
-import com.iopipe.plugin.eventinfo.EventInfoPlugin;
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
 import com.iopipe.plugin.IOpipePluginPreExecutable;
-import com.iopipe.plugin.logger.LoggerPlugin;
-import com.iopipe.plugin.profiler.ProfilerPlugin;
-import com.iopipe.plugin.trace.TracePlugin;
+import com.iopipe.plugin.PluginRegistryProcessor;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.IOException;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.ServiceConfigurationError;
-import java.util.ServiceLoader;
+import java.util.Set;
 import org.pmw.tinylog.Logger;
 
 /**
@@ -28,15 +35,53 @@ import org.pmw.tinylog.Logger;
  */
 final class __Plugins__
 {
-	/** Plugin information per execution class. */
+	/**
+	 * Plugins which are built-in, these are always first and in this order.
+	 * These are also used if the plugin registry is missing so that they are
+	 * available even if the service loader has issues or a user failed to
+	 * merge the service files correctly.
+	 */
+	private static final String[] _BUILTINS =
+		{
+			"com.iopipe.plugin.trace.TracePlugin",
+			"com.iopipe.plugin.profiler.ProfilerPlugin",
+			"com.iopipe.plugin.eventinfo.EventInfoPlugin",
+			"com.iopipe.plugin.logger.LoggerPlugin",
+		};
+	
+	/** Plugin information per execution class, for enabled plugins. */
 	private final Map<Class<? extends IOpipePluginExecution>, __Info__> _info;
 	
 	/** Execution to index. */
 	final Map<Class<? extends IOpipePluginExecution>, Integer> _xtoi;
 	
+	/**
+	 * Execution class to slot index, this is attached to the class so that
+	 * lookups do not need to hash, {@code -1} is used for unknown classes.
+	 */
+	private final ClassValue<Integer> _slots;
+	
 	/** Infos. */
 	final __Info__[] _infos;
 	
+	/** Enabled pre-executable plugins, in plugin order. */
+	final IOpipePluginPreExecutable[] _preexecs;
+	
+	/** The execution slots for each pre-executable plugin. */
+	final int[] _preslots;
+	
+	/** Enabled post-executable plugins, in plugin order. */
+	final IOpipePluginPostExecutable[] _postexecs;
+	
+	/** The execution slots for each post-executable plugin. */
+	final int[] _postslots;
+	
+	/** Plugins which are enabled, in plugin order. */
+	final IOpipePlugin[] _enabled;
+	
+	/** The slots of enabled plugins which may be prewarmed. */
+	final int[] _prewarmslots;
+	
 	/** The number of plugins available. */
 	protected final int numplugins;
 	
@@ -57,40 +102,152 @@ final class __Plugins__
 		// Execution class to index
 		Map<Class<? extends IOpipePluginExecution>, Integer> xtoi =
 			new HashMap<>();
-		int at = 0;
 		
-		// Load plugins from services
+		// Plugins are only created if they are enabled
 		Map<Class<? extends IOpipePluginExecution>, __Info__> info =
 			new LinkedHashMap<>();
-		for (IOpipePlugin p : __Plugins__.__searchPlugins())
-			try
+		List<__Info__> all = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		
+		// The application registry has every plugin, so the class path only
+		// needs to be searched if there is none
+		Collection<__Registered__> registry = __Plugins__.__application();
+		boolean search = (registry == null);
+		if (search)
+			registry = __Plugins__.__registry();
+		for (__Registered__ r : registry)
+		{
+			seen.add(r.classname);
+			
+			// Disabled plugins are just reported
+			if (!__enable || !__conf.isPluginEnabled(r.name, r.enabled))
 			{
-				__Info__ i = new __Info__(__enable, p, __conf);
-				
-				Class<? extends IOpipePluginExecution> xcl =
-					i.executionClass();
-				if (!info.containsKey(xcl))
+				all.add(new __Info__(r));
+				continue;
+			}
+			
+			IOpipePlugin p = __Plugins__.__create(r.classname);
+			if (p != null)
+				__Plugins__.__add(__enable, p, __conf, info, xtoi, all);
+		}
+		
+		// Without a registry the built-in plugins must still be available
+		if (registry.isEmpty())
+			for (String cl : _BUILTINS)
+				if (seen.add(cl))
 				{
-					info.put(xcl, i);
-					xtoi.put(xcl, at++);
+					IOpipePlugin p = __Plugins__.__create(cl);
+					if (p != null)
+						__Plugins__.__add(__enable, p, __conf, info, xtoi,
+							all);
 				}
+		
+		// Plugins which are not in any registry are only known to the
+		// service loader, these must be created to be described
+		if (search)
+			for (String cl : __Plugins__.__services())
+				if (seen.add(cl))
+				{
+					IOpipePlugin p = __Plugins__.__create(cl);
+					if (p != null)
+						__Plugins__.__add(__enable, p, __conf, info, xtoi,
+							all);
+				}
+		
+		// Set info
+		__Info__[] infos = all.<__Info__>toArray(new __Info__[all.size()]);
+		this._infos = infos;
+		
+		// Determine which plugins are to be called before and after the
+		// method executes, this is done once here so that executions do not
+		// need to check every plugin for every invocation
+		int numpre = 0,
+			numpost = 0;
+		for (__Info__ i : infos)
+		{
+			if (i.getPreExecutable() != null)
+				numpre++;
+			if (i.getPostExecutable() != null)
+				numpost++;
+		}
+		
+		IOpipePluginPreExecutable[] preexecs =
+			new IOpipePluginPreExecutable[numpre];
+		IOpipePluginPostExecutable[] postexecs =
+			new IOpipePluginPostExecutable[numpost];
+		int[] preslots = new int[numpre],
+			postslots = new int[numpost];
+		for (int x = 0, n = infos.length, ipre = 0, ipost = 0; x < n; x++)
+		{
+			__Info__ i = infos[x];
+			
+			IOpipePluginPreExecutable pre = i.getPreExecutable();
+			if (pre != null)
+			{
+				preexecs[ipre] = pre;
+				preslots[ipre++] = x;
 			}
 			
-			// Do not let plugin initailization fail
-			catch (RuntimeException e)
+			IOpipePluginPostExecutable post = i.getPostExecutable();
+			if (post != null)
 			{
-				Logger.error(e, "Failed to initialize plugin {}.",
-					p.getClass().getName());
+				postexecs[ipost] = post;
+				postslots[ipost++] = x;
 			}
+		}
 		
-		// Set info
-		this._infos = info.values().<__Info__>toArray(new __Info__[
-			info.size()]);
+		// The enabled plugins are used for container lifecycle events
+		int numenabled = 0;
+		for (__Info__ i : infos)
+			if (i.isEnabled())
+				numenabled++;
+		IOpipePlugin[] enabled = new IOpipePlugin[numenabled];
+		for (int x = 0, n = infos.length, en = 0; x < n; x++)
+			if (infos[x].isEnabled())
+				enabled[en++] = infos[x].plugin();
+		this._enabled = enabled;
+		
+		// Only plugins which allow it are created when prewarming
+		int[] prewarmslots = new int[numenabled];
+		int numprewarm = 0;
+		for (int x = 0, n = infos.length; x < n; x++)
+			if (infos[x].isEnabled())
+				try
+				{
+					if (infos[x].plugin().isPrewarmable())
+						prewarmslots[numprewarm++] = x;
+				}
+				catch (RuntimeException e)
+				{
+					Logger.error(e, "Could not check if plugin {} may be " +
+						"prewarmed.", infos[x].name);
+				}
+		this._prewarmslots = Arrays.copyOf(prewarmslots, numprewarm);
+		
+		this._preexecs = preexecs;
+		this._preslots = preslots;
+		this._postexecs = postexecs;
+		this._postslots = postslots;
+		
+		// Slot lookup, this is calculated at most once per class
+		this._slots = new ClassValue<Integer>()
+			{
+				/**
+				 * {@inheritDoc}
+				 * @since 2026/10/18
+				 */
+				@Override
+				protected Integer computeValue(Class<?> __cl)
+				{
+					Integer rv = xtoi.get(__cl);
+					return (rv == null ? -1 : rv);
+				}
+			};
 		
 		// Count them
 		this._xtoi = xtoi;
 		this._info = info;
-		this.numplugins = info.size();
+		this.numplugins = infos.length;
 	}
 	
 	/**
@@ -111,6 +268,106 @@ final class __Plugins__
 		return this._info.get(__c);
 	}
 	
+	/**
+	 * Informs all enabled plugins that a checkpoint of the process is about
+	 * to be taken.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __beforeCheckpoint()
+	{
+		for (IOpipePlugin p : this._enabled)
+			try
+			{
+				p.beforeCheckpoint();
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not prepare plugin {} for a " +
+					"checkpoint.", p.name());
+			}
+	}
+	
+	/**
+	 * Initializes the container state of all enabled plugins.
+	 *
+	 * @param __sv The owning service.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __init(IOpipeService __sv)
+		throws NullPointerException
+	{
+		if (__sv == null)
+			throw new NullPointerException();
+		
+		for (IOpipePlugin p : this._enabled)
+			try
+			{
+				p.init(__sv);
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not initialize plugin {}.", p.name());
+			}
+	}
+	
+	/**
+	 * Shuts down all of the enabled plugins, in reverse order.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __shutdown()
+	{
+		IOpipePlugin[] enabled = this._enabled;
+		for (int i = enabled.length - 1; i >= 0; i--)
+			try
+			{
+				enabled[i].shutdown();
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not shutdown plugin {}.",
+					enabled[i].name());
+			}
+	}
+	
+	/**
+	 * Informs all enabled plugins that a warm container has started a new
+	 * execution.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __thaw()
+	{
+		for (IOpipePlugin p : this._enabled)
+			try
+			{
+				p.onThaw();
+			}
+			catch (RuntimeException e)
+			{
+				Logger.error(e, "Could not thaw plugin {}.", p.name());
+			}
+	}
+	
+	/**
+	 * Returns the execution slot for the given execution class.
+	 *
+	 * @param __cl The execution state class to get the slot of.
+	 * @return The slot index or {@code -1} if there is no such plugin.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final int __slot(Class<?> __cl)
+		throws NullPointerException
+	{
+		if (__cl == null)
+			throw new NullPointerException();
+		
+		return this._slots.get(__cl);
+	}
+	
 	/**
 	 * Returns the plugin information.
 	 *
@@ -119,45 +376,290 @@ final class __Plugins__
 	 */
 	final __Info__[] __info()
 	{
-		Collection<__Info__> rv = this._info.values();
-		return rv.<__Info__>toArray(new __Info__[rv.size()]);
+		return this._infos.clone();
 	}
 	
 	/**
-	 * This searches for plugins which are available being built-in and
-	 * made available by the service load.
+	 * Adds the given plugin, if a plugin with the same execution class was
+	 * not already added. The slot of the plugin is its position in the list
+	 * of all plugins.
 	 *
-	 * @return An iterable over plugins used.
-	 * @since 2018/02/28
+	 * @param __enable Global service enabled state.
+	 * @param __p The plugin to add.
+	 * @param __conf The configuration for the service.
+	 * @param __info Information for each execution class.
+	 * @param __xtoi The slot for each execution class.
+	 * @param __all All plugins, in plugin order.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
 	 */
-	private static final Iterable<IOpipePlugin> __searchPlugins()
+	private static final void __add(boolean __enable, IOpipePlugin __p,
+		IOpipeConfiguration __conf,
+		Map<Class<? extends IOpipePluginExecution>, __Info__> __info,
+		Map<Class<? extends IOpipePluginExecution>, Integer> __xtoi,
+		List<__Info__> __all)
+		throws NullPointerException
 	{
-		Collection<IOpipePlugin> rv = new LinkedList<>();
-		
-		// Provide some built-in plugins so that way if the service loader
-		// has issues or a user failed to merge the service files correctly
-		// then this will ensure that these plugins are available no matter
-		// what happens
-		rv.add(new TracePlugin());
-		rv.add(new ProfilerPlugin());
-		rv.add(new EventInfoPlugin());
-		rv.add(new LoggerPlugin());
-		
-		// Use plugins provided by the service loader
+		if (__p == null || __conf == null || __info == null ||
+			__xtoi == null || __all == null)
+			throw new NullPointerException();
+		
 		try
 		{
-			for (IOpipePlugin p : ServiceLoader.<IOpipePlugin>load(
-				IOpipePlugin.class))
-				rv.add(p);
+			__Info__ i = new __Info__(__enable, __p, __conf);
+			
+			Class<? extends IOpipePluginExecution> xcl = i.executionClass();
+			if (!__info.containsKey(xcl))
+			{
+				__info.put(xcl, i);
+				__xtoi.put(xcl, __all.size());
+				__all.add(i);
+			}
 		}
 		
-		// There is a bad service configuration
-		catch (ServiceConfigurationError e)
+		// Do not let plugin initailization fail
+		catch (RuntimeException e)
 		{
-			Logger.error(e, "There is a service configuration error, this " +
-				"means that most and usually all plugins will be disabled." +
-				"The usual cause of this is META-INF/services which is" +
-				"missing a class or that class fails to load.");
+			Logger.error(e, "Failed to initialize plugin {}.",
+				__p.getClass().getName());
+		}
+	}
+	
+	/**
+	 * Creates the given plugin.
+	 *
+	 * @param __cl The class which implements the plugin.
+	 * @return The plugin or {@code null} if it could not be created.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final IOpipePlugin __create(String __cl)
+		throws NullPointerException
+	{
+		if (__cl == null)
+			throw new NullPointerException();
+		
+		try
+		{
+			return Class.forName(__cl).asSubclass(IOpipePlugin.class).
+				getConstructor().newInstance();
+		}
+		catch (ClassNotFoundException|IllegalAccessException|
+			InstantiationException|InvocationTargetException|
+			LinkageError|NoSuchMethodException|RuntimeException e)
+		{
+			Logger.error(e, "Failed to initialize plugin {}.", __cl);
+			return null;
+		}
+	}
+	
+	/**
+	 * Reads the application registry, which was generated when the function
+	 * was compiled and contains every plugin.
+	 *
+	 * @return The registered plugins or {@code null} if there is no
+	 * application registry.
+	 * @since 2026/10/18
+	 */
+	static final Collection<__Registered__> __application()
+	{
+		String entries = __Plugins__.__entries(
+			PluginRegistryProcessor.APPLICATION_REGISTRY, false);
+		if (entries == null)
+			return null;
+		
+		Map<String, __Registered__> rv = new LinkedHashMap<>();
+		__Plugins__.__parse(entries, rv);
+		return __Plugins__.__ordered(rv);
+	}
+	
+	/**
+	 * Reads the plugin registries which were generated when the agent and
+	 * any plugins were compiled, every JAR has its own registry.
+	 *
+	 * @return The registered plugins, this will be empty if there are no
+	 * registries.
+	 * @since 2026/10/18
+	 */
+	static final Collection<__Registered__> __registry()
+	{
+		// Plugins are only registered once even if multiple registries list
+		// them, such as when the same JAR is on the class path twice
+		Map<String, __Registered__> rv = new LinkedHashMap<>();
+		for (String registry : __Plugins__.__lines(
+			PluginRegistryProcessor.REGISTRY_INDEX))
+		{
+			String entries = __Plugins__.__entries(registry, true);
+			if (entries != null)
+				__Plugins__.__parse(entries, rv);
+		}
+		
+		if (rv.isEmpty())
+			Logger.warn("There is no plugin registry, plugins will be " +
+				"searched for instead.");
+		
+		return __Plugins__.__ordered(rv);
+	}
+	
+	/**
+	 * Reads the entries of the given registry class.
+	 *
+	 * @param __cl The registry class.
+	 * @param __warn Should a warning be logged if the class is missing?
+	 * @return The entries or {@code null} if they could not be read.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final String __entries(String __cl, boolean __warn)
+		throws NullPointerException
+	{
+		if (__cl == null)
+			throw new NullPointerException();
+		
+		// The field is read reflectively because the registries are only
+		// known once every JAR has been compiled
+		try
+		{
+			return (String)Class.forName(__cl).getField(
+				PluginRegistryProcessor.REGISTRY_FIELD).get(null);
+		}
+		catch (ClassNotFoundException e)
+		{
+			if (__warn)
+				Logger.warn(e, "Could not read the plugin registry {}.",
+					__cl);
+			return null;
+		}
+		catch (IllegalAccessException|LinkageError|NoSuchFieldException|
+			RuntimeException e)
+		{
+			Logger.warn(e, "Could not read the plugin registry {}.", __cl);
+			return null;
+		}
+	}
+	
+	/**
+	 * Orders the registered plugins so that the built-in plugins are first.
+	 *
+	 * @param __r The registered plugins, by class.
+	 * @return The ordered plugins.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final Collection<__Registered__> __ordered(
+		Map<String, __Registered__> __r)
+		throws NullPointerException
+	{
+		if (__r == null)
+			throw new NullPointerException();
+		
+		Map<String, __Registered__> rv = new LinkedHashMap<>();
+		for (String cl : _BUILTINS)
+		{
+			__Registered__ r = __r.get(cl);
+			if (r != null)
+				rv.put(cl, r);
+		}
+		for (__Registered__ r : __r.values())
+			rv.putIfAbsent(r.classname, r);
+		return rv.values();
+	}
+	
+	/**
+	 * Parses the entries of a registry, plugins which are already
+	 * registered are skipped.
+	 *
+	 * @param __entries The entries to parse.
+	 * @param __rv The registered plugins, by class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __parse(String __entries,
+		Map<String, __Registered__> __rv)
+		throws NullPointerException
+	{
+		if (__entries == null || __rv == null)
+			throw new NullPointerException();
+		
+		for (String line : __entries.split("\n"))
+		{
+			String[] fields = line.split("\t", -1);
+			if (fields.length != PluginRegistryProcessor.REGISTRY_FIELD_COUNT ||
+				__rv.containsKey(fields[0]))
+				continue;
+			
+			__rv.put(fields[0], new __Registered__(fields[1], fields[2],
+				(fields[3].isEmpty() ? null : fields[3]),
+				Boolean.parseBoolean(fields[4]), fields[0]));
+		}
+	}
+	
+	/**
+	 * Returns the classes of the plugins which are made available by the
+	 * service loader, the plugins are not created so that plugins which are
+	 * already registered are not created twice.
+	 *
+	 * @return The plugin classes, in the order they are listed.
+	 * @since 2026/10/18
+	 */
+	private static final Collection<String> __services()
+	{
+		Collection<String> rv = new LinkedHashSet<>();
+		for (String line : __Plugins__.__lines("META-INF/services/" +
+			IOpipePlugin.class.getName()))
+		{
+			// Comments are ignored by the service loader
+			int hash = line.indexOf('#');
+			if (hash >= 0)
+				line = line.substring(0, hash).trim();
+			
+			if (!line.isEmpty())
+				rv.add(line);
+		}
+		return rv;
+	}
+	
+	/**
+	 * Reads the lines of every resource with the given name.
+	 *
+	 * @param __rc The resource to read.
+	 * @return The trimmed lines which are not empty.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final Collection<String> __lines(String __rc)
+		throws NullPointerException
+	{
+		if (__rc == null)
+			throw new NullPointerException();
+		
+		Collection<String> rv = new ArrayList<>();
+		try
+		{
+			ClassLoader loader = __Plugins__.class.getClassLoader();
+			Enumeration<URL> urls = (loader != null ?
+				loader.getResources(__rc) :
+				ClassLoader.getSystemResources(__rc));
+			while (urls.hasMoreElements())
+				try (BufferedReader in = new BufferedReader(
+					new InputStreamReader(urls.nextElement().openStream(),
+					StandardCharsets.UTF_8)))
+				{
+					for (String line = in.readLine(); line != null;
+						line = in.readLine())
+					{
+						line = line.trim();
+						if (!line.isEmpty())
+							rv.add(line);
+					}
+				}
+		}
+		
+		// Plugins which could not be read are just not available
+		catch (IOException e)
+		{
+			Logger.error(e, "Could not read {}, this means that some or all " +
+				"plugins will be disabled.", __rc);
 		}
 		
 		return rv;
@@ -170,7 +672,7 @@ final class __Plugins__
 	 */
 	static final class __Info__
 	{
-		/** The plugin reference. */
+		/** The plugin reference, {@code null} if it was never created. */
 		protected final IOpipePlugin plugin;
 		
 		/** The name. */
@@ -185,7 +687,10 @@ final class __Plugins__
 		/** Is this plugin enabled? */
 		protected final boolean enabled;
 		
-		/** The execution state class of the plugin. */
+		/**
+		 * The execution state class of the plugin, {@code null} if it was
+		 * never created.
+		 */
 		protected final Class<? extends IOpipePluginExecution> executionclass;
 		
 		/** Is this pre-executable? */
@@ -239,6 +744,30 @@ final class __Plugins__
 			this.postexecutable = (__p instanceof IOpipePluginPostExecutable);
 		}
 		
+		/**
+		 * Initializes the information for a registered plugin which is
+		 * disabled and was never created.
+		 *
+		 * @param __r The registered plugin.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		private __Info__(__Registered__ __r)
+			throws NullPointerException
+		{
+			if (__r == null)
+				throw new NullPointerException();
+			
+			this.plugin = null;
+			this.name = __r.name;
+			this.version = __r.version;
+			this.homepage = __r.homepage;
+			this.enabled = false;
+			this.executionclass = null;
+			this.preexecutable = false;
+			this.postexecutable = false;
+		}
+		
 		/**
 		 * Returns the execution type of the plugin.
 		 *
@@ -312,7 +841,7 @@ final class __Plugins__
 		/**
 		 * Returns the plugin class.
 		 *
-		 * @return The plugin class.
+		 * @return The plugin class, {@code null} if it was never created.
 		 * @since 2018/01/30
 		 */
 		public final IOpipePlugin plugin()
@@ -348,5 +877,55 @@ final class __Plugins__
 			return this.version;
 		}
 	}
+	
+	/**
+	 * Describes a plugin in the registry, so that it does not need to be
+	 * loaded to determine if it is enabled.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Registered__
+	{
+		/** The name. */
+		final String name;
+		
+		/** The version. */
+		final String version;
+		
+		/** The homepage, may be {@code null}. */
+		final String homepage;
+		
+		/** Is this enabled by default? */
+		final boolean enabled;
+		
+		/** The class which implements the plugin. */
+		final String classname;
+		
+		/**
+		 * Initializes the description.
+		 *
+		 * @param __n The name.
+		 * @param __v The version.
+		 * @param __h The homepage.
+		 * @param __e Is this enabled by default?
+		 * @param __cl The class which implements the plugin.
+		 * @throws NullPointerException On null arguments except for
+		 * {@code __h}.
+		 * @since 2026/10/18
+		 */
+		__Registered__(String __n, String __v, String __h, boolean __e,
+			String __cl)
+			throws NullPointerException
+		{
+			if (__n == null || __v == null || __cl == null)
+				throw new NullPointerException();
+			
+			this.name = __n;
+			this.version = __v;
+			this.homepage = __h;
+			this.enabled = __e;
+			this.classname = __cl;
+		}
+	}
 }
 
@@ -0,0 +1,468 @@
+package com.iopipe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This reads files in {@code /proc} into a direct buffer which belongs to the
+ * current thread and parses numbers from it in place, so that measurements
+ * which are taken for every invocation do not create any strings.
+ *
+ * Files which are read often are kept open and are read with positional
+ * reads, which may be done by multiple threads at once.
+ *
+ * @since 2026/10/18
+ */
+final class __ProcReader__
+{
+	/** The initial size of the buffer. */
+	private static final int _INITIAL_SIZE =
+		16384;
+	
+	/** The maximum size of the buffer, larger files are truncated. */
+	private static final int _MAX_SIZE =
+		1048576;
+	
+	/** The reader for each thread. */
+	private static final ThreadLocal<__ProcReader__> _READERS =
+		new ThreadLocal<>();
+	
+	/** Files which are kept open. */
+	private static final ConcurrentMap<String, FileChannel> _CHANNELS =
+		new ConcurrentHashMap<>();
+	
+	/** The buffer which files are read into. */
+	private ByteBuffer _buf =
+		ByteBuffer.allocateDirect(_INITIAL_SIZE);
+	
+	/** The number of bytes which were read. */
+	private int _limit;
+	
+	/** The current parse position. */
+	private int _at;
+	
+	/**
+	 * Only created by {@link #__reader()}.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __ProcReader__()
+	{
+	}
+	
+	/**
+	 * Returns the current parse position.
+	 *
+	 * @return The parse position.
+	 * @since 2026/10/18
+	 */
+	final int __at()
+	{
+		return this._at;
+	}
+	
+	/**
+	 * Sets the current parse position.
+	 *
+	 * @param __at The position to parse from.
+	 * @since 2026/10/18
+	 */
+	final void __at(int __at)
+	{
+		this._at = Math.max(0, Math.min(this._limit, __at));
+	}
+	
+	/**
+	 * Returns the byte at the given position.
+	 *
+	 * @param __i The position to read.
+	 * @return The byte or {@code -1} if it is past the end.
+	 * @since 2026/10/18
+	 */
+	final int __byteAt(int __i)
+	{
+		if (__i < 0 || __i >= this._limit)
+			return -1;
+		return this._buf.get(__i) & 0xFF;
+	}
+	
+	/**
+	 * Parses a decimal number in the same way as {@link #__long()}, but the
+	 * value is clamped to an integer.
+	 *
+	 * @return The parsed number or {@code 0} if there is no number.
+	 * @since 2026/10/18
+	 */
+	final int __int()
+	{
+		return (int)Math.max(Integer.MIN_VALUE,
+			Math.min(Integer.MAX_VALUE, this.__long()));
+	}
+	
+	/**
+	 * Reads the given file, the parse position is set to the start.
+	 *
+	 * @param __path The path to read.
+	 * @param __keep Should the file be kept open for later reads?
+	 * @return If the file was read.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final boolean __load(String __path, boolean __keep)
+		throws NullPointerException
+	{
+		if (__path == null)
+			throw new NullPointerException();
+		
+		this._limit = 0;
+		this._at = 0;
+		
+		ConcurrentMap<String, FileChannel> channels = _CHANNELS;
+		FileChannel ch = (__keep ? channels.get(__path) : null);
+		boolean close = false;
+		try
+		{
+			if (ch == null)
+			{
+				ch = FileChannel.open(Paths.get(__path),
+					StandardOpenOption.READ);
+				close = true;
+				
+				// Keep it open unless another thread already did
+				if (__keep && channels.putIfAbsent(__path, ch) == null)
+					close = false;
+			}
+			
+			// Files in /proc have no size, so read until the end and grow
+			// the buffer if it was filled
+			for (;;)
+			{
+				ByteBuffer buf = this._buf;
+				buf.clear();
+				
+				long pos = 0;
+				int n;
+				while (buf.hasRemaining() && (n = ch.read(buf, pos)) > 0)
+					pos += n;
+				
+				int cap = buf.capacity();
+				if (buf.hasRemaining() || cap >= _MAX_SIZE)
+				{
+					this._limit = (int)pos;
+					return true;
+				}
+				
+				this._buf = ByteBuffer.allocateDirect(
+					Math.min(_MAX_SIZE, cap * 2));
+			}
+		}
+		
+		// If a kept file fails then it is opened again next time
+		catch (IOException|SecurityException|
+			UnsupportedOperationException e)
+		{
+			if (ch != null && !close && channels.remove(__path, ch))
+				close = true;
+			
+			return false;
+		}
+		finally
+		{
+			if (close && ch != null)
+				try
+				{
+					ch.close();
+				}
+				catch (IOException e)
+				{
+				}
+		}
+	}
+	
+	/**
+	 * Parses a decimal number at the parse position after skipping any
+	 * blanks, the parse position is placed after the number.
+	 *
+	 * @return The parsed number or {@code 0} if there is no number.
+	 * @since 2026/10/18
+	 */
+	final long __long()
+	{
+		ByteBuffer buf = this._buf;
+		int at = this.__skipBlanks(),
+			limit = this._limit;
+		
+		boolean neg = false;
+		if (at < limit && buf.get(at) == '-')
+		{
+			neg = true;
+			at++;
+		}
+		
+		long rv = 0;
+		for (; at < limit; at++)
+		{
+			int c = buf.get(at) - '0';
+			if (c < 0 || c > 9)
+				break;
+			rv = (rv * 10) + c;
+		}
+		
+		this._at = at;
+		return (neg ? -rv : rv);
+	}
+	
+	/**
+	 * Moves the parse position to the start of the next line.
+	 *
+	 * @return If there is a next line.
+	 * @since 2026/10/18
+	 */
+	final boolean __nextLine()
+	{
+		ByteBuffer buf = this._buf;
+		int at = this._at,
+			limit = this._limit;
+		
+		while (at < limit && buf.get(at) != '\n')
+			at++;
+		
+		this._at = Math.min(limit, at + 1);
+		return at + 1 < limit;
+	}
+	
+	/**
+	 * Finds the last occurrence of the given byte and places the parse
+	 * position after it.
+	 *
+	 * @param __b The byte to find.
+	 * @return If it was found.
+	 * @since 2026/10/18
+	 */
+	final boolean __seekAfterLast(byte __b)
+	{
+		ByteBuffer buf = this._buf;
+		for (int i = this._limit - 1; i >= 0; i--)
+			if (buf.get(i) == __b)
+			{
+				this._at = i + 1;
+				return true;
+			}
+		
+		return false;
+	}
+	
+	/**
+	 * Finds the given key anywhere after the parse position and places the
+	 * parse position after the key.
+	 *
+	 * @param __key The key to find.
+	 * @return If the key was found, otherwise the parse position is at
+	 * the end.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final boolean __seek(byte[] __key)
+		throws NullPointerException
+	{
+		if (__key == null)
+			throw new NullPointerException();
+		
+		int limit = this._limit;
+		for (; this._at < limit; this._at++)
+			if (this.__startsWith(__key))
+			{
+				this._at += __key.length;
+				return true;
+			}
+		
+		return false;
+	}
+	
+	/**
+	 * Finds the line which starts with the given key, starting from the
+	 * parse position, and places the parse position after the key.
+	 *
+	 * @param __key The key to find.
+	 * @return If the key was found, otherwise the parse position is at
+	 * the end.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final boolean __seekLine(byte[] __key)
+		throws NullPointerException
+	{
+		if (__key == null)
+			throw new NullPointerException();
+		
+		// Only the start of lines are checked
+		int at = this._at;
+		if (at > 0 && this._buf.get(at - 1) != '\n')
+			if (!this.__nextLine())
+				return false;
+		
+		do
+		{
+			if (this.__startsWith(__key))
+			{
+				this._at += __key.length;
+				return true;
+			}
+		} while (this.__nextLine());
+		
+		this._at = this._limit;
+		return false;
+	}
+	
+	/**
+	 * Skips the given number of blank separated fields.
+	 *
+	 * @param __n The number of fields to skip.
+	 * @since 2026/10/18
+	 */
+	final void __skipFields(int __n)
+	{
+		ByteBuffer buf = this._buf;
+		int limit = this._limit;
+		
+		for (int i = 0; i < __n; i++)
+		{
+			int at = this.__skipBlanks();
+			while (at < limit)
+			{
+				byte b = buf.get(at);
+				if (b == ' ' || b == '\t' || b == '\n')
+					break;
+				at++;
+			}
+			this._at = at;
+		}
+	}
+	
+	/**
+	 * Returns whether the bytes at the parse position start with the given
+	 * key.
+	 *
+	 * @param __key The key to check.
+	 * @return If the key is at the parse position.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final boolean __startsWith(byte[] __key)
+		throws NullPointerException
+	{
+		if (__key == null)
+			throw new NullPointerException();
+		
+		ByteBuffer buf = this._buf;
+		int at = this._at,
+			n = __key.length;
+		if (at + n > this._limit)
+			return false;
+		
+		for (int i = 0; i < n; i++)
+			if (buf.get(at + i) != __key[i])
+				return false;
+		return true;
+	}
+	
+	/**
+	 * Skips spaces and tabs at the parse position.
+	 *
+	 * @return The new parse position.
+	 * @since 2026/10/18
+	 */
+	private final int __skipBlanks()
+	{
+		ByteBuffer buf = this._buf;
+		int at = this._at,
+			limit = this._limit;
+		
+		while (at < limit)
+		{
+			byte b = buf.get(at);
+			if (b != ' ' && b != '\t')
+				break;
+			at++;
+		}
+		
+		return (this._at = at);
+	}
+	
+	/**
+	 * Closes the given file if it is kept open, such as when it belongs to
+	 * a thread or process which has finished.
+	 *
+	 * @param __path The path of the file to close.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final void __close(String __path)
+		throws NullPointerException
+	{
+		if (__path == null)
+			throw new NullPointerException();
+		
+		FileChannel ch = _CHANNELS.remove(__path);
+		if (ch != null)
+			try
+			{
+				ch.close();
+			}
+			catch (IOException e)
+			{
+			}
+	}
+	
+	/**
+	 * Closes all of the files which are kept open, they are opened again when
+	 * they are next read. This is done before a checkpoint of the process is
+	 * taken since a process with open files cannot be checkpointed.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final void __closeAll()
+	{
+		for (String path : _CHANNELS.keySet())
+			__ProcReader__.__close(path);
+	}
+	
+	/**
+	 * Returns a key which may be searched for.
+	 *
+	 * @param __s The key string.
+	 * @return The key bytes.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final byte[] __key(String __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		return __s.getBytes(StandardCharsets.US_ASCII);
+	}
+	
+	/**
+	 * Returns the reader for the current thread.
+	 *
+	 * @return The reader for this thread.
+	 * @since 2026/10/18
+	 */
+	static final __ProcReader__ __reader()
+	{
+		ThreadLocal<__ProcReader__> readers = _READERS;
+		__ProcReader__ rv = readers.get();
+		if (rv == null)
+			readers.set((rv = new __ProcReader__()));
+		return rv;
+	}
+}
+
@@ -0,0 +1,463 @@
+package com.iopipe;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This captures the execution of the current thread so that it may be bound
+ * to another thread while a task runs there and then restored to what it was
+ * before.
+ *
+ * @since 2026/10/18
+ */
+final class __Propagator__
+{
+	/** The reference to the captured execution. */
+	final Reference<IOpipeExecution> _ref;
+	
+	/** Is the execution isolated? */
+	final boolean _isolated;
+	
+	/**
+	 * Initializes the propagator.
+	 *
+	 * @param __ref The reference to the execution.
+	 * @param __iso Is the execution isolated?
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private __Propagator__(Reference<IOpipeExecution> __ref, boolean __iso)
+		throws NullPointerException
+	{
+		if (__ref == null)
+			throw new NullPointerException();
+		
+		this._ref = __ref;
+		this._isolated = __iso;
+	}
+	
+	/**
+	 * Calls the given task with the execution bound.
+	 *
+	 * @param <V> The return type.
+	 * @param __c The task to call.
+	 * @return The result of the task.
+	 * @throws Exception If the task threw one.
+	 * @since 2026/10/18
+	 */
+	final <V> V __call(Callable<V> __c)
+		throws Exception
+	{
+		Reference<IOpipeExecution> ref = this._ref;
+		boolean iso = this._isolated;
+		
+		Reference<IOpipeExecution> prev = IOpipeService.__enter(ref, iso);
+		__ThreadUsage__ usage = __Propagator__.__usage(ref);
+		__ThreadUsage__.__Mark__ mark = (usage == null ? null :
+			usage.__begin());
+		try
+		{
+			return __c.call();
+		}
+		finally
+		{
+			if (usage != null)
+				usage.__end(mark);
+			IOpipeService.__exit(ref, prev, iso);
+		}
+	}
+	
+	/**
+	 * Gets from the given supplier with the execution bound.
+	 *
+	 * @param <T> The return type.
+	 * @param __s The supplier to get from.
+	 * @return The result of the supplier.
+	 * @since 2026/10/18
+	 */
+	final <T> T __get(Supplier<T> __s)
+	{
+		Reference<IOpipeExecution> ref = this._ref;
+		boolean iso = this._isolated;
+		
+		Reference<IOpipeExecution> prev = IOpipeService.__enter(ref, iso);
+		__ThreadUsage__ usage = __Propagator__.__usage(ref);
+		__ThreadUsage__.__Mark__ mark = (usage == null ? null :
+			usage.__begin());
+		try
+		{
+			return __s.get();
+		}
+		finally
+		{
+			if (usage != null)
+				usage.__end(mark);
+			IOpipeService.__exit(ref, prev, iso);
+		}
+	}
+	
+	/**
+	 * Runs the given task with the execution bound.
+	 *
+	 * @param __r The task to run.
+	 * @since 2026/10/18
+	 */
+	final void __run(Runnable __r)
+	{
+		Reference<IOpipeExecution> ref = this._ref;
+		boolean iso = this._isolated;
+		
+		Reference<IOpipeExecution> prev = IOpipeService.__enter(ref, iso);
+		__ThreadUsage__ usage = __Propagator__.__usage(ref);
+		__ThreadUsage__.__Mark__ mark = (usage == null ? null :
+			usage.__begin());
+		try
+		{
+			__r.run();
+		}
+		finally
+		{
+			if (usage != null)
+				usage.__end(mark);
+			IOpipeService.__exit(ref, prev, iso);
+		}
+	}
+	
+	/**
+	 * Returns where the usage of a task is counted.
+	 *
+	 * @param __ref The execution being bound.
+	 * @return Where the usage is counted or {@code null} if it is not.
+	 * @since 2026/10/18
+	 */
+	private static final __ThreadUsage__ __usage(
+		Reference<IOpipeExecution> __ref)
+	{
+		IOpipeExecution exec = __ref.get();
+		if (!(exec instanceof __ActiveExecution__))
+			return null;
+		return ((__ActiveExecution__)exec)._usage;
+	}
+	
+	/**
+	 * Captures the execution which is bound to the current thread, the last
+	 * execution is not used since a task submitted outside of an execution
+	 * would otherwise run with an unrelated one.
+	 *
+	 * @return The captured execution or {@code null} if there is none.
+	 * @since 2026/10/18
+	 */
+	static final __Propagator__ __capture()
+	{
+		IOpipeExecution exec = IOpipeService.__boundExecution();
+		if (!(exec instanceof __ActiveExecution__))
+			return null;
+		
+		__ActiveExecution__ active = (__ActiveExecution__)exec;
+		return new __Propagator__(active._selfref,
+			active.service()._concurrent);
+	}
+	
+	/**
+	 * Wraps the given callable.
+	 *
+	 * @param <V> The return type.
+	 * @param __c The callable to wrap.
+	 * @return The wrapped callable, or the input if there is no execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final <V> Callable<V> __wrap(Callable<V> __c)
+		throws NullPointerException
+	{
+		if (__c == null)
+			throw new NullPointerException();
+		
+		__Propagator__ p = __Propagator__.__capture();
+		if (p == null)
+			return __c;
+		return () -> p.<V>__call(__c);
+	}
+	
+	/**
+	 * Wraps the given runnable.
+	 *
+	 * @param __r The runnable to wrap.
+	 * @return The wrapped runnable, or the input if there is no execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final Runnable __wrap(Runnable __r)
+		throws NullPointerException
+	{
+		if (__r == null)
+			throw new NullPointerException();
+		
+		__Propagator__ p = __Propagator__.__capture();
+		if (p == null)
+			return __r;
+		return () -> p.__run(__r);
+	}
+	
+	/**
+	 * Wraps the given supplier.
+	 *
+	 * @param <T> The return type.
+	 * @param __s The supplier to wrap.
+	 * @return The wrapped supplier, or the input if there is no execution.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final <T> Supplier<T> __wrap(Supplier<T> __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		__Propagator__ p = __Propagator__.__capture();
+		if (p == null)
+			return __s;
+		return () -> p.<T>__get(__s);
+	}
+	
+	/**
+	 * Wraps all of the given callables.
+	 *
+	 * @param <T> The return type.
+	 * @param __cs The callables to wrap.
+	 * @return The wrapped callables.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final <T> List<Callable<T>> __wrapAll(
+		Collection<? extends Callable<T>> __cs)
+		throws NullPointerException
+	{
+		if (__cs == null)
+			throw new NullPointerException();
+		
+		// The execution is only captured once for all of them
+		List<Callable<T>> rv = new ArrayList<>(__cs.size());
+		__Propagator__ p = __Propagator__.__capture();
+		for (Callable<T> c : __cs)
+		{
+			if (c == null)
+				throw new NullPointerException();
+			
+			rv.add((p == null ? c : () -> p.<T>__call(c)));
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Wraps an executor so that tasks run with the execution of the thread
+	 * which submitted them.
+	 *
+	 * @since 2026/10/18
+	 */
+	static class __Executor__
+		implements Executor
+	{
+		/** The executor to wrap. */
+		protected final Executor executor;
+		
+		/**
+		 * Initializes the wrapper.
+		 *
+		 * @param __e The executor to wrap.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Executor__(Executor __e)
+			throws NullPointerException
+		{
+			if (__e == null)
+				throw new NullPointerException();
+			
+			this.executor = __e;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final void execute(Runnable __r)
+		{
+			this.executor.execute(__Propagator__.__wrap(__r));
+		}
+	}
+	
+	/**
+	 * Wraps an executor service so that tasks run with the execution of the
+	 * thread which submitted them.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __ExecutorService__
+		extends __Executor__
+		implements ExecutorService
+	{
+		/** The service to wrap. */
+		protected final ExecutorService service;
+		
+		/**
+		 * Initializes the wrapper.
+		 *
+		 * @param __s The executor service to wrap.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__ExecutorService__(ExecutorService __s)
+			throws NullPointerException
+		{
+			super(__s);
+			
+			this.service = __s;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final boolean awaitTermination(long __t, TimeUnit __u)
+			throws InterruptedException
+		{
+			return this.service.awaitTermination(__t, __u);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> List<Future<T>> invokeAll(
+			Collection<? extends Callable<T>> __c)
+			throws InterruptedException
+		{
+			return this.service.<T>invokeAll(
+				__Propagator__.<T>__wrapAll(__c));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> List<Future<T>> invokeAll(
+			Collection<? extends Callable<T>> __c, long __t, TimeUnit __u)
+			throws InterruptedException
+		{
+			return this.service.<T>invokeAll(
+				__Propagator__.<T>__wrapAll(__c), __t, __u);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> T invokeAny(Collection<? extends Callable<T>> __c)
+			throws ExecutionException, InterruptedException
+		{
+			return this.service.<T>invokeAny(
+				__Propagator__.<T>__wrapAll(__c));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> T invokeAny(Collection<? extends Callable<T>> __c,
+			long __t, TimeUnit __u)
+			throws ExecutionException, InterruptedException, TimeoutException
+		{
+			return this.service.<T>invokeAny(
+				__Propagator__.<T>__wrapAll(__c), __t, __u);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final boolean isShutdown()
+		{
+			return this.service.isShutdown();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final boolean isTerminated()
+		{
+			return this.service.isTerminated();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final void shutdown()
+		{
+			this.service.shutdown();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final List<Runnable> shutdownNow()
+		{
+			return this.service.shutdownNow();
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> Future<T> submit(Callable<T> __c)
+		{
+			return this.service.<T>submit(__Propagator__.<T>__wrap(__c));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final Future<?> submit(Runnable __r)
+		{
+			return this.service.submit(__Propagator__.__wrap(__r));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final <T> Future<T> submit(Runnable __r, T __v)
+		{
+			return this.service.<T>submit(__Propagator__.__wrap(__r), __v);
+		}
+	}
+}
+
@@ -0,0 +1,510 @@
+package com.iopipe;
+
+import java.util.Arrays;
+
+/**
+ * This is a snapshot of the resources which the process has used, one is
+ * taken when an invocation starts and another when it ends so that only the
+ * resources used by the invocation are reported.
+ *
+ * Times are in clock ticks, as they are in {@code /proc}, except for those
+ * from control groups and pressure which are in microseconds. Values which
+ * are not available are {@code -1}.
+ *
+ * @since 2026/10/18
+ */
+final class __Resources__
+{
+	/** Key for the thread ID. */
+	private static final byte[] _KEY_PID =
+		__ProcReader__.__key("Pid:");
+	
+	/** Key for voluntary context switches. */
+	private static final byte[] _KEY_VCTX =
+		__ProcReader__.__key("voluntary_ctxt_switches:");
+	
+	/** Key for involuntary context switches. */
+	private static final byte[] _KEY_NVCTX =
+		__ProcReader__.__key("nonvoluntary_ctxt_switches:");
+	
+	/** Key for CPUs. */
+	private static final byte[] _KEY_CPU =
+		__ProcReader__.__key("cpu");
+	
+	/** Key for the number of times the group was throttled. */
+	private static final byte[] _KEY_NR_THROTTLED =
+		__ProcReader__.__key("nr_throttled ");
+	
+	/** Key for the time throttled in microseconds (v2). */
+	private static final byte[] _KEY_THROTTLED_USEC =
+		__ProcReader__.__key("throttled_usec ");
+	
+	/** Key for the time throttled in nanoseconds (v1). */
+	private static final byte[] _KEY_THROTTLED_TIME =
+		__ProcReader__.__key("throttled_time ");
+	
+	/** Key for the total stall time in pressure files. */
+	private static final byte[] _KEY_TOTAL =
+		__ProcReader__.__key("total=");
+	
+	/** Key for the line where all tasks are stalled in pressure files. */
+	private static final byte[] _KEY_FULL =
+		__ProcReader__.__key("full ");
+	
+	/** Keys for I/O, in the order they are stored. */
+	private static final byte[][] _KEYS_IO =
+		{
+			__ProcReader__.__key("read_bytes:"),
+			__ProcReader__.__key("write_bytes:"),
+			__ProcReader__.__key("syscr:"),
+			__ProcReader__.__key("syscw:"),
+		};
+	
+	/** Key for the separator after network interface names. */
+	private static final byte[] _KEY_IFACE =
+		__ProcReader__.__key(":");
+	
+	/** Limits at or above this are treated as having no limit (v1). */
+	private static final long _NO_LIMIT =
+		Long.MAX_VALUE / 2;
+	
+	/** No CPUs. */
+	private static final long[] _NO_CPUS =
+		new long[0];
+	
+	/** User time. */
+	final long utime;
+	
+	/** System time. */
+	final long stime;
+	
+	/** Minor page faults. */
+	final long minflt;
+	
+	/** Major page faults. */
+	final long majflt;
+	
+	/** The thread which context switches are counted for. */
+	final int tid;
+	
+	/** Voluntary context switches. */
+	final long vctx;
+	
+	/** Involuntary context switches. */
+	final long nvctx;
+	
+	/** The number of times the control group was throttled. */
+	final long nrthrottled;
+	
+	/** The time the control group was throttled. */
+	final long throttledusec;
+	
+	/** The memory used by the control group in bytes. */
+	final long memcurrent;
+	
+	/** The memory limit of the control group in bytes. */
+	final long memmax;
+	
+	/**
+	 * Stall time from pressure files, in pairs of some and full for CPU,
+	 * memory and I/O.
+	 */
+	final long[] stalls;
+	
+	/**
+	 * I/O done by the process, which is the bytes read from and written to
+	 * storage followed by the number of read and write system calls.
+	 */
+	final long[] io;
+	
+	/**
+	 * Network traffic on all interfaces other than loopback, which is the
+	 * bytes and packets received followed by the bytes and packets sent.
+	 */
+	final long[] net;
+	
+	/** The CPU time of every native thread. */
+	final __NativeThreads__ threads;
+	
+	/** The busy time of each CPU. */
+	final long[] cpubusy;
+	
+	/** The idle time of each CPU. */
+	final long[] cpuidle;
+	
+	/**
+	 * Initializes the snapshot.
+	 *
+	 * @param __ut User time.
+	 * @param __st System time.
+	 * @param __minf Minor page faults.
+	 * @param __majf Major page faults.
+	 * @param __tid The thread which context switches are counted for.
+	 * @param __vc Voluntary context switches.
+	 * @param __nvc Involuntary context switches.
+	 * @param __nrt The number of times the control group was throttled.
+	 * @param __tu The time the control group was throttled.
+	 * @param __mc The memory used by the control group.
+	 * @param __mm The memory limit of the control group.
+	 * @param __stalls Stall time from pressure files.
+	 * @param __io I/O done by the process.
+	 * @param __net Network traffic.
+	 * @param __th The CPU time of every native thread.
+	 * @param __busy The busy time of each CPU.
+	 * @param __idle The idle time of each CPU.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private __Resources__(long __ut, long __st, long __minf, long __majf,
+		int __tid, long __vc, long __nvc, long __nrt, long __tu, long __mc,
+		long __mm, long[] __stalls, long[] __io, long[] __net,
+		__NativeThreads__ __th, long[] __busy, long[] __idle)
+		throws NullPointerException
+	{
+		if (__stalls == null || __io == null || __net == null ||
+			__th == null || __busy == null || __idle == null)
+			throw new NullPointerException();
+		
+		this.utime = __ut;
+		this.stime = __st;
+		this.minflt = __minf;
+		this.majflt = __majf;
+		this.tid = __tid;
+		this.vctx = __vc;
+		this.nvctx = __nvc;
+		this.nrthrottled = __nrt;
+		this.throttledusec = __tu;
+		this.memcurrent = __mc;
+		this.memmax = __mm;
+		this.stalls = __stalls;
+		this.io = __io;
+		this.net = __net;
+		this.threads = __th;
+		this.cpubusy = __busy;
+		this.cpuidle = __idle;
+	}
+	
+	/**
+	 * Returns the ratio of time the given CPU was busy since the given
+	 * snapshot.
+	 *
+	 * @param __s The earlier snapshot.
+	 * @param __i The CPU index.
+	 * @return The ratio of busy time, between zero and one, or {@code -1}
+	 * if it is not known.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final double __busyRatio(__Resources__ __s, int __i)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		long busy = this.__cpuBusy(__s, __i),
+			total = busy + this.__cpuIdle(__s, __i);
+		if (total <= 0)
+			return -1;
+		return (double)busy / (double)total;
+	}
+	
+	/**
+	 * Returns the time the given CPU was busy since the given snapshot.
+	 *
+	 * @param __s The earlier snapshot.
+	 * @param __i The CPU index.
+	 * @return The busy time.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final long __cpuBusy(__Resources__ __s, int __i)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		return __Resources__.__delta(this.cpubusy, __s.cpubusy, __i);
+	}
+	
+	/**
+	 * Returns the time the given CPU was idle since the given snapshot.
+	 *
+	 * @param __s The earlier snapshot.
+	 * @param __i The CPU index.
+	 * @return The idle time.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final long __cpuIdle(__Resources__ __s, int __i)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		return __Resources__.__delta(this.cpuidle, __s.cpuidle, __i);
+	}
+	
+	/**
+	 * Returns the difference between two values, if either is not available
+	 * then neither is the difference.
+	 *
+	 * @param __now The current value.
+	 * @param __was The earlier value.
+	 * @return The difference or {@code -1} if it is not available.
+	 * @since 2026/10/18
+	 */
+	static final long __delta(long __now, long __was)
+	{
+		if (__now < 0 || __was < 0)
+			return -1;
+		return Math.max(0, __now - __was);
+	}
+	
+	/**
+	 * Returns the number of CPUs which are in both snapshots.
+	 *
+	 * @param __s The earlier snapshot.
+	 * @return The number of CPUs.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final int __cpus(__Resources__ __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		return Math.min(this.cpubusy.length, __s.cpubusy.length);
+	}
+	
+	/**
+	 * Takes a snapshot of the resources used by this process.
+	 *
+	 * Context switches are only counted for a single thread, since the
+	 * process status only has those of the main thread. The thread which
+	 * starts the invocation is the one which is measured, so the snapshot
+	 * which ends the invocation may be taken by any thread.
+	 *
+	 * @param __start The snapshot at the start of the invocation, if this
+	 * is {@code null} then this is the start of the invocation.
+	 * @return The snapshot.
+	 * @since 2026/10/18
+	 */
+	static final __Resources__ __snapshot(__Resources__ __start)
+	{
+		long utime = 0,
+			stime = 0,
+			minflt = 0,
+			majflt = 0,
+			vctx = 0,
+			nvctx = 0;
+		
+		// The name of the command may contain spaces, so the fields after it
+		// are used which start with the state
+		__ProcReader__ pr = __ProcReader__.__reader();
+		if (pr.__load("/proc/self/stat", true) &&
+			pr.__seekAfterLast((byte)')'))
+		{
+			pr.__skipFields(7);
+			minflt = pr.__long();
+			pr.__skipFields(1);
+			majflt = pr.__long();
+			pr.__skipFields(1);
+			utime = pr.__long();
+			stime = pr.__long();
+		}
+		
+		// Involuntary switches come after voluntary ones, the file cannot be
+		// kept open since the thread it refers to depends on who opened it
+		int tid = (__start == null ? 0 : __start.tid);
+		if (tid > 0 ? pr.__load("/proc/self/task/" + tid + "/status", false) :
+			pr.__load("/proc/thread-self/status", false))
+		{
+			if (pr.__seekLine(_KEY_PID))
+				tid = (int)pr.__long();
+			else
+				pr.__at(0);
+			
+			if (pr.__seekLine(_KEY_VCTX))
+				vctx = pr.__long();
+			else
+				pr.__at(0);
+			
+			if (pr.__seekLine(_KEY_NVCTX))
+				nvctx = pr.__long();
+		}
+		
+		// Count the CPUs first, the line for all CPUs is skipped
+		long[] busy = _NO_CPUS,
+			idle = _NO_CPUS;
+		if (pr.__load("/proc/stat", true))
+		{
+			int n = 0;
+			while (pr.__seekLine(_KEY_CPU))
+			{
+				int c = pr.__byteAt(pr.__at());
+				if (c >= '0' && c <= '9')
+					n++;
+			}
+			
+			busy = new long[n];
+			idle = new long[n];
+			
+			// Busy time is user, nice, system, irq, softirq and steal while
+			// idle time is idle and waiting on I/O
+			pr.__at(0);
+			for (int i = 0; i < n && pr.__seekLine(_KEY_CPU);)
+			{
+				int c = pr.__byteAt(pr.__at());
+				if (c < '0' || c > '9')
+					continue;
+				
+				pr.__skipFields(1);
+				long b = pr.__long() + pr.__long() + pr.__long(),
+					d = pr.__long() + pr.__long();
+				b += pr.__long() + pr.__long() + pr.__long();
+				
+				busy[i] = b;
+				idle[i] = d;
+				i++;
+			}
+		}
+		
+		// Control group throttling, v1 is in nanoseconds
+		__Cgroups__ cgroups = __Cgroups__.FILES;
+		long nrthrottled = -1,
+			throttledusec = -1;
+		String cpustat = cgroups.cpustat;
+		if (cpustat != null && pr.__load(cpustat, true))
+		{
+			if (pr.__seekLine(_KEY_NR_THROTTLED))
+				nrthrottled = pr.__long();
+			
+			pr.__at(0);
+			if (pr.__seekLine(_KEY_THROTTLED_USEC))
+				throttledusec = pr.__long();
+			else
+			{
+				pr.__at(0);
+				if (pr.__seekLine(_KEY_THROTTLED_TIME))
+					throttledusec = pr.__long() / 1000;
+			}
+		}
+		
+		// Control group memory, v2 has no limit if the limit is not a number
+		long memcurrent = -1,
+			memmax = -1;
+		String path = cgroups.memcurrent;
+		if (path != null && pr.__load(path, true))
+			memcurrent = pr.__long();
+		
+		path = cgroups.memmax;
+		if (path != null && pr.__load(path, true))
+		{
+			int c = pr.__byteAt(0);
+			if (c >= '0' && c <= '9')
+			{
+				memmax = pr.__long();
+				if (memmax >= _NO_LIMIT)
+					memmax = -1;
+			}
+		}
+		
+		// Pressure stalls
+		long[] stalls = new long[6];
+		__Resources__.__stalls(pr, cgroups.psicpu, stalls, 0);
+		__Resources__.__stalls(pr, cgroups.psimemory, stalls, 2);
+		__Resources__.__stalls(pr, cgroups.psiio, stalls, 4);
+		
+		// I/O, the storage bytes are only those which actually went to the
+		// device rather than the page cache
+		long[] io = new long[_KEYS_IO.length];
+		if (pr.__load("/proc/self/io", true))
+			for (int i = 0, n = io.length; i < n; i++)
+			{
+				pr.__at(0);
+				io[i] = (pr.__seekLine(_KEYS_IO[i]) ? pr.__long() : -1);
+			}
+		else
+			Arrays.fill(io, -1);
+		
+		// Network traffic, the first two lines are headers and loopback is
+		// skipped since it is not downstream traffic
+		long[] net = new long[4];
+		if (pr.__load("/proc/net/dev", true) && pr.__nextLine() &&
+			pr.__nextLine())
+			while (pr.__seek(_KEY_IFACE))
+			{
+				int at = pr.__at();
+				if (pr.__byteAt(at - 2) != 'o' || pr.__byteAt(at - 3) != 'l' ||
+					(at > 3 && pr.__byteAt(at - 4) != ' ' &&
+					pr.__byteAt(at - 4) != '\n'))
+				{
+					net[0] += pr.__long();
+					net[1] += pr.__long();
+					pr.__skipFields(6);
+					net[2] += pr.__long();
+					net[3] += pr.__long();
+				}
+				
+				if (!pr.__nextLine())
+					break;
+			}
+		else
+			Arrays.fill(net, -1);
+		
+		// All native threads, including those of the virtual machine
+		__NativeThreads__ threads = __NativeThreads__.__snapshot();
+		
+		return new __Resources__(utime, stime, minflt, majflt, tid, vctx, nvctx,
+			nrthrottled, throttledusec, memcurrent, memmax, stalls, io, net,
+			threads, busy, idle);
+	}
+	
+	/**
+	 * Reads the total stall time from the given pressure file.
+	 *
+	 * @param __pr The reader to use.
+	 * @param __path The pressure file, may be {@code null}.
+	 * @param __into The array to store the some and full totals into.
+	 * @param __at The index to store the some total at.
+	 * @throws NullPointerException On null arguments except for
+	 * {@code __path}.
+	 * @since 2026/10/18
+	 */
+	private static final void __stalls(__ProcReader__ __pr, String __path,
+		long[] __into, int __at)
+		throws NullPointerException
+	{
+		if (__pr == null || __into == null)
+			throw new NullPointerException();
+		
+		__into[__at] = -1;
+		__into[__at + 1] = -1;
+		if (__path == null || !__pr.__load(__path, true))
+			return;
+		
+		// The full line may not exist for CPU pressure
+		if (__pr.__seek(_KEY_TOTAL))
+			__into[__at] = __pr.__long();
+		if (__pr.__seekLine(_KEY_FULL) && __pr.__seek(_KEY_TOTAL))
+			__into[__at + 1] = __pr.__long();
+	}
+	
+	/**
+	 * Returns the difference between two values in an array.
+	 *
+	 * @param __now The current values.
+	 * @param __was The earlier values.
+	 * @param __i The index.
+	 * @return The difference or zero if the index is not in either.
+	 * @since 2026/10/18
+	 */
+	private static final long __delta(long[] __now, long[] __was, int __i)
+	{
+		if (__i < 0 || __i >= __now.length || __i >= __was.length)
+			return 0;
+		return Math.max(0, __now[__i] - __was[__i]);
+	}
+}
+
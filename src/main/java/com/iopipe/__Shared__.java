@@ -1,6 +1,14 @@
 package com.iopipe;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.UUID;
+import javax.json.Json;
+import javax.json.stream.JsonGeneratorFactory;
 
 /**
  * Internal shared variables and such
@@ -12,9 +20,11 @@ final class __Shared__
 	/** The thread group to use main service threads under. */
 	static final ThreadGroup _SERVICE_THREAD_GROUP;
 	
-	/** The process ID, used to identify this process. */
-	static final UUID _PROCESS_ID =
-		UUID.randomUUID();
+	/**
+	 * The executor which is used to run agent tasks in the background, such
+	 * as post-execution of independent plugins.
+	 */
+	static final ExecutorService _EXECUTOR;
 	
 	/**
 	 * Initializes some shared variables.
@@ -37,6 +47,25 @@ final class __Shared__
 		}
 		
 		_SERVICE_THREAD_GROUP = stg;
+		
+		// Agent threads are only created when they are needed and go away
+		// when they have been idle for awhile. Threads inherit the execution
+		// of the thread which created them, so that is cleared because the
+		// thread will be used for other executions later on.
+		final ThreadGroup fstg = stg;
+		AtomicInteger nextid = new AtomicInteger();
+		_EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+			30L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+			(__r) ->
+			{
+				Thread rv = new Thread(fstg, () ->
+					{
+						IOpipeService.__unbindThread();
+						__r.run();
+					}, "IOpipe-Agent-" + nextid.incrementAndGet());
+				rv.setDaemon(true);
+				return rv;
+			});
 	}
 	
 	/**
@@ -47,5 +76,61 @@ final class __Shared__
 	private __Shared__()
 	{
 	}
+	
+	/**
+	 * Returns the factory for JSON generators.
+	 *
+	 * @return The factory for JSON generators.
+	 * @since 2026/10/18
+	 */
+	static final JsonGeneratorFactory __json()
+	{
+		return __Lazy__._JSON_GENERATORS;
+	}
+	
+	/**
+	 * Returns the ID of this process.
+	 *
+	 * @return The process ID.
+	 * @since 2026/10/18
+	 */
+	static final UUID __processId()
+	{
+		return __Lazy__._PROCESS_ID.get();
+	}
+	
+	/**
+	 * Uses a new ID for this process, this is used when the process is
+	 * restored from a checkpoint since every restored process would
+	 * otherwise have the same ID.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final void __restored()
+	{
+		__Lazy__._PROCESS_ID.set(UUID.randomUUID());
+	}
+	
+	/**
+	 * These are only initialized when a report is first built, since the
+	 * JSON provider and the random number generator take a while to
+	 * initialize.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Lazy__
+	{
+		/**
+		 * The factory for JSON generators, this is shared because looking up
+		 * the JSON provider each time a report is made is costly and blocks
+		 * other threads doing the same.
+		 */
+		static final JsonGeneratorFactory _JSON_GENERATORS =
+			Json.createGeneratorFactory(null);
+		
+		/** The process ID, used to identify this process. */
+		static final AtomicReference<UUID> _PROCESS_ID =
+			new AtomicReference<>(UUID.randomUUID());
+	}
 }
 
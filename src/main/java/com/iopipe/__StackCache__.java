@@ -0,0 +1,222 @@
+package com.iopipe;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This caches rendered stacks by the fingerprint of the throwable, so that
+ * when the same error is thrown over and over (such as when a downstream
+ * service is failing) the stack is only rendered once. The cache is kept
+ * for the life of the container.
+ *
+ * The frames of the throwable, its suppressed throwables and its causes are
+ * cached, messages are never cached since they could contain data which is
+ * specific to an invocation.
+ *
+ * @since 2026/10/18
+ */
+final class __StackCache__
+{
+	/** The maximum number of stacks which are cached. */
+	static final int MAX_ENTRIES =
+		64;
+	
+	/** The cache, least recently used stacks are removed (locked). */
+	private static final Map<__Fingerprint__, __Rendered__> _CACHE =
+		new LinkedHashMap<__Fingerprint__, __Rendered__>(16, 0.75F, true)
+		{
+			/**
+			 * {@inheritDoc}
+			 * @since 2026/10/18
+			 */
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<__Fingerprint__, __Rendered__> __e)
+			{
+				return this.size() > MAX_ENTRIES;
+			}
+		};
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __StackCache__()
+	{
+	}
+	
+	/**
+	 * Returns the rendered stack for the given chain, rendering it only if
+	 * no chain with the same fingerprint was seen.
+	 *
+	 * @param __c The chain to get the stack for.
+	 * @return The rendered stack.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final __Rendered__ __lookup(__Stacks__.__Chain__ __c)
+		throws NullPointerException
+	{
+		if (__c == null)
+			throw new NullPointerException();
+		
+		__Fingerprint__ fp = new __Fingerprint__(__c);
+		Map<__Fingerprint__, __Rendered__> cache = _CACHE;
+		
+		__Rendered__ rv;
+		synchronized (cache)
+		{
+			rv = cache.get(fp);
+		}
+		
+		// Render outside of the lock since it takes time, another thread
+		// might have rendered the same stack in the meantime
+		if (rv == null)
+		{
+			__Rendered__ made = new __Rendered__(__c.__renderFrames());
+			synchronized (cache)
+			{
+				rv = cache.putIfAbsent(fp, made);
+				if (rv == null)
+					rv = made;
+			}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * The fingerprint of a chain, which is the type, place in the chain and
+	 * frames of every throwable in it.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Fingerprint__
+	{
+		/** The number of values for each throwable. */
+		private static final int _VALUES =
+			5;
+		
+		/** The values which make up the fingerprint. */
+		final Object[] _values;
+		
+		/** The hash code. */
+		final int _hash;
+		
+		/**
+		 * Initializes the fingerprint.
+		 *
+		 * @param __c The chain to fingerprint.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Fingerprint__(__Stacks__.__Chain__ __c)
+			throws NullPointerException
+		{
+			if (__c == null)
+				throw new NullPointerException();
+			
+			// The frames are the ones already taken for the chain, so they
+			// are not copied again
+			List<__Stacks__.__Node__> nodes = __c._nodes;
+			Object[] values = new Object[nodes.size() * _VALUES];
+			for (int i = 0, o = 0, n = nodes.size(); i < n; i++)
+			{
+				__Stacks__.__Node__ node = nodes.get(i);
+				
+				values[o++] = node._throwable.getClass();
+				values[o++] = node._enclosing;
+				values[o++] = node._caption;
+				values[o++] = node._prefix;
+				values[o++] = node._trace;
+			}
+			
+			this._values = values;
+			this._hash = Arrays.deepHashCode(values);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final boolean equals(Object __o)
+		{
+			if (this == __o)
+				return true;
+			
+			if (!(__o instanceof __Fingerprint__))
+				return false;
+			
+			__Fingerprint__ o = (__Fingerprint__)__o;
+			return this._hash == o._hash &&
+				Arrays.deepEquals(this._values, o._values);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final int hashCode()
+		{
+			return this._hash;
+		}
+	}
+	
+	/**
+	 * The rendered frames of a chain and the number of times it occurred.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Rendered__
+	{
+		/**
+		 * The rendered frames of each throwable in the chain, the first
+		 * lines are not included since their messages could differ.
+		 */
+		final String[] _frames;
+		
+		/** The number of times this has occurred. */
+		final AtomicLong count =
+			new AtomicLong();
+		
+		/**
+		 * Initializes the rendered frames.
+		 *
+		 * @param __s The rendered frames.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Rendered__(String[] __s)
+			throws NullPointerException
+		{
+			if (__s == null)
+				throw new NullPointerException();
+			
+			this._frames = __s;
+		}
+		
+		/**
+		 * Returns the rendered stack for the given chain.
+		 *
+		 * @param __c The chain which has this fingerprint.
+		 * @return The rendered stack.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		final String __stack(__Stacks__.__Chain__ __c)
+			throws NullPointerException
+		{
+			if (__c == null)
+				throw new NullPointerException();
+			
+			return __c.__render(this._frames);
+		}
+	}
+}
+
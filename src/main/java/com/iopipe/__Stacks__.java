@@ -0,0 +1,408 @@
+package com.iopipe;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This captures and renders stack traces for reports, stacks are limited in
+ * depth and frames from the agent and reflection are dropped since they are
+ * just noise.
+ *
+ * @since 2026/10/18
+ */
+final class __Stacks__
+{
+	/** The maximum number of frames which are rendered for each throwable. */
+	static final int MAX_DEPTH =
+		64;
+	
+	/** Buffers which are larger than this are not kept for reuse. */
+	private static final int _MAX_RETAINED =
+		65536;
+	
+	/** Prefixes of classes whose frames are not rendered. */
+	private static final String[] _FILTERED =
+		{
+			"com.iopipe.IOpipeService",
+			"com.iopipe.__",
+			"com.iopipe.generic.",
+			"java.lang.invoke.",
+			"java.lang.reflect.",
+			"jdk.internal.reflect.",
+			"sun.reflect.",
+		};
+	
+	/** No frames. */
+	private static final StackTraceElement[] _NO_FRAMES =
+		new StackTraceElement[0];
+	
+	/** Buffers used to render stacks, reused by each thread. */
+	private static final ThreadLocal<StringBuilder> _BUFFERS =
+		new ThreadLocal<>();
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __Stacks__()
+	{
+	}
+	
+	/**
+	 * Captures the stack of the given thread, this is limited in depth if the
+	 * virtual machine supports it.
+	 *
+	 * @param __t The thread to capture.
+	 * @return The stack of the thread.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final StackTraceElement[] __capture(Thread __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		// Only the top of the stack needs to be walked, but this is not
+		// supported for every thread (such as virtual threads)
+		try
+		{
+			ThreadInfo info = ManagementFactory.getThreadMXBean().
+				getThreadInfo(__ThreadUsage__.__threadId(__t), MAX_DEPTH);
+			if (info != null)
+				return info.getStackTrace();
+		}
+		catch (SecurityException|UnsupportedOperationException e)
+		{
+		}
+		
+		return __t.getStackTrace();
+	}
+	
+	/**
+	 * Walks the given throwable, its suppressed throwables and causes in the
+	 * order they are rendered. The stack trace of each throwable is only
+	 * taken once since each call makes a copy of it.
+	 *
+	 * @param __t The throwable to walk.
+	 * @return The chain of throwables.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final __Chain__ __chain(Throwable __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		Set<Throwable> seen = Collections.<Throwable>newSetFromMap(
+			new IdentityHashMap<Throwable, Boolean>());
+		
+		__Chain__ rv = new __Chain__();
+		__Stacks__.__walk(__t, rv, -1, "", "", seen);
+		return rv;
+	}
+	
+	/**
+	 * Renders the given throwable and its causes, which is in the same
+	 * format as {@link Throwable#printStackTrace()}.
+	 *
+	 * @param __t The throwable to render.
+	 * @return The rendered stack.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final String __render(Throwable __t)
+		throws NullPointerException
+	{
+		return __Stacks__.__chain(__t).__render(null);
+	}
+	
+	/**
+	 * Returns whether the given frame is not rendered.
+	 *
+	 * @param __e The frame to check.
+	 * @return If the frame is not rendered.
+	 * @since 2026/10/18
+	 */
+	private static final boolean __filtered(StackTraceElement __e)
+	{
+		String cl = __e.getClassName();
+		for (String prefix : _FILTERED)
+			if (cl.startsWith(prefix))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Renders the frames of a single throwable.
+	 *
+	 * @param __trace The frames to render.
+	 * @param __sb Where the frames are rendered to.
+	 * @param __enc The frames of the enclosing throwable.
+	 * @param __pre The prefix for each line.
+	 * @since 2026/10/18
+	 */
+	private static final void __frames(StackTraceElement[] __trace,
+		StringBuilder __sb, StackTraceElement[] __enc, String __pre)
+	{
+		// Frames which are the same as the enclosing throwable are not
+		// rendered again
+		int m = __trace.length - 1,
+			n = __enc.length - 1;
+		while (m >= 0 && n >= 0 && __trace[m].equals(__enc[n]))
+		{
+			m--;
+			n--;
+		}
+		int common = __trace.length - 1 - m;
+		
+		// The top frame is always rendered since it is where the throwable
+		// came from
+		int written = 0,
+			omitted = 0;
+		for (int i = 0; i <= m; i++)
+		{
+			StackTraceElement e = __trace[i];
+			if (written >= MAX_DEPTH || (i > 0 && __Stacks__.__filtered(e)))
+			{
+				omitted++;
+				continue;
+			}
+			
+			__Stacks__.__frame(__sb.append(__pre).append("\tat "), e).
+				append('\n');
+			written++;
+		}
+		
+		if (omitted > 0)
+			__sb.append(__pre).append("\t... ").append(omitted).
+				append(" omitted\n");
+		if (common > 0)
+			__sb.append(__pre).append("\t... ").append(common).
+				append(" more\n");
+	}
+	
+	/**
+	 * Renders a single frame without creating a string for it.
+	 *
+	 * @param __sb Where the frame is rendered to.
+	 * @param __e The frame to render.
+	 * @return {@code __sb}.
+	 * @since 2026/10/18
+	 */
+	private static final StringBuilder __frame(StringBuilder __sb,
+		StackTraceElement __e)
+	{
+		__sb.append(__e.getClassName()).append('.').
+			append(__e.getMethodName()).append('(');
+		
+		String file = __e.getFileName();
+		int line = __e.getLineNumber();
+		if (__e.isNativeMethod())
+			__sb.append("Native Method");
+		else if (file == null)
+			__sb.append("Unknown Source");
+		else
+		{
+			__sb.append(file);
+			if (line >= 0)
+				__sb.append(':').append(line);
+		}
+		
+		return __sb.append(')');
+	}
+	
+	/**
+	 * Walks a single throwable, followed by its suppressed throwables and
+	 * cause.
+	 *
+	 * @param __t The throwable to walk.
+	 * @param __c The chain to add to.
+	 * @param __enc The index of the enclosing throwable in the chain.
+	 * @param __cap The caption for the throwable.
+	 * @param __pre The prefix for each line.
+	 * @param __seen Throwables which have been walked.
+	 * @since 2026/10/18
+	 */
+	private static final void __walk(Throwable __t, __Chain__ __c,
+		int __enc, String __cap, String __pre, Set<Throwable> __seen)
+	{
+		// Causes could refer back to a throwable, these have no frames
+		if (!__seen.add(__t))
+		{
+			__c._nodes.add(new __Node__(__t, null, __enc, __cap, __pre));
+			return;
+		}
+		
+		int at = __c._nodes.size();
+		__c._nodes.add(new __Node__(__t, __t.getStackTrace(), __enc, __cap,
+			__pre));
+		
+		for (Throwable s : __t.getSuppressed())
+			__Stacks__.__walk(s, __c, at, "Suppressed: ", __pre + "\t",
+				__seen);
+		
+		Throwable cause = __t.getCause();
+		if (cause != null)
+			__Stacks__.__walk(cause, __c, at, "Caused by: ", __pre, __seen);
+	}
+	
+	/**
+	 * A throwable, its suppressed throwables and causes in the order they
+	 * are rendered.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Chain__
+	{
+		/** The throwables in the chain. */
+		final List<__Node__> _nodes =
+			new ArrayList<>();
+		
+		/**
+		 * Renders the chain, the frames of each throwable may have already
+		 * been rendered with {@link #__renderFrames()}. The first line of
+		 * each throwable is always rendered since its message can differ
+		 * each time.
+		 *
+		 * @param __frames The already rendered frames of each throwable, if
+		 * {@code null} they are rendered.
+		 * @return The rendered stack.
+		 * @since 2026/10/18
+		 */
+		final String __render(String[] __frames)
+		{
+			// Render into the buffer for this thread
+			ThreadLocal<StringBuilder> buffers = _BUFFERS;
+			StringBuilder sb = buffers.get();
+			if (sb == null)
+				buffers.set((sb = new StringBuilder(4096)));
+			
+			try
+			{
+				List<__Node__> nodes = this._nodes;
+				for (int i = 0, n = nodes.size(); i < n; i++)
+				{
+					__Node__ node = nodes.get(i);
+					
+					sb.append(node._prefix).append(node._caption);
+					if (node._trace == null)
+					{
+						sb.append("[CIRCULAR REFERENCE: ").
+							append(node._throwable).append("]\n");
+						continue;
+					}
+					sb.append(node._throwable).append('\n');
+					
+					if (__frames != null)
+						sb.append(__frames[i]);
+					else
+						__Stacks__.__frames(node._trace, sb,
+							this.__enclosing(node), node._prefix);
+				}
+				
+				return sb.toString();
+			}
+			finally
+			{
+				// Do not keep very large buffers around
+				if (sb.capacity() > _MAX_RETAINED)
+					buffers.remove();
+				else
+					sb.setLength(0);
+			}
+		}
+		
+		/**
+		 * Renders only the frames of each throwable in the chain.
+		 *
+		 * @return The rendered frames, in the order of the chain.
+		 * @since 2026/10/18
+		 */
+		final String[] __renderFrames()
+		{
+			List<__Node__> nodes = this._nodes;
+			int n = nodes.size();
+			
+			String[] rv = new String[n];
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < n; i++)
+			{
+				__Node__ node = nodes.get(i);
+				
+				sb.setLength(0);
+				if (node._trace != null)
+					__Stacks__.__frames(node._trace, sb,
+						this.__enclosing(node), node._prefix);
+				rv[i] = sb.toString();
+			}
+			
+			return rv;
+		}
+		
+		/**
+		 * Returns the frames of the throwable which encloses the given one.
+		 *
+		 * @param __n The throwable to get the enclosing frames of.
+		 * @return The enclosing frames.
+		 * @since 2026/10/18
+		 */
+		private StackTraceElement[] __enclosing(__Node__ __n)
+		{
+			return (__n._enclosing < 0 ? _NO_FRAMES :
+				this._nodes.get(__n._enclosing)._trace);
+		}
+	}
+	
+	/**
+	 * A single throwable in a chain.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Node__
+	{
+		/** The throwable. */
+		final Throwable _throwable;
+		
+		/** The frames, {@code null} if this is a circular reference. */
+		final StackTraceElement[] _trace;
+		
+		/** The index of the enclosing throwable, or {@code -1}. */
+		final int _enclosing;
+		
+		/** The caption. */
+		final String _caption;
+		
+		/** The prefix for each line. */
+		final String _prefix;
+		
+		/**
+		 * Initializes the node.
+		 *
+		 * @param __t The throwable.
+		 * @param __trace The frames, {@code null} if this is a circular
+		 * reference.
+		 * @param __enc The index of the enclosing throwable.
+		 * @param __cap The caption.
+		 * @param __pre The prefix for each line.
+		 * @since 2026/10/18
+		 */
+		__Node__(Throwable __t, StackTraceElement[] __trace, int __enc,
+			String __cap, String __pre)
+		{
+			this._throwable = __t;
+			this._trace = __trace;
+			this._enclosing = __enc;
+			this._caption = __cap;
+			this._prefix = __pre;
+		}
+	}
+}
+
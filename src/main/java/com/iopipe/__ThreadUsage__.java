@@ -0,0 +1,212 @@
+package com.iopipe;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This measures the CPU time and the bytes allocated by the current thread,
+ * which is used to determine how much work the handler thread and any
+ * thread which ran tasks for an execution did.
+ *
+ * Tasks which run in a thread that is already being counted for the same
+ * execution (such as those run directly in the handler thread) are not
+ * counted again.
+ *
+ * @since 2026/10/18
+ */
+final class __ThreadUsage__
+{
+	/** The bean used to measure threads, {@code null} if not supported. */
+	private static final com.sun.management.ThreadMXBean _BEAN;
+	
+	/** Can CPU time be measured? */
+	private static final boolean _CPU;
+	
+	/** Can allocated bytes be measured? */
+	private static final boolean _ALLOCATED;
+	
+	/** What the current thread is counting into. */
+	private static final ThreadLocal<__ThreadUsage__> _COUNTING =
+		new ThreadLocal<>();
+	
+	/** The CPU time in nanoseconds. */
+	final LongAdder cpunanos =
+		new LongAdder();
+	
+	/** The number of bytes allocated. */
+	final LongAdder allocatedbytes =
+		new LongAdder();
+	
+	/**
+	 * Determines what can be measured.
+	 *
+	 * @since 2026/10/18
+	 */
+	static
+	{
+		com.sun.management.ThreadMXBean bean = null;
+		boolean cpu = false,
+			allocated = false;
+		
+		// This is only available on HotSpot and virtual machines which are
+		// based on it
+		try
+		{
+			java.lang.management.ThreadMXBean base =
+				ManagementFactory.getThreadMXBean();
+			if (base instanceof com.sun.management.ThreadMXBean)
+			{
+				bean = (com.sun.management.ThreadMXBean)base;
+				
+				cpu = bean.isCurrentThreadCpuTimeSupported();
+				if (cpu && !bean.isThreadCpuTimeEnabled())
+					bean.setThreadCpuTimeEnabled(true);
+				
+				allocated = bean.isThreadAllocatedMemorySupported();
+				if (allocated && !bean.isThreadAllocatedMemoryEnabled())
+					bean.setThreadAllocatedMemoryEnabled(true);
+			}
+		}
+		catch (LinkageError|RuntimeException e)
+		{
+			Logger.debug(e, "Cannot measure thread usage.");
+			
+			cpu = false;
+			allocated = false;
+		}
+		
+		_BEAN = bean;
+		_CPU = cpu;
+		_ALLOCATED = allocated;
+	}
+	
+	/**
+	 * Starts counting the usage of the current thread.
+	 *
+	 * @return The mark to pass to {@link #__end(__Mark__)}, or {@code null}
+	 * if this thread is already being counted.
+	 * @since 2026/10/18
+	 */
+	final __Mark__ __begin()
+	{
+		ThreadLocal<__ThreadUsage__> counting = _COUNTING;
+		__ThreadUsage__ prev = counting.get();
+		if (prev == this)
+			return null;
+		
+		counting.set(this);
+		
+		com.sun.management.ThreadMXBean bean = _BEAN;
+		return new __Mark__(prev, (_CPU ? bean.getCurrentThreadCpuTime() : -1),
+			(_ALLOCATED ? bean.getThreadAllocatedBytes(
+			__ThreadUsage__.__threadId(Thread.currentThread())) : -1));
+	}
+	
+	/**
+	 * Stops counting the usage of the current thread and adds the usage
+	 * since the mark.
+	 *
+	 * @param __m The mark from {@link #__begin()}, if {@code null} then
+	 * nothing happens.
+	 * @since 2026/10/18
+	 */
+	final void __end(__Mark__ __m)
+	{
+		if (__m == null)
+			return;
+		
+		com.sun.management.ThreadMXBean bean = _BEAN;
+		if (__m._cpu >= 0)
+			this.cpunanos.add(Math.max(0,
+				bean.getCurrentThreadCpuTime() - __m._cpu));
+		if (__m._allocated >= 0)
+			this.allocatedbytes.add(Math.max(0,
+				bean.getThreadAllocatedBytes(__ThreadUsage__.__threadId(
+				Thread.currentThread())) - __m._allocated));
+		
+		// Whatever was counted before continues to be
+		__ThreadUsage__ prev = __m._prev;
+		if (prev == null)
+			_COUNTING.remove();
+		else
+			_COUNTING.set(prev);
+	}
+	
+	/**
+	 * Returns whether allocated bytes can be measured.
+	 *
+	 * @return If allocated bytes can be measured.
+	 * @since 2026/10/18
+	 */
+	static final boolean __canAllocated()
+	{
+		return _ALLOCATED;
+	}
+	
+	/**
+	 * Returns whether CPU time can be measured.
+	 *
+	 * @return If CPU time can be measured.
+	 * @since 2026/10/18
+	 */
+	static final boolean __canCpu()
+	{
+		return _CPU;
+	}
+	
+	/**
+	 * Returns the identifier of the given thread.
+	 *
+	 * {@link Thread#getId()} is deprecated since Java 19 in favor of
+	 * {@code Thread.threadId()}, however that does not exist on Java 8 and
+	 * both return the same value.
+	 *
+	 * @param __t The thread to get the identifier of.
+	 * @return The thread identifier.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("deprecation")
+	static final long __threadId(Thread __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		return __t.getId();
+	}
+	
+	/**
+	 * The usage of a thread when counting started.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Mark__
+	{
+		/** What was counted before, may be {@code null}. */
+		final __ThreadUsage__ _prev;
+		
+		/** The CPU time, {@code -1} if not measured. */
+		final long _cpu;
+		
+		/** The allocated bytes, {@code -1} if not measured. */
+		final long _allocated;
+		
+		/**
+		 * Initializes the mark.
+		 *
+		 * @param __p What was counted before.
+		 * @param __c The CPU time.
+		 * @param __a The allocated bytes.
+		 * @since 2026/10/18
+		 */
+		__Mark__(__ThreadUsage__ __p, long __c, long __a)
+		{
+			this._prev = __p;
+			this._cpu = __c;
+			this._allocated = __a;
+		}
+	}
+}
+
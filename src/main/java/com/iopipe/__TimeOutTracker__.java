@@ -2,23 +2,58 @@ package com.iopipe;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * This class keeps track of a single running invocation at a time and is used
- * to determine and report when it is about to timeout.
+ * This class keeps track of running invocations and is used to determine and
+ * report when any of them are about to timeout.
+ *
+ * Invocations are placed in a hashed timing wheel by their absolute deadline
+ * so that any number of them may be tracked at once, adding and removing
+ * invocations is constant time. The thread which checks for timeouts only
+ * wakes up for buckets which have invocations in them.
  *
  * @since 2018/11/19
  */
 final class __TimeOutTracker__
 {
+	/** The number of buckets in the wheel, must be a power of two. */
+	private static final int _WHEEL_SIZE =
+		512;
+	
+	/** The default duration of a single tick of the wheel, in nanoseconds. */
+	private static final long _TICK_NANOS =
+		10_000_000L;
+	
 	/** The timeout window time. */
 	protected final int window;
 	
-	/** The thread our squirrel runs in. */
-	private final Thread _thread;
+	/** The duration of a single tick of the wheel, in nanoseconds. */
+	protected final long ticknanos;
+	
+	/** The sender for timed out requests. */
+	private final __RequestSender__ _rsender;
+	
+	/** The time the wheel starts at. */
+	private final long _base =
+		System.nanoTime();
+	
+	/** The buckets of the wheel, each is a linked list (locked by this). */
+	private final __Track__[] _wheel =
+		new __Track__[_WHEEL_SIZE];
 	
-	/** The tracker to send to. */
-	private final __Squirrel__ _squirrel;
+	/** The last tick which was processed (locked by this). */
+	private long _tick;
+	
+	/** The number of tracked invocations (locked by this). */
+	private int _count;
+	
+	/** The tick the squirrel will wake up at (locked by this). */
+	private long _waketick =
+		Long.MAX_VALUE;
+	
+	/** The thread our squirrel runs in, started when first needed. */
+	private Thread _thread;
 	
 	/**
 	 * Initializes the tracker.
@@ -30,20 +65,68 @@ final class __TimeOutTracker__
 	 */
 	__TimeOutTracker__(__RequestSender__ __rs, int __tw)
 		throws NullPointerException
+	{
+		this(__rs, __tw, _TICK_NANOS);
+	}
+	
+	/**
+	 * Initializes the tracker with the given tick duration.
+	 *
+	 * @param __rs The sender for requests.
+	 * @param __tw The window for timeouts.
+	 * @param __tn The duration of a single tick, in nanoseconds.
+	 * @throws IllegalArgumentException If the tick duration is not positive.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__TimeOutTracker__(__RequestSender__ __rs, int __tw, long __tn)
+		throws IllegalArgumentException, NullPointerException
 	{
 		if (__rs == null)
 			throw new NullPointerException();
+		if (__tn <= 0)
+			throw new IllegalArgumentException("Tick must be positive.");
 		
-		// Spawn the squirrel to take care of everything
-		__Squirrel__ sq = new __Squirrel__(__rs);
-		Thread t = new Thread(sq, "IOpipeSquirrel");
-		t.setDaemon(true);
-		t.start();
-		
-		// The tracker to report to
 		this.window = (__tw > 0 ? __tw : 0);
-		this._thread = t;
-		this._squirrel = sq;
+		this.ticknanos = __tn;
+		this._rsender = __rs;
+	}
+	
+	/**
+	 * Stops tracking the given invocation.
+	 *
+	 * @param __t The tracked invocation, if {@code null} nothing happens.
+	 * @since 2026/10/18
+	 */
+	final void __cancel(__Track__ __t)
+	{
+		if (__t == null)
+			return;
+		
+		synchronized (this)
+		{
+			if (__t._linked)
+			{
+				this.__unlink(__t);
+				this._count--;
+			}
+		}
+	}
+	
+	/**
+	 * Wakes the squirrel after the process was restored from a checkpoint,
+	 * since the time it was waiting for has long since passed.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __restored()
+	{
+		synchronized (this)
+		{
+			Thread thread = this._thread;
+			if (thread != null)
+				LockSupport.unpark(thread);
+		}
 	}
 	
 	/**
@@ -53,10 +136,12 @@ final class __TimeOutTracker__
 	 * @param __exec This execution.
 	 * @param __sent Will be used to determine if timeout has happened.
 	 * @param __t The thread of execution to keep track of.
+	 * @return The tracked invocation which should be cancelled when it
+	 * finishes, or {@code null} if it is not being tracked.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/11/19
 	 */
-	final void __track(Context __c, IOpipeExecution __exec,
+	final __Track__ __track(Context __c, IOpipeExecution __exec,
 		AtomicBoolean __sent, Thread __t)
 		throws NullPointerException
 	{
@@ -66,70 +151,116 @@ final class __TimeOutTracker__
 		// If the timeout window is disabled, then do not track timeouts
 		int window = this.window;
 		if (window == 0)
-			return;
+			return null;
 		
 		// Do not keep track if there is no timeout or it is very far into
 		// the future (likely set by the mock context)
 		int rem = __c.getRemainingTimeInMillis();
 		if (rem <= 0 || rem == Integer.MAX_VALUE)
-			return;
+			return null;
 		
 		// If the remaining time is too close within the threshold then it
 		// will likely have trouble firing when the time comes
 		rem -= window;
 		if (rem <= 0)
-			return;
+			return null;
 		
-		// Setup tracker to watch on
-		__Track__ t = new __Track__(__c, __exec, __sent, rem, __t);
+		// The deadline is absolute so that it does not drift
+		__Track__ rv = new __Track__(__c, __exec, __sent,
+			System.nanoTime() + (rem * 1_000_000L), __t);
 		
-		// Tell our squirrel to keep track of this execution
-		__Squirrel__ squirrel = this._squirrel;
-		synchronized (squirrel)
+		long ticknanos = this.ticknanos;
+		synchronized (this)
 		{
-			squirrel._track = t;
+			// The bucket is the first tick at or after the deadline, but it
+			// must be one that has not been processed yet
+			long tick = Math.max(this._tick + 1,
+				((rv._deadline - this._base) + (ticknanos - 1)) /
+				ticknanos);
+			
+			// Link into the head of the bucket
+			int bucket = (int)(tick & (_WHEEL_SIZE - 1));
+			__Track__[] wheel = this._wheel;
+			__Track__ head = wheel[bucket];
+			rv._bucket = bucket;
+			rv._next = head;
+			if (head != null)
+				head._prev = rv;
+			wheel[bucket] = rv;
+			rv._linked = true;
 			
-			// We do not need to notify, we can just interrupt because the
-			// squirrel is waiting for something to track. The other thread
-			// wait()s. We WANT to interrupt here and not notify() because if
-			// we notify() then we lose our lock and then we have to WAIT for
-			// the other thread to release the lock. By just interrupting we
-			// can just exit this lock which when the other thread picks up
-			// that the monitor is both unlocked and the thread is interrupted
-			// it will continue
-			this._thread.interrupt();
+			// Start the squirrel if it has not been, otherwise wake it up if
+			// it would sleep past this deadline
+			this._count++;
+			boolean wake = (tick < this._waketick);
+			Thread thread = this._thread;
+			if (thread == null)
+			{
+				thread = new Thread(__Shared__._SERVICE_THREAD_GROUP,
+					new __Squirrel__(this), "IOpipeSquirrel");
+				thread.setDaemon(true);
+				thread.start();
+				
+				this._thread = thread;
+			}
+			else if (wake)
+				LockSupport.unpark(thread);
 		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Unlinks the given invocation from its bucket.
+	 *
+	 * @param __t The invocation to unlink.
+	 * @since 2026/10/18
+	 */
+	private final void __unlink(__Track__ __t)
+	{
+		__Track__ prev = __t._prev,
+			next = __t._next;
+		
+		if (prev != null)
+			prev._next = next;
+		else
+			this._wheel[__t._bucket] = next;
+		
+		if (next != null)
+			next._prev = prev;
+		
+		__t._prev = null;
+		__t._next = null;
+		__t._linked = false;
 	}
 	
 	/**
 	 * This class is the thread which tracks and takes care of any invocations
-	 * which have timed out. It is lazy in its future checking accordingly.
+	 * which have timed out. It sleeps until the first tick which has
+	 * invocations in its bucket, and otherwise parks until there are any.
 	 *
 	 * @since 2018/11/19
 	 */
 	static final class __Squirrel__
 		implements Runnable
 	{
-		/** The sender where requests go. */
-		final __RequestSender__ _rsender;
-		
-		/** The execution our squirrel is tracking. */
-		__Track__ _track;
+		/** The owning tracker. */
+		final __TimeOutTracker__ _tracker;
 		
 		/**
 		 * Initializes the squirrel.
 		 *
-		 * @param __rs Where requests go for sending.
+		 * @param __t The owning tracker.
 		 * @throws NullPointerException On null arguments.
 		 * @since 2018/11/19
 		 */
-		__Squirrel__(__RequestSender__ __rs)
+		__Squirrel__(__TimeOutTracker__ __t)
 			throws NullPointerException
 		{
-			if (__rs == null)
+			if (__t == null)
 				throw new NullPointerException();
 			
-			this._rsender = __rs;
+			this._tracker = __t;
 		}
 		
 		/**
@@ -139,87 +270,132 @@ final class __TimeOutTracker__
 		@Override
 		public final void run()
 		{
-			Thread selfthread = Thread.currentThread();
-			__RequestSender__ rsender = this._rsender;
+			// This thread outlives the execution which started it, so it
+			// must not keep it
+			IOpipeService.__unbindThread();
+			
+			__TimeOutTracker__ tracker = this._tracker;
+			__Track__[] wheel = tracker._wheel;
+			long base = tracker._base,
+				ticknanos = tracker.ticknanos;
 			
 			// Infinite loop
 			for (;;)
 			{
-				// Wait until we get something to keep track of
-				__Track__ track;
-				synchronized (this)
+				long now = System.nanoTime(),
+					nowtick = (now - base) / ticknanos;
+				
+				// Go through every tick which has passed and collect any
+				// invocations which have reached their deadline
+				__Track__ expired = null;
+				long waketick;
+				synchronized (tracker)
 				{
-					// Clear our own interrupted flag since it cannot be
-					// raised while we own the lock
-					Thread.interrupted();
-					
-					// Are we tracking this?
-					track = this._track;
-					
-					// Wait until we get something to track
-					if (track == null)
+					long tick = tracker._tick;
+					for (long i = tick + 1, n = tick + 1 + Math.min(
+						nowtick - tick, _WHEEL_SIZE); i < n; i++)
 					{
-						// Wait until we get interrupted (or notified)
-						try
+						__Track__ at = wheel[(int)(i & (_WHEEL_SIZE - 1))];
+						while (at != null)
 						{
-							this.wait();
+							__Track__ next = at._next;
+							
+							// Invocations with a later deadline wait for the
+							// wheel to come back around
+							if (at._deadline - now <= 0)
+							{
+								tracker.__unlink(at);
+								tracker._count--;
+								
+								at._expired = expired;
+								expired = at;
+							}
+							
+							at = next;
 						}
-						catch (InterruptedException e)
-						{
-						}
-						
-						// We got our lock back so try again
-						track = this._track;
-						
-						// Still nothing, so just try again
-						if (track == null)
-							continue;
 					}
 					
-					// Remove this object from tracking
-					this._track = null;
-				}
-				
-				// Sleep for the initial sleeping period, when it ends this
-				// should be when timeout is happening
-				try
-				{
-					Thread.sleep(track._initsleep);
-				}
-				catch (InterruptedException e)
-				{
-					// Ignore, but this likely means that some other
-					// invocation happened and we were still asleep
+					if (nowtick > tick)
+						tracker._tick = (tick = nowtick);
+					
+					// Sleep until the first bucket which is not empty, the
+					// invocations in it may be for a later turn of the wheel
+					// in which case this just wakes once for every turn
+					waketick = Long.MAX_VALUE;
+					if (tracker._count > 0)
+						for (long i = tick + 1, n = tick + 1 + _WHEEL_SIZE;
+							i < n; i++)
+							if (wheel[(int)(i & (_WHEEL_SIZE - 1))] != null)
+							{
+								waketick = i;
+								break;
+							}
+					tracker._waketick = waketick;
 				}
 				
-				// If the atomic was never sent to true, then this means the
-				// main service runner never sent any invocation
-				AtomicBoolean sent = track._sent;
-				if (sent.compareAndSet(false, true))
+				// Report any timeouts, this is done in another thread since
+				// building and sending the request may take time
+				for (__Track__ at = expired; at != null;)
 				{
-					// The execution at this point will always be active
-					__ActiveExecution__ exec =
-						(__ActiveExecution__)track._exec;
+					__Track__ next = at._expired;
+					at._expired = null;
 					
-					// Labels to indicate things
-					exec.label("@iopipe/error");
-					exec.label("@iopipe/timeout");
+					final __Track__ timedout = at;
+					__Shared__._EXECUTOR.execute(() ->
+						tracker.__timedOut(timedout));
 					
-					// Generate a timeout exception, but for the ease of use in
-					// debugging use the stack trace of the thread which timed
-					// out
-					IOpipeTimeOutException reported =
-						new IOpipeTimeOutException("Execution timed out.");
-					reported.setStackTrace(track._source.getStackTrace());
-					exec.__setThrown(reported);
-					
-					// Send request
-					rsender.__send(exec.__buildRequest());
+					at = next;
 				}
+				
+				// Wait until there is something to track, or until the tick
+				// which has something in it, tracking an earlier deadline
+				// wakes this up
+				if (waketick == Long.MAX_VALUE)
+					LockSupport.park(this);
+				else
+					LockSupport.parkNanos(this,
+						(base + (waketick * ticknanos)) - System.nanoTime());
 			}
 		}
 	}
 	
+	/**
+	 * Reports that the given invocation has timed out.
+	 *
+	 * @param __t The invocation which timed out.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __timedOut(__Track__ __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		// If the atomic was never sent to true, then this means the
+		// main service runner never sent any invocation
+		AtomicBoolean sent = __t._sent;
+		if (sent.compareAndSet(false, true))
+		{
+			// The execution at this point will always be active
+			__ActiveExecution__ exec = (__ActiveExecution__)__t._exec;
+			
+			// Labels to indicate things
+			exec.label("@iopipe/error");
+			exec.label("@iopipe/timeout");
+			
+			// Generate a timeout exception, but for the ease of use in
+			// debugging use the stack trace of the thread which timed out
+			IOpipeTimeOutException reported =
+				new IOpipeTimeOutException("Execution timed out.");
+			reported.setStackTrace(__Stacks__.__capture(__t._source));
+			exec.__setThrown(reported);
+			
+			// Send request
+			this._rsender.__send(exec.__buildRequest());
+		}
+	}
+	
 	/**
 	 * Stores tracking information.
 	 *
@@ -236,25 +412,40 @@ final class __TimeOutTracker__
 		/** Was a request sent? */
 		final AtomicBoolean _sent;
 		
-		/** Initial sleep duration. */
-		final int _initsleep;
+		/** The absolute deadline in monotonic nanoseconds. */
+		final long _deadline;
 		
 		/** The source thread. */
 		final Thread _source;
 		
+		/** The bucket this is in (locked by tracker). */
+		int _bucket;
+		
+		/** Is this linked into a bucket? (locked by tracker) */
+		boolean _linked;
+		
+		/** The previous invocation in the bucket (locked by tracker). */
+		__Track__ _prev;
+		
+		/** The next invocation in the bucket (locked by tracker). */
+		__Track__ _next;
+		
+		/** The next expired invocation (only in the squirrel). */
+		__Track__ _expired;
+		
 		/**
 		 * Tracks the given execution and context.
 		 *
 		 * @param __c The context to track.
 		 * @param __exec This execution.
 		 * @param __sent Will be used to determine if timeout has happened.
-		 * @param __is Initial sleep duration.
+		 * @param __dl The absolute deadline in monotonic nanoseconds.
 		 * @param __t The source thread.
 		 * @throws NullPointerException On null arguments.
 		 * @since 2018/11/19
 		 */
 		__Track__(Context __c, IOpipeExecution __exec,
-			AtomicBoolean __sent, int __is, Thread __t)
+			AtomicBoolean __sent, long __dl, Thread __t)
 			throws NullPointerException
 		{
 			if (__c == null || __exec == null || __sent == null || __t == null)
@@ -263,7 +454,7 @@ final class __TimeOutTracker__
 			this._context = __c;
 			this._exec = __exec;
 			this._sent = __sent;
-			this._initsleep = __is;
+			this._deadline = __dl;
 			this._source = __t;
 		}
 	}
@@ -0,0 +1,349 @@
+package com.iopipe.generic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is a tool which runs a wrapped handler locally to generate a list of
+ * the classes which are loaded during initialization and the first
+ * invocation, this list can then be used to create a class data sharing
+ * archive for the function which reduces the time it takes to cold start.
+ *
+ * The handler is run in another virtual machine with the same class path as
+ * this one, the reports it generates are sent to a server on the loopback
+ * address so nothing is sent to IOpipe.
+ *
+ * This is used as:
+ * {@code java -cp <class path> com.iopipe.generic.ClassListGenerator
+ * <class[::method]> <event.json> [output.classlist]}.
+ *
+ * @since 2026/10/18
+ */
+public final class ClassListGenerator
+{
+	/** The argument which runs the handler instead of generating a list. */
+	private static final String _RUN_ARGUMENT =
+		"--run-handler";
+	
+	/** The default output file. */
+	private static final String _DEFAULT_OUTPUT =
+		"iopipe.classlist";
+	
+	/** The prefix of lambdas in the class list. */
+	private static final String _LAMBDA_PREFIX =
+		"@lambda-proxy ";
+	
+	/** How long to wait for the report to be sent, in milliseconds. */
+	private static final long _REPORT_WAIT =
+		10_000L;
+	
+	/**
+	 * Classes which are only loaded by this tool, these are removed from the
+	 * list since they are never loaded by the function.
+	 */
+	private static final String[] _TOOL_CLASSES =
+		{
+			"com/iopipe/generic/ClassListGenerator",
+			"com/sun/net/httpserver/",
+			"sun/net/httpserver/",
+		};
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private ClassListGenerator()
+	{
+	}
+	
+	/**
+	 * Main entry point.
+	 *
+	 * @param __args Arguments to the tool.
+	 * @since 2026/10/18
+	 */
+	public static void main(String... __args)
+	{
+		System.exit(ClassListGenerator.__main(System.out, System.err,
+			__args));
+	}
+	
+	/**
+	 * Removes the classes which are only used by this tool from the list,
+	 * lambdas are listed after the class which created them.
+	 *
+	 * @param __lines The lines of the raw class list.
+	 * @return The lines of the classes the function uses.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static List<String> __filter(List<String> __lines)
+		throws NullPointerException
+	{
+		if (__lines == null)
+			throw new NullPointerException();
+		
+		List<String> rv = new ArrayList<>(__lines.size());
+		for (String line : __lines)
+		{
+			String name = (line.startsWith(_LAMBDA_PREFIX) ?
+				line.substring(_LAMBDA_PREFIX.length()) : line);
+			
+			boolean tool = false;
+			for (String prefix : _TOOL_CLASSES)
+				if (name.startsWith(prefix))
+					tool = true;
+			
+			if (!tool)
+				rv.add(line);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Runs the handler in another virtual machine and writes the classes
+	 * which it loaded.
+	 *
+	 * @param __msg The stream where messages are written.
+	 * @param __err The stream where errors are written.
+	 * @param __handler The handler to run.
+	 * @param __event The event to send to the handler.
+	 * @param __out The file to write the class list to.
+	 * @return The exit code of the tool.
+	 * @throws InterruptedException If the process was interrupted.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static int __generate(PrintStream __msg, PrintStream __err,
+		String __handler, Path __event, Path __out)
+		throws InterruptedException, IOException, NullPointerException
+	{
+		if (__msg == null || __err == null || __handler == null ||
+			__event == null || __out == null)
+			throw new NullPointerException();
+		
+		PrintStream out = __msg;
+		String classpath = System.getProperty("java.class.path");
+		Path raw = Files.createTempFile("iopipe-", ".classlist");
+		try
+		{
+			// Sharing must be disabled otherwise classes which are already
+			// in the default archive are not listed
+			List<String> command = new ArrayList<>();
+			command.add(Paths.get(System.getProperty("java.home"), "bin",
+				"java").toString());
+			command.add("-Xshare:off");
+			command.add("-XX:DumpLoadedClassList=" + raw);
+			command.add("-cp");
+			command.add(classpath);
+			command.add(ClassListGenerator.class.getName());
+			command.add(_RUN_ARGUMENT);
+			command.add(__handler);
+			command.add(__event.toAbsolutePath().toString());
+			
+			int exit = new ProcessBuilder(command).inheritIO().start().
+				waitFor();
+			if (exit != 0)
+			{
+				__err.println("Running the handler failed with exit " +
+					"code " + exit + ".");
+				return exit;
+			}
+			
+			// Remove the classes which only this tool uses
+			List<String> classes = ClassListGenerator.__filter(
+				Files.readAllLines(raw, StandardCharsets.UTF_8));
+			Files.write(__out, classes, StandardCharsets.UTF_8);
+		}
+		finally
+		{
+			Files.deleteIfExists(raw);
+		}
+		
+		String list = __out.toAbsolutePath().toString();
+		out.println();
+		out.println("Wrote the class list to " + list);
+		out.println();
+		out.println("To create the archive, run the following with the same");
+		out.println("version of Java as the function. The class path must be");
+		out.println("the JAR files of the function where they are in Lambda,");
+		out.println("such as /var/task/lib, since classes which are not in a");
+		out.println("JAR file cannot be archived:");
+		out.println();
+		out.println("    java -Xshare:dump -XX:SharedClassListFile=" + list +
+			" \\");
+		out.println("        -XX:SharedArchiveFile=iopipe.jsa -cp " +
+			"<class path>");
+		out.println();
+		out.println("Then place iopipe.jsa in a layer and add the following");
+		out.println("to the JAVA_TOOL_OPTIONS environment variable of the");
+		out.println("function:");
+		out.println();
+		out.println("    -XX:SharedArchiveFile=/opt/iopipe.jsa");
+		out.println();
+		out.println("The archive must be created again whenever any JAR file");
+		out.println("of the function changes, otherwise it is ignored.");
+		
+		return 0;
+	}
+	
+	/**
+	 * Runs the tool.
+	 *
+	 * @param __out The stream where messages are written.
+	 * @param __err The stream where errors and usage are written.
+	 * @param __args Arguments to the tool.
+	 * @return The exit code of the tool.
+	 * @throws NullPointerException If no streams were specified.
+	 * @since 2026/10/18
+	 */
+	static int __main(PrintStream __out, PrintStream __err, String... __args)
+		throws NullPointerException
+	{
+		if (__out == null || __err == null)
+			throw new NullPointerException();
+		
+		if (__args == null)
+			__args = new String[0];
+		
+		try
+		{
+			// Running the handler to record the classes, this is only
+			// ever done by the tool itself
+			if (__args.length > 0 && _RUN_ARGUMENT.equals(__args[0]))
+			{
+				if (__args.length == 3)
+				{
+					ClassListGenerator.__run(__args[1], Paths.get(__args[2]));
+					return 0;
+				}
+			}
+			
+			// Generating the list
+			else if (__args.length == 2 || __args.length == 3)
+			{
+				Path event = Paths.get(__args[1]);
+				if (!Files.isReadable(event) || Files.isDirectory(event))
+				{
+					__err.println("Cannot read the event " + event + ".");
+					return 1;
+				}
+				
+				return ClassListGenerator.__generate(__out, __err,
+					__args[0], event, Paths.get((__args.length == 3 ?
+					__args[2] : _DEFAULT_OUTPUT)));
+			}
+		}
+		catch (IOException|InterruptedException e)
+		{
+			e.printStackTrace(__err);
+			return 1;
+		}
+		
+		__err.println("Usage: java -cp <class path> " +
+			ClassListGenerator.class.getName() +
+			" <class[::method]> <event.json> [output.classlist]");
+		__err.println();
+		__err.println("Runs the handler through the generic handler with");
+		__err.println("the given event and writes the classes which were");
+		__err.println("loaded to the output, which is " + _DEFAULT_OUTPUT);
+		__err.println("by default.");
+		return 1;
+	}
+	
+	/**
+	 * Runs the handler once with the given event.
+	 *
+	 * @param __handler The handler to run.
+	 * @param __event The event to send to the handler.
+	 * @throws InterruptedException If the process was interrupted.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static void __run(String __handler, Path __event)
+		throws InterruptedException, IOException, NullPointerException
+	{
+		if (__handler == null || __event == null)
+			throw new NullPointerException();
+		
+		// Reports are received locally, so that the classes used to send
+		// them are loaded without sending anything to the service
+		CountDownLatch reported = new CountDownLatch(1);
+		HttpServer server = HttpServer.create(new InetSocketAddress(
+			InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", (__x) ->
+			{
+				try (InputStream in = __x.getRequestBody())
+				{
+					byte[] buf = new byte[4096];
+					while (in.read(buf) >= 0)
+						;
+				}
+				
+				byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+				__x.sendResponseHeaders(202, body.length);
+				try (OutputStream os = __x.getResponseBody())
+				{
+					os.write(body);
+				}
+				
+				reported.countDown();
+			});
+		server.start();
+		
+		try
+		{
+			// These must be set before any part of the agent is initialized
+			System.setProperty("com.iopipe.enabled", "true");
+			System.setProperty("com.iopipe.token", "classlist");
+			System.setProperty("com.iopipe.collectorurl", "http://" +
+				server.getAddress().getAddress().getHostAddress() + ":" +
+				server.getAddress().getPort() + "/");
+			System.setProperty("com.iopipe.handler", __handler);
+			
+			// Lambda gives generic handlers maps, lists and values
+			Object event = new ObjectMapper().readValue(__event.toFile(),
+				Object.class);
+			
+			// Failures of the handler are still recorded, so the classes
+			// which were loaded are still useful
+			try
+			{
+				new GenericAWSRequestHandler().handleRequest(event, null);
+			}
+			catch (RuntimeException|Error e)
+			{
+				System.err.println("The handler failed, the class list " +
+					"is still generated.");
+				e.printStackTrace();
+			}
+			
+			if (!reported.await(_REPORT_WAIT, TimeUnit.MILLISECONDS))
+				System.err.println("No report was sent, the class list " +
+					"might be missing the classes used to send it.");
+		}
+		finally
+		{
+			server.stop(0);
+		}
+	}
+}
+
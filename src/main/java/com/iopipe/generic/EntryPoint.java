@@ -1,6 +1,7 @@
 package com.iopipe.generic;
 
 import com.amazonaws.services.lambda.runtime.Context;
+import com.iopipe.ColdStartTimeline;
 import com.iopipe.IOpipeConfiguration;
 import com.iopipe.IOpipeExecution;
 import com.iopipe.IOpipeFatalError;
@@ -163,6 +164,8 @@ public final class EntryPoint
 			}
 		
 		// Creating an instance may fail
+		ColdStartTimeline.Phase phase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_HANDLER);
 		try
 		{
 			return used.newInstance();
@@ -193,6 +196,8 @@ public final class EntryPoint
 		// it does not remain accessible if it was not
 		finally
 		{
+			phase.end();
+			
 			if (!access)
 				try
 				{
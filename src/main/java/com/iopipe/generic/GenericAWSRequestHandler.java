@@ -2,6 +2,7 @@ package com.iopipe.generic;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.iopipe.ColdStartTimeline;
 import com.iopipe.IOpipeService;
 import com.iopipe.IOpipeWrappedException;
 import java.lang.invoke.MethodHandle;
@@ -9,7 +10,9 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Type;
 import java.util.AbstractMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import org.pmw.tinylog.Logger;
 
 /**
  * This class uses a generic request handler for AWS to forward and wrap
@@ -81,6 +84,10 @@ public final class GenericAWSRequestHandler
 		else
 			throw new InvalidEntryPointException("Entry point is not valid " +
 				"because it lacks a first paramater: " + handle);
+		
+		// Everything is prepared while the function is initialized
+		if (IOpipeService.prewarmInstance() != null)
+			this.__prewarm();
 	}
 	
 	/**
@@ -105,8 +112,13 @@ public final class GenericAWSRequestHandler
 			Type now = (__in == null ? Object.class : __in.getClass()),
 				was = (translator == null ? null : translator.from());
 			if (now != was && !now.equals(was))
+			{
+				ColdStartTimeline.Phase phase = ColdStartTimeline.begin(
+					ColdStartTimeline.PHASE_TRANSLATOR);
 				cachetrans.set((translator =
 					ObjectTranslator.translator(now, this.targettype)));
+				phase.end();
+			}
 			
 			// Convert
 			converted = translator.translate(__in);
@@ -118,6 +130,29 @@ public final class GenericAWSRequestHandler
 			conversionfailed = e;
 		}
 		
+		// Call the entry point directly if executions are not measured
+		IOpipeService service = IOpipeService.instance();
+		if (!service.isActive())
+		{
+			if (conversionfailed instanceof RuntimeException)
+				throw (RuntimeException)conversionfailed;
+			else if (conversionfailed instanceof Error)
+				throw (Error)conversionfailed;
+			
+			try
+			{
+				return this.handle.invoke(converted, __context);
+			}
+			catch (RuntimeException|Error e)
+			{
+				throw e;
+			}
+			catch (Throwable e)
+			{
+				throw new IOpipeWrappedException(e.getMessage(), e);
+			}
+		}
+		
 		// The variables above are not effectively final so make them
 		final Object xxconverted = converted;
 		final Throwable xxconversionfailed = conversionfailed;
@@ -125,7 +160,6 @@ public final class GenericAWSRequestHandler
 		// Now call the wrapper with the converted input (if one was produced)
 		try
 		{
-			IOpipeService service = IOpipeService.instance();
 			return service.<Object>run(__context, (__exec) ->
 				{
 					// If conversion failed report it in the wrapper so it is
@@ -155,5 +189,38 @@ public final class GenericAWSRequestHandler
 			throw e;
 		}
 	}
+	
+	/**
+	 * Creates the translator for the input which Lambda is most likely to
+	 * give, which is a map for JSON objects, and translates an empty one so
+	 * that the translator is ready for the first execution.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __prewarm()
+	{
+		ColdStartTimeline.Phase phase = ColdStartTimeline.begin(
+			ColdStartTimeline.PHASE_TRANSLATOR);
+		
+		try
+		{
+			ObjectTranslator translator = ObjectTranslator.translator(
+				LinkedHashMap.class, this.targettype);
+			this._cachetrans.set(translator);
+			
+			translator.translate(new LinkedHashMap<>());
+		}
+		
+		// The target might not be able to be made from an empty object, but
+		// the translator is still ready
+		catch (RuntimeException e)
+		{
+			Logger.debug(e, "Could not prewarm the translator.");
+		}
+		finally
+		{
+			phase.end();
+		}
+	}
 }
 
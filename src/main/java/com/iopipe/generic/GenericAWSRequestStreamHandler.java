@@ -63,6 +63,9 @@ public final class GenericAWSRequestStreamHandler
 			throw new NullPointerException();
 		
 		this.handle = __e.handleWithNewInstance();
+		
+		// Everything is prepared while the function is initialized
+		IOpipeService.prewarmInstance();
 	}
 	
 	/**
@@ -74,9 +77,28 @@ public final class GenericAWSRequestStreamHandler
 		Context __context)
 		throws IOException
 	{
+		// Call the entry point directly if executions are not measured
+		IOpipeService service = IOpipeService.instance();
+		if (!service.isActive())
+		{
+			try
+			{
+				this.handle.invoke(__in, __out, __context);
+			}
+			catch (IOException|RuntimeException|Error e)
+			{
+				throw e;
+			}
+			catch (Throwable e)
+			{
+				throw new IOpipeWrappedException(e.getMessage(), e);
+			}
+			
+			return;
+		}
+		
 		try
 		{
-			IOpipeService service = IOpipeService.instance();
 			service.<Object>run(__context, (__exec) ->
 				{
 					try
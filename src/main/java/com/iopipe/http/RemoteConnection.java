@@ -25,5 +25,18 @@ public interface RemoteConnection
 	 */
 	public abstract RemoteResult send(RequestType __t, RemoteRequest __r)
 		throws NullPointerException, RemoteException;
+	
+	/**
+	 * Closes any connections which are being kept open to be reused, this is
+	 * used when the process is checkpointed or restored since those
+	 * connections are no longer valid.
+	 *
+	 * The default implementation does nothing.
+	 *
+	 * @since 2026/10/18
+	 */
+	public default void reset()
+	{
+	}
 }
 
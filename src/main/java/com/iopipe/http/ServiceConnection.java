@@ -48,6 +48,17 @@ public final class ServiceConnection
 		this.authtoken = __auth;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void reset()
+	{
+		// The pool is shared by every connection from the same factory
+		this.client.connectionPool().evictAll();
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/02/24
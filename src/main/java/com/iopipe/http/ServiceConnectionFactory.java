@@ -12,9 +12,11 @@ import okhttp3.OkHttpClient;
 public final class ServiceConnectionFactory
 	implements RemoteConnectionFactory
 {
-	/** The OkHttp client manager. */
-	protected final OkHttpClient client =
-		new OkHttpClient.Builder().build();
+	/**
+	 * The OkHttp client manager, this is created when the first connection
+	 * is made because setting up TLS loads many classes.
+	 */
+	private volatile OkHttpClient _client;
 	
 	/**
 	 * {@inheritDoc}
@@ -30,7 +32,28 @@ public final class ServiceConnectionFactory
 		HttpUrl url = HttpUrl.parse(__url);
 		if (url == null)
 			throw new RemoteException("Invalid URL: " + __url);
-		return new ServiceConnection(this.client, url, __auth);
+		return new ServiceConnection(this.__client(), url, __auth);
+	}
+	
+	/**
+	 * Returns the client, creating it if it has not been.
+	 *
+	 * @return The client.
+	 * @since 2026/10/18
+	 */
+	private final OkHttpClient __client()
+	{
+		OkHttpClient rv = this._client;
+		if (rv != null)
+			return rv;
+		
+		synchronized (this)
+		{
+			rv = this._client;
+			if (rv == null)
+				this._client = (rv = new OkHttpClient.Builder().build());
+			return rv;
+		}
 	}
 }
 
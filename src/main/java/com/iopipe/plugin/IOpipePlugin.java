@@ -1,6 +1,7 @@
 package com.iopipe.plugin;
 
 import com.iopipe.IOpipeExecution;
+import com.iopipe.IOpipeService;
 import java.lang.ref.Reference;
 
 /**
@@ -13,6 +14,12 @@ import java.lang.ref.Reference;
  * If it is required that finalization be performed after execution ends then
  * {@link IOpipePluginPostExecutable} may be implemented.
  *
+ * Plugins which are enabled have {@link #init(IOpipeService)} called when the
+ * service is initialized, {@link #onThaw()} called when a warm container
+ * starts a new execution, and {@link #shutdown()} called when the container
+ * shuts down. These may be used to keep state which is shared by all
+ * executions, such as resources which are expensive to create.
+ *
  * This class is used with {@link java.util.ServiceLoader} to locate services.
  *
  * @see IOpipePluginPreExecutable
@@ -50,41 +57,143 @@ public interface IOpipePlugin
 	/**
 	 * Return the name of this plugin.
 	 *
+	 * The default implementation returns {@link IOpipePluginInfo#name()},
+	 * plugins which are not annotated are named after their class.
+	 *
 	 * @return The name of this plugin.
 	 * @since 2018/01/20
 	 */
-	public abstract String name();
+	public default String name()
+	{
+		IOpipePluginInfo info = this.getClass().
+			getAnnotation(IOpipePluginInfo.class);
+		if (info == null)
+			return this.getClass().getName();
+		return info.name();
+	}
 	
 	/**
 	 * Returns the version of this plugin.
 	 *
-	 * @return The plugin version.
+	 * The default implementation returns {@link IOpipePluginInfo#version()},
+	 * plugins which are not annotated have no version.
+	 *
+	 * @return The plugin version or {@code null} if it has none.
 	 * @since 2018/01/20
 	 */
-	public abstract String version();
+	public default String version()
+	{
+		IOpipePluginInfo info = this.getClass().
+			getAnnotation(IOpipePluginInfo.class);
+		if (info == null)
+			return null;
+		return info.version();
+	}
 	
 	/**
 	 * Should this plugin be enabled by default?
 	 *
-	 * The default implementation is that plugins are disabled by default.
+	 * The default implementation returns
+	 * {@link IOpipePluginInfo#enabledByDefault()}, plugins which are not
+	 * annotated are disabled by default.
 	 *
 	 * @return {@code true} if it is enabled by default.
 	 * @since 2018/01/20
 	 */
 	public default boolean enabledByDefault()
 	{
-		return false;
+		IOpipePluginInfo info = this.getClass().
+			getAnnotation(IOpipePluginInfo.class);
+		return (info != null && info.enabledByDefault());
 	}
 	
 	/**
 	 * Return the homepage where this plugin is located, this is optional.
 	 *
+	 * The default implementation returns {@link IOpipePluginInfo#homepage()}.
+	 *
 	 * @return The homepage for this plugin or {@code null} if there is none.
 	 * @since 2018/01/20
 	 */
 	public default String homepage()
 	{
-		return null;
+		IOpipePluginInfo info = this.getClass().
+			getAnnotation(IOpipePluginInfo.class);
+		if (info == null || info.homepage().isEmpty())
+			return null;
+		return info.homepage();
+	}
+	
+	/**
+	 * Initializes container wide state for this plugin, this is called once
+	 * when the service is initialized and only if the plugin is enabled.
+	 *
+	 * The default implementation does nothing.
+	 *
+	 * @param __sv The service this plugin belongs to.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public default void init(IOpipeService __sv)
+		throws NullPointerException
+	{
+		if (__sv == null)
+			throw new NullPointerException();
+	}
+	
+	/**
+	 * This is called before any plugin is executed when an execution starts
+	 * in a container which is warm, this is not called for cold starts.
+	 *
+	 * The default implementation does nothing.
+	 *
+	 * @since 2026/10/18
+	 */
+	public default void onThaw()
+	{
+	}
+	
+	/**
+	 * This is called before a checkpoint of the process is taken, any files
+	 * which the plugin keeps open must be closed since a process with open
+	 * files cannot be checkpointed. The plugin is still used after the
+	 * process is restored.
+	 *
+	 * The default implementation does nothing.
+	 *
+	 * @since 2026/10/18
+	 */
+	public default void beforeCheckpoint()
+	{
+	}
+	
+	/**
+	 * Returns whether executions of this plugin may be created, but not
+	 * executed, while the agent is prewarmed. This is done so that the code
+	 * used to create and report them is already loaded when the first
+	 * execution runs. Such executions have no signer and are never pre or
+	 * post executed, so creating them must have no other side effects.
+	 *
+	 * The default implementation returns {@code false}.
+	 *
+	 * @return If executions may be created while prewarming.
+	 * @since 2026/10/18
+	 */
+	public default boolean isPrewarmable()
+	{
+		return false;
+	}
+	
+	/**
+	 * This is called when the container is shutting down and may be used to
+	 * clean up any container wide state.
+	 *
+	 * The default implementation does nothing.
+	 *
+	 * @since 2026/10/18
+	 */
+	public default void shutdown()
+	{
 	}
 }
 
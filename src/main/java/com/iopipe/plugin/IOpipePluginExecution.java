@@ -1,6 +1,9 @@
 package com.iopipe.plugin;
 
+import java.util.Map;
 import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
 
 /**
  * For plugins which provide access to information based on execution, this
@@ -24,5 +27,33 @@ public interface IOpipePluginExecution
 	{
 		return null;
 	}
+	
+	/**
+	 * Plugins may add additional details to be reported, this writes the
+	 * fields directly into the plugin information in the report. Only
+	 * key and value pairs may be written, the plugin information object must
+	 * not be ended.
+	 *
+	 * The default implementation writes the fields which are returned by
+	 * {@link #extraReport()}, plugins which add large amounts of data should
+	 * instead override this method so that no intermediate object is
+	 * created.
+	 *
+	 * @param __gen The generator for the report, it is positioned within the
+	 * plugin information object.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public default void writeExtraReport(JsonGenerator __gen)
+		throws NullPointerException
+	{
+		if (__gen == null)
+			throw new NullPointerException();
+		
+		JsonObject extra = this.extraReport();
+		if (extra != null)
+			for (Map.Entry<String, JsonValue> e : extra.entrySet())
+				__gen.write(e.getKey(), e.getValue());
+	}
 }
 
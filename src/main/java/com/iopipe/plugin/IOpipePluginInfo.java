@@ -0,0 +1,63 @@
+package com.iopipe.plugin;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This describes a plugin so that it can be placed into the plugin registry
+ * when it is compiled, this allows plugins to be found without searching the
+ * class path and without creating plugins which are not enabled.
+ *
+ * The values here are returned by the default implementations of
+ * {@link IOpipePlugin#name()}, {@link IOpipePlugin#version()},
+ * {@link IOpipePlugin#homepage()} and
+ * {@link IOpipePlugin#enabledByDefault()}, so plugins should not implement
+ * those methods themselves.
+ *
+ * The class must implement {@link IOpipePlugin} and have a public
+ * constructor which takes no arguments.
+ *
+ * @see PluginRegistryProcessor
+ * @since 2026/10/18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface IOpipePluginInfo
+{
+	/**
+	 * The name of the plugin.
+	 *
+	 * @return The plugin name.
+	 * @since 2026/10/18
+	 */
+	String name();
+	
+	/**
+	 * The version of the plugin.
+	 *
+	 * @return The plugin version.
+	 * @since 2026/10/18
+	 */
+	String version();
+	
+	/**
+	 * The homepage of the plugin.
+	 *
+	 * @return The plugin homepage, an empty string if there is none.
+	 * @since 2026/10/18
+	 */
+	String homepage() default "";
+	
+	/**
+	 * Is the plugin enabled by default?
+	 *
+	 * @return If the plugin is enabled by default.
+	 * @since 2026/10/18
+	 */
+	boolean enabledByDefault() default false;
+}
+
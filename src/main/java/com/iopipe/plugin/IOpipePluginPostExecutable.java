@@ -1,5 +1,9 @@
 package com.iopipe.plugin;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 /**
  * This interface is used for plugins which require that when the method
  * being traced has finished executing, that it should perform some final
@@ -19,5 +23,52 @@ public interface IOpipePluginPostExecutable
 	 */
 	public abstract void postExecute(IOpipePluginExecution __e)
 		throws NullPointerException;
+	
+	/**
+	 * Returns whether the post-execution of this plugin does not depend on
+	 * any other plugin and as such can run at the same time as other plugins
+	 * are post-executing. The report is only built after all of the
+	 * independent plugins have finished or the deadline before the function
+	 * would time out has been reached.
+	 *
+	 * @return If the post-execution may run concurrently.
+	 * @since 2026/10/18
+	 */
+	public default boolean isPostExecuteIndependent()
+	{
+		return false;
+	}
+	
+	/**
+	 * Performs a post-execution of the given plugin which may complete at a
+	 * later time. If {@code null} is returned then the post-execution has
+	 * already completed.
+	 *
+	 * The default implementation calls {@link #postExecute(
+	 * IOpipePluginExecution)} directly, or if
+	 * {@link #isPostExecuteIndependent()} is {@code true} then it will be
+	 * called using the given executor.
+	 *
+	 * @param __e The plugin execution state.
+	 * @param __x The executor which is available for performing tasks.
+	 * @return The stage for the completion of post-execution or {@code null}
+	 * if it has already completed.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public default CompletionStage<?> postExecuteAsync(
+		IOpipePluginExecution __e, Executor __x)
+		throws NullPointerException
+	{
+		if (__e == null || __x == null)
+			throw new NullPointerException();
+		
+		if (this.isPostExecuteIndependent())
+			return CompletableFuture.runAsync(() -> this.postExecute(__e),
+				__x);
+		
+		this.postExecute(__e);
+		return null;
+	}
 }
 
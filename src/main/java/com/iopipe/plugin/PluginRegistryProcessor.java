@@ -0,0 +1,500 @@
+package com.iopipe.plugin;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * This is an annotation processor which generates the plugin registry from
+ * every class that is annotated with {@link IOpipePluginInfo}, this allows
+ * plugins to be found when the service starts without searching the class
+ * path.
+ *
+ * Every JAR gets its own registry class, which is named after a hash of its
+ * contents so that registries from different JARs do not replace each other
+ * when they are shaded together. The registry classes are listed in
+ * {@link #REGISTRY_INDEX}, which is merged the same way as the files in
+ * {@code META-INF/services}.
+ *
+ * When {@link #APPLICATION_OPTION} is set to {@code true}, which should only
+ * be done when compiling a function, the processor also generates
+ * {@link #APPLICATION_REGISTRY}. This contains the plugins of the function
+ * along with those of every registry on the compile class path, so when the
+ * function starts the plugins are known by loading a single class and the
+ * class path is not searched at all.
+ *
+ * Each line of the registry is the class, name, version, homepage and
+ * whether the plugin is enabled by default, separated by tabs. The plugins
+ * are in the order they were declared in.
+ *
+ * The processor is not registered in the agent JAR, it is registered in the
+ * JAR with the {@code processor} classifier which may be added to the
+ * annotation processor path.
+ *
+ * @since 2026/10/18
+ */
+@SupportedAnnotationTypes("com.iopipe.plugin.IOpipePluginInfo")
+public final class PluginRegistryProcessor
+	extends AbstractProcessor
+{
+	/** The package which contains the registries. */
+	public static final String REGISTRY_PACKAGE =
+		"com.iopipe.plugin";
+	
+	/** The resource which lists the registry classes, one per line. */
+	public static final String REGISTRY_INDEX =
+		"META-INF/iopipe/plugin-registries";
+	
+	/** The prefix of the registry class names. */
+	public static final String REGISTRY_PREFIX =
+		"__PluginRegistry_";
+	
+	/** The registry which contains every plugin of an application. */
+	public static final String APPLICATION_REGISTRY =
+		"com.iopipe.plugin.__ApplicationPluginRegistry__";
+	
+	/** The option which enables generating the application registry. */
+	public static final String APPLICATION_OPTION =
+		"iopipe.application";
+	
+	/** The field in the registry class which contains the entries. */
+	public static final String REGISTRY_FIELD =
+		"ENTRIES";
+	
+	/** The number of fields in each entry. */
+	public static final int REGISTRY_FIELD_COUNT =
+		5;
+	
+	/** Plugin methods which are implemented by the annotation. */
+	private static final Set<String> _DESCRIBED =
+		new HashSet<>(Arrays.asList("name", "version", "homepage",
+			"enabledByDefault"));
+	
+	/** Has the registry been written? */
+	private boolean _written;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final Set<String> getSupportedAnnotationTypes()
+	{
+		// The application registry is written even if the function has no
+		// plugins of its own
+		if (this.__isApplication())
+			return Collections.<String>singleton("*");
+		return super.getSupportedAnnotationTypes();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final Set<String> getSupportedOptions()
+	{
+		return Collections.<String>singleton(APPLICATION_OPTION);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final boolean process(Set<? extends TypeElement> __annos,
+		RoundEnvironment __round)
+		throws NullPointerException
+	{
+		if (__annos == null || __round == null)
+			throw new NullPointerException();
+		
+		// Other annotations are never claimed
+		boolean application = this.__isApplication();
+		boolean claim = !application;
+		
+		// The registry can only be written once, so it is written in the
+		// first round which has plugins or the first round at all for
+		// applications
+		Set<? extends Element> found =
+			__round.getElementsAnnotatedWith(IOpipePluginInfo.class);
+		if (found.isEmpty() && (!application || this._written))
+			return false;
+		
+		Messager messager = this.processingEnv.getMessager();
+		if (this._written)
+		{
+			for (Element e : found)
+				messager.printMessage(Diagnostic.Kind.ERROR, "The plugin " +
+					"registry was already written, this plugin was likely " +
+					"generated by another annotation processor.", e);
+			return claim;
+		}
+		
+		// Entries are in the order the plugins were declared
+		Map<String, String> entries = new LinkedHashMap<>();
+		
+		Elements elements = this.processingEnv.getElementUtils();
+		Types types = this.processingEnv.getTypeUtils();
+		TypeMirror plugin = types.erasure(elements.getTypeElement(
+			"com.iopipe.plugin.IOpipePlugin").asType());
+		for (Element e : found)
+		{
+			if (e.getKind() != ElementKind.CLASS ||
+				!types.isAssignable(types.erasure(e.asType()), plugin))
+			{
+				messager.printMessage(Diagnostic.Kind.ERROR, "Only classes " +
+					"which implement IOpipePlugin may be annotated with " +
+					"IOpipePluginInfo.", e);
+				continue;
+			}
+			
+			TypeElement type = (TypeElement)e;
+			if (!PluginRegistryProcessor.__isCreatable(type))
+			{
+				messager.printMessage(Diagnostic.Kind.ERROR, "Plugins must " +
+					"be public, not abstract, not inner classes and must " +
+					"have a public constructor with no arguments.", e);
+				continue;
+			}
+			
+			IOpipePluginInfo info = type.getAnnotation(IOpipePluginInfo.class);
+			String[] fields = new String[]{info.name(), info.version(),
+				info.homepage()};
+			boolean valid = !fields[0].isEmpty() && !fields[1].isEmpty();
+			for (String f : fields)
+				if (f.indexOf('\t') >= 0 || f.indexOf('\n') >= 0)
+					valid = false;
+			if (!valid)
+			{
+				messager.printMessage(Diagnostic.Kind.ERROR, "The name and " +
+					"version of a plugin must not be empty, and no value may " +
+					"contain tabs or newlines.", e);
+				continue;
+			}
+			
+			// The registry would not match the plugin if it described itself
+			for (ExecutableElement m : ElementFilter.methodsIn(
+				type.getEnclosedElements()))
+				if (m.getParameters().isEmpty() &&
+					_DESCRIBED.contains(m.getSimpleName().toString()))
+					messager.printMessage(Diagnostic.Kind.ERROR, "Plugins " +
+						"which are annotated with IOpipePluginInfo must not " +
+						"implement " + m.getSimpleName() + "(), the value " +
+						"comes from the annotation.", m);
+			
+			String cl = elements.getBinaryName(type).toString();
+			entries.put(cl, cl + "\t" + fields[0] + "\t" + fields[1] + "\t" +
+				fields[2] + "\t" + info.enabledByDefault());
+		}
+		
+		this._written = true;
+		if (!entries.isEmpty())
+			this.__write(entries);
+		if (application)
+			this.__writeApplication(entries);
+		return claim;
+	}
+	
+	/**
+	 * Returns whether the application registry is to be written.
+	 *
+	 * @return If the application registry is to be written.
+	 * @since 2026/10/18
+	 */
+	private final boolean __isApplication()
+	{
+		return Boolean.parseBoolean(this.processingEnv.getOptions().
+			get(APPLICATION_OPTION));
+	}
+	
+	/**
+	 * Writes the application registry, which contains the given entries and
+	 * then those of every registry on the class path.
+	 *
+	 * @param __entries The entries of the plugins being compiled.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final void __writeApplication(Map<String, String> __entries)
+		throws NullPointerException
+	{
+		if (__entries == null)
+			throw new NullPointerException();
+		
+		Map<String, String> all = new LinkedHashMap<>(__entries);
+		
+		// The registries are sorted by name so the application registry is
+		// always the same, the order within each registry is kept
+		Map<String, String> registries = new TreeMap<>();
+		PackageElement pk = this.processingEnv.getElementUtils().
+			getPackageElement(REGISTRY_PACKAGE);
+		if (pk != null)
+			for (TypeElement type : ElementFilter.typesIn(
+				pk.getEnclosedElements()))
+			{
+				if (!type.getSimpleName().toString().startsWith(
+					REGISTRY_PREFIX))
+					continue;
+				
+				// The entries are a constant so they are in the class file
+				for (VariableElement v : ElementFilter.fieldsIn(
+					type.getEnclosedElements()))
+					if (v.getSimpleName().contentEquals(REGISTRY_FIELD) &&
+						v.getConstantValue() instanceof String)
+						registries.put(type.getQualifiedName().toString(),
+							(String)v.getConstantValue());
+			}
+		
+		for (String registry : registries.values())
+			for (String line : registry.split("\n"))
+			{
+				int tab = line.indexOf('\t');
+				if (tab > 0)
+					all.putIfAbsent(line.substring(0, tab), line);
+			}
+		
+		this.__writeClass(APPLICATION_REGISTRY, all);
+	}
+	
+	/**
+	 * Writes the registry class and the index which lists it.
+	 *
+	 * @param __entries The entries to write.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final void __write(Map<String, String> __entries)
+		throws NullPointerException
+	{
+		if (__entries == null)
+			throw new NullPointerException();
+		
+		// The hash ignores the order so that the name does not depend on
+		// the order the compiler found the plugins in
+		StringBuilder all = new StringBuilder();
+		for (String line : new TreeMap<>(__entries).values())
+			all.append(line).append('\n');
+		
+		String cl = REGISTRY_PACKAGE + "." + REGISTRY_PREFIX +
+			PluginRegistryProcessor.__hash(all.toString()) + "__";
+		if (!this.__writeClass(cl, __entries))
+			return;
+		
+		// The index only lists the registry of this JAR, the indexes of
+		// other JARs are merged in when they are shaded together
+		try (Writer w = this.processingEnv.getFiler().createResource(
+			StandardLocation.CLASS_OUTPUT, "", REGISTRY_INDEX).openWriter())
+		{
+			w.write(cl + "\n");
+		}
+		catch (IOException e)
+		{
+			this.processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR, "Could not write the plugin registry " +
+				"index: " + e);
+		}
+	}
+	
+	/**
+	 * Writes a registry class.
+	 *
+	 * @param __cl The name of the class to write.
+	 * @param __entries The entries to write.
+	 * @return If the class was written.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final boolean __writeClass(String __cl,
+		Map<String, String> __entries)
+		throws NullPointerException
+	{
+		if (__cl == null || __entries == null)
+			throw new NullPointerException();
+		
+		String name = __cl.substring(__cl.lastIndexOf('.') + 1);
+		try (Writer w = this.processingEnv.getFiler().
+			createSourceFile(__cl).openWriter())
+		{
+			w.write("package " + REGISTRY_PACKAGE + ";\n\n");
+			w.write("/**\n");
+			w.write(" * This is the plugin registry, it was generated by\n");
+			w.write(" * {@code " + PluginRegistryProcessor.class.getName() +
+				"}.\n");
+			w.write(" */\n");
+			w.write("public final class " + name + "\n");
+			w.write("{\n");
+			w.write("\t/** The plugins, one per line. */\n");
+			w.write("\tpublic static final String " + REGISTRY_FIELD +
+				" =\n");
+			w.write("\t\t\"\"");
+			for (String line : __entries.values())
+			{
+				w.write(" +\n\t\t\"");
+				PluginRegistryProcessor.__escape(w, line + "\n");
+				w.write("\"");
+			}
+			w.write(";\n\n");
+			w.write("\tprivate " + name + "()\n");
+			w.write("\t{\n");
+			w.write("\t}\n");
+			w.write("}\n");
+		}
+		catch (IOException e)
+		{
+			this.processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR, "Could not write the plugin registry: " +
+				e);
+			return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Writes the given string so that it may be placed in a string literal.
+	 *
+	 * @param __w The writer to write to.
+	 * @param __s The string to write.
+	 * @throws IOException On write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __escape(Writer __w, String __s)
+		throws IOException, NullPointerException
+	{
+		if (__w == null || __s == null)
+			throw new NullPointerException();
+		
+		for (int i = 0, n = __s.length(); i < n; i++)
+		{
+			char c = __s.charAt(i);
+			switch (c)
+			{
+				case '\t':
+					__w.write("\\t");
+					break;
+				
+				case '\n':
+					__w.write("\\n");
+					break;
+				
+				case '\"':
+				case '\\':
+					__w.write('\\');
+					__w.write(c);
+					break;
+				
+				default:
+					if (c < 0x20 || c > 0x7E)
+						__w.write(String.format("\\u%04x", (int)c));
+					else
+						__w.write(c);
+					break;
+			}
+		}
+	}
+	
+	/**
+	 * Returns a short hash of the given registry, so that registries with
+	 * different contents have different names.
+	 *
+	 * @param __s The registry to hash.
+	 * @return The hash as hexadecimal.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final String __hash(String __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		byte[] digest;
+		try
+		{
+			digest = MessageDigest.getInstance("SHA-256").
+				digest(__s.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		}
+		
+		StringBuilder rv = new StringBuilder();
+		for (int i = 0; i < 8; i++)
+			rv.append(String.format("%02x", digest[i] & 0xFF));
+		return rv.toString();
+	}
+	
+	/**
+	 * Checks that the given class may be created by the service.
+	 *
+	 * @param __t The class to check.
+	 * @return If the class can be created.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final boolean __isCreatable(TypeElement __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		Set<Modifier> mods = __t.getModifiers();
+		if (!mods.contains(Modifier.PUBLIC) ||
+			mods.contains(Modifier.ABSTRACT))
+			return false;
+		
+		// Inner classes need an outer instance
+		Element outer = __t.getEnclosingElement();
+		if (outer != null && outer.getKind() != ElementKind.PACKAGE &&
+			!mods.contains(Modifier.STATIC))
+			return false;
+		
+		for (ExecutableElement c : ElementFilter.constructorsIn(
+			__t.getEnclosedElements()))
+			if (c.getParameters().isEmpty() &&
+				c.getModifiers().contains(Modifier.PUBLIC))
+				return true;
+		return false;
+	}
+}
+
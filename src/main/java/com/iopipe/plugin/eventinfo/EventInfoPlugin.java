@@ -4,6 +4,7 @@ import com.iopipe.IOpipeConstants;
 import com.iopipe.IOpipeExecution;
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
 import com.iopipe.plugin.IOpipePluginPreExecutable;
 
@@ -13,22 +14,14 @@ import com.iopipe.plugin.IOpipePluginPreExecutable;
  *
  * @since 2018/04/22
  */
+@IOpipePluginInfo(name = "event-info", version = "1.2.0",
+	homepage = "https://github.com/iopipe/iopipe-java", enabledByDefault = true)
 public class EventInfoPlugin
 	implements IOpipePlugin, IOpipePluginPostExecutable
 {
 	/** Default set of decoders, lazily initialized. */
 	private volatile EventInfoDecoders _decoders;
 	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/04/22
-	 */
-	@Override
-	public boolean enabledByDefault()
-	{
-		return true;
-	}
-	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/04/22
@@ -60,22 +53,12 @@ public class EventInfoPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/04/22
+	 * @since 2026/10/18
 	 */
 	@Override
-	public String homepage()
+	public boolean isPrewarmable()
 	{
-		return "https://github.com/iopipe/iopipe-java";
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/04/22
-	 */
-	@Override
-	public String name()
-	{
-		return "event-info";
+		return true;
 	}
 	
 	/**
@@ -91,15 +74,5 @@ public class EventInfoPlugin
 		
 		((EventInfoExecution)__e).__post();
 	}
-	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/04/22
-	 */
-	@Override
-	public String version()
-	{
-		return "1.2.0";
-	}
 }
 
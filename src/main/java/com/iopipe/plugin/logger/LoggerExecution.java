@@ -46,6 +46,18 @@ public final class LoggerExecution
 	/** The signer. */
 	private final IOpipeSigner _signer;
 	
+	/** The execution this is logging for. */
+	private final IOpipeExecution _execution;
+	
+	/** The plugin which owns reusable temporary logs, may be null. */
+	private final LoggerPlugin _plugin;
+	
+	/** The temporary log. */
+	private final __TempLog__ _templog;
+	
+	/** Has the temporary log been released? (locked by lock) */
+	private boolean _released;
+	
 	/**
 	 * Initializes the logger plugin collector.
 	 *
@@ -55,79 +67,64 @@ public final class LoggerExecution
 	 */
 	public LoggerExecution(IOpipeExecution __exec)
 		throws NullPointerException
+	{
+		this(__exec, null);
+	}
+	
+	/**
+	 * Initializes the logger plugin collector.
+	 *
+	 * @param __exec The execution.
+	 * @param __plugin The plugin which holds temporary logs that may be
+	 * reused, this may be {@code null}.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	LoggerExecution(IOpipeExecution __exec, LoggerPlugin __plugin)
+		throws NullPointerException
 	{
 		if (__exec == null)
 			throw new NullPointerException();
 		
+		this._execution = __exec;
+		this._plugin = __plugin;
 		IOpipeSigner signer = __exec.signer(".log");
 		
 		// The signer might not be available or the logging plugging parts
 		// might not initialize
-		Path tempfile = null;
-		FileChannel channel = null;
+		__TempLog__ templog = null;
 		Writer writer = null;
 		
-		// If the signer is available, setup the log to print to
+		// If the signer is available, setup the log to print to, a
+		// temporary log from a previous execution is used if possible
 		if (signer != null)
 			try
 			{
-				// Store log data in a temporary file
-				tempfile = Files.createTempFile("iopipe-logger", ".log");
-				
-				// Open temporary file for read/write
-				channel = FileChannel.open(tempfile,
-					StandardOpenOption.DELETE_ON_CLOSE,
-					StandardOpenOption.CREATE,
-					StandardOpenOption.TRUNCATE_EXISTING,
-					StandardOpenOption.READ,
-					StandardOpenOption.WRITE);
+				templog = (__plugin != null ? __plugin.__acquire() :
+					__TempLog__.__open());
 				
+				// The writer is never closed because it would close the
+				// channel, it is flushed after every log instead
 				writer = new OutputStreamWriter(
-					Channels.newOutputStream(channel), "utf-8");
+					Channels.newOutputStream(templog._channel), "utf-8");
 			}
 			catch (IOException e)
 			{
-				// Close the writer
-				if (writer != null)
-					try
-					{
-						writer.close();
-					}
-					catch (IOException f)
-					{
-					}
-				
-				// Close the channel
-				if (channel != null)
-					try
-					{
-						channel.close();
-					}
-					catch (IOException f)
-					{
-					}
-				
-				// Delete temporary
-				if (tempfile != null)
-					try
-					{
-						Files.delete(tempfile);
-					}
-					catch (IOException f)
-					{
-					}
+				// Close and delete the temporary file
+				if (templog != null)
+					templog.__close();
 				
 				// Clear these so they are not set
 				signer = null;
-				tempfile = null;
-				channel = null;
+				templog = null;
 				writer = null;
 			}
 		
 		// Use these
 		this._signer = signer;
-		this.tempfile = tempfile;
-		this.channel = channel;
+		this._templog = templog;
+		this.tempfile = (templog != null ? templog._path : null);
+		this.channel = (templog != null ? templog._channel : null);
 		this.writer = writer;
 	}
 	
@@ -331,6 +328,10 @@ public final class LoggerExecution
 			Object lock = this.lock;
 			synchronized (lock)
 			{
+				// The log file may have been given to another execution
+				if (this._released)
+					return;
+				
 				writer.write('{');
 				
 				// The message
@@ -453,32 +454,28 @@ public final class LoggerExecution
 			}
 		}
 		
-		// No matter what happens during the post operation, delete the
-		// temporary file so it does not consume any space!
+		// No matter what happens during the post operation, give the
+		// temporary file back so it can be reused or delete it so it does
+		// not consume any space!
 		finally
 		{
-			try
-			{
-				this.writer.close();
-				this.channel.close();
-			}
-			catch (IOException e)
-			{
-			}
-			
-			try
-			{
-				Files.delete(this.tempfile);
-			}
-			catch (IOException e)
-			{
-			}
+			__TempLog__ templog = this._templog;
+			if (templog != null)
+				synchronized (this.lock)
+				{
+					this._released = true;
+					
+					LoggerPlugin plugin = this._plugin;
+					if (plugin != null)
+						plugin.__release(templog);
+					else
+						templog.__close();
+				}
 		}
 		
-		// Report it
-		IOpipeExecution exec = IOpipeExecution.currentExecution();
-		if (exec != null)
-			exec.label("@iopipe/plugin-logger");
+		// Report it, this may be running in another thread so the execution
+		// this is logging for is used
+		this._execution.label("@iopipe/plugin-logger");
 	}
 	
 	/**
@@ -3,16 +3,29 @@ package com.iopipe.plugin.logger;
 import com.iopipe.IOpipeExecution;
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Queue;
 
 /**
  * This class contains the definition of the logger plugin.
  *
  * @since 2018/09/24
  */
+@IOpipePluginInfo(name = "logger", version = "1.0.0",
+	homepage = "https://github.com/iopipe/iopipe-java/")
 public final class LoggerPlugin
 	implements IOpipePlugin, IOpipePluginPostExecutable
 {
+	/** Temporary logs which are not in use and may be reused. */
+	private final Queue<__TempLog__> _spares =
+		new ConcurrentLinkedQueue<>();
+	
+	/** Has this been shutdown? */
+	private volatile boolean _shutdown;
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/09/24
@@ -24,17 +37,7 @@ public final class LoggerPlugin
 		if (__e == null)
 			throw new NullPointerException();
 		
-		return new LoggerExecution(__e);
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/09/24
-	 */
-	@Override
-	public final boolean enabledByDefault()
-	{
-		return false;
+		return new LoggerExecution(__e, this);
 	}
 	
 	/**
@@ -49,22 +52,23 @@ public final class LoggerPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/09/24
+	 * @since 2026/10/18
 	 */
 	@Override
-	public final String homepage()
+	public boolean isPrewarmable()
 	{
-		return "https://github.com/iopipe/iopipe-java/";
+		return true;
 	}
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/09/24
+	 * @since 2026/10/18
 	 */
 	@Override
-	public final String name()
+	public final void beforeCheckpoint()
 	{
-		return "logger";
+		// Temporary logs are opened again when they are needed
+		this.__closeSpares();
 	}
 	
 	/**
@@ -83,12 +87,84 @@ public final class LoggerPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/09/24
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean isPostExecuteIndependent()
+	{
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
 	 */
 	@Override
-	public final String version()
+	public final void shutdown()
 	{
-		return "1.0.0";
+		this._shutdown = true;
+		
+		this.__closeSpares();
+	}
+	
+	/**
+	 * Closes and deletes all of the temporary logs which are not in use.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __closeSpares()
+	{
+		Queue<__TempLog__> spares = this._spares;
+		for (__TempLog__ t; null != (t = spares.poll());)
+			t.__close();
+	}
+	
+	/**
+	 * Obtains a temporary log, one which is not in use will be used if one
+	 * is available.
+	 *
+	 * @return The temporary log.
+	 * @throws IOException If it could not be opened.
+	 * @since 2026/10/18
+	 */
+	final __TempLog__ __acquire()
+		throws IOException
+	{
+		__TempLog__ rv = this._spares.poll();
+		if (rv == null)
+			return __TempLog__.__open();
+		return rv;
+	}
+	
+	/**
+	 * Releases the given temporary log so that it may be used again.
+	 *
+	 * @param __t The temporary log to release.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __release(__TempLog__ __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		// Clear it so it can be used again, if that fails or the plugin was
+		// shutdown just delete it
+		try
+		{
+			if (!this._shutdown)
+			{
+				__t.__reset();
+				this._spares.offer(__t);
+				return;
+			}
+		}
+		catch (IOException e)
+		{
+		}
+		
+		__t.__close();
 	}
 }
 
@@ -1,7 +1,6 @@
 package com.iopipe.plugin.logger;
 
-import com.iopipe.IOpipeExecution;
-import com.iopipe.plugin.NoSuchPluginException;
+import com.iopipe.IOpipePluginHandle;
 
 /**
  * These are helper methods to add log messages to the current execution
@@ -11,6 +10,10 @@ import com.iopipe.plugin.NoSuchPluginException;
  */
 public final class LoggerUtil
 {
+	/** Handle to the logger execution, to make repeated logging cheap. */
+	private static final IOpipePluginHandle<LoggerExecution> _HANDLE =
+		IOpipePluginHandle.<LoggerExecution>of(LoggerExecution.class);
+	
 	/**
 	 * Not used.
 	 *
@@ -230,18 +233,7 @@ public final class LoggerUtil
 	 */
 	private static final LoggerExecution __exec()
 	{
-		IOpipeExecution exec = IOpipeExecution.currentExecution();
-		if (exec == null)
-			return null;
-		
-		try
-		{
-			return exec.<LoggerExecution>plugin(LoggerExecution.class);
-		}
-		catch (ClassCastException|NoSuchPluginException e)
-		{
-			return null;
-		}
+		return LoggerUtil._HANDLE.get();
 	}
 }
 
@@ -0,0 +1,116 @@
+package com.iopipe.plugin.logger;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This is a temporary file which log data is written to, these may be reused
+ * by multiple executions.
+ *
+ * @since 2026/10/18
+ */
+final class __TempLog__
+{
+	/** The path to the temporary file. */
+	final Path _path;
+	
+	/** The channel for the file. */
+	final FileChannel _channel;
+	
+	/**
+	 * Initializes the temporary log.
+	 *
+	 * @param __p The path to the file.
+	 * @param __c The channel for the file.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private __TempLog__(Path __p, FileChannel __c)
+		throws NullPointerException
+	{
+		if (__p == null || __c == null)
+			throw new NullPointerException();
+		
+		this._path = __p;
+		this._channel = __c;
+	}
+	
+	/**
+	 * Closes the channel and deletes the temporary file.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __close()
+	{
+		try
+		{
+			this._channel.close();
+		}
+		catch (IOException e)
+		{
+		}
+		
+		try
+		{
+			Files.deleteIfExists(this._path);
+		}
+		catch (IOException e)
+		{
+		}
+	}
+	
+	/**
+	 * Clears the log so that it may be used again.
+	 *
+	 * @throws IOException If it could not be cleared.
+	 * @since 2026/10/18
+	 */
+	final void __reset()
+		throws IOException
+	{
+		FileChannel channel = this._channel;
+		channel.truncate(0);
+		channel.position(0);
+	}
+	
+	/**
+	 * Opens a new temporary log.
+	 *
+	 * @return The temporary log.
+	 * @throws IOException If it could not be opened.
+	 * @since 2026/10/18
+	 */
+	static final __TempLog__ __open()
+		throws IOException
+	{
+		// Store log data in a temporary file
+		Path path = Files.createTempFile("iopipe-logger", ".log");
+		
+		// Open temporary file for read/write
+		try
+		{
+			return new __TempLog__(path, FileChannel.open(path,
+				StandardOpenOption.DELETE_ON_CLOSE,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE));
+		}
+		catch (IOException e)
+		{
+			try
+			{
+				Files.delete(path);
+			}
+			catch (IOException f)
+			{
+			}
+			
+			throw e;
+		}
+	}
+}
+
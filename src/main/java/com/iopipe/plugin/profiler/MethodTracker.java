@@ -42,6 +42,27 @@ public final class MethodTracker
 		}
 	}
 	
+	/**
+	 * Forgets every method which was tracked, so that this may be used
+	 * again.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __reset()
+	{
+		synchronized (this._classes)
+		{
+			this._classes.clear();
+		}
+		
+		synchronized (this._methods)
+		{
+			this._methods.clear();
+		}
+		
+		this._nextid.set(0);
+	}
+	
 	/**
 	 * Tracks the given method according to the stack trace element.
 	 *
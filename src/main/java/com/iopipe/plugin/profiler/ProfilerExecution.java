@@ -28,6 +28,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -64,20 +66,26 @@ public class ProfilerExecution
 	public static final String ALTERNATIVE_PREFIX;
 	
 	/** The service group the profiler belongs in. */
-	private static final ThreadGroup _SERVICE_GROUP;
+	static final ThreadGroup _SERVICE_GROUP;
 	
 	/** The execution state. */
 	protected final IOpipeExecution execution;
 	
-	/** Tracker state. */
-	private final Tracker _tracker =
-		new Tracker();
+	/**
+	 * The number of nanoseconds to wait for the poller to stop, if it takes
+	 * longer then its tracker is not used again.
+	 */
+	private static final long _STOP_WAIT =
+		1_000_000_000L;
+	
+	/** Tracker state, this is set when execution starts. */
+	private Tracker _tracker;
 	
 	/** The signer. */
 	private final IOpipeSigner _signer;
 	
-	/** The tread which is pollng for profiling (only in lambda thread). */
-	private Thread _pollthread;
+	/** The plugin which owns this, may be {@code null}. */
+	private final ProfilerPlugin _plugin;
 	
 	/** The poller for execution (only in lambda thread). */
 	private __Poller__ _poller;
@@ -148,11 +156,27 @@ public class ProfilerExecution
 	 */
 	public ProfilerExecution(IOpipeExecution __e)
 		throws NullPointerException
+	{
+		this(__e, null);
+	}
+	
+	/**
+	 * Initializes the profiler state.
+	 *
+	 * @param __e The execution state.
+	 * @param __p The owning plugin, which provides polling threads, this may
+	 * be {@code null}.
+	 * @throws NullPointerException If no execution was specified.
+	 * @since 2026/10/18
+	 */
+	ProfilerExecution(IOpipeExecution __e, ProfilerPlugin __p)
+		throws NullPointerException
 	{
 		if (__e == null)
 			throw new NullPointerException();
 		
 		this.execution = __e;
+		this._plugin = __p;
 		
 		// Setup signer to upload a ZIP
 		this._signer = __e.signer(".zip");
@@ -192,10 +216,10 @@ public class ProfilerExecution
 		IOpipeExecution execution = this.execution;
 		IOpipeConfiguration conf = execution.config();
 		
-		// Tell the poller to stop and interrupt it so it wakes up from any
-		// sleep state
-		this._poller._stop.set(true);
-		this._pollthread.interrupt();
+		// Tell the poller to stop and wake it up from any sleep state, the
+		// tracker is only reused if it is no longer being written to
+		boolean stopped = this._poller.__stop(_STOP_WAIT);
+		Tracker tracker = this._tracker;
 		
 		// Get statistics at the end of execution after the method has ended
 		// so that way it can be seen how much they changed
@@ -216,8 +240,6 @@ public class ProfilerExecution
 		byte[] exported = null;
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream())
 		{
-			Tracker tracker = this._tracker;
-			
 			try (ZipOutputStream zos = new ZipOutputStream(baos))
 			{
 				// Do not bother compressing because the snapshot data is
@@ -260,6 +282,12 @@ public class ProfilerExecution
 			exported = null;
 		}
 		
+		// The tracker is no longer needed once it has been exported
+		ProfilerPlugin plugin = this._plugin;
+		this._tracker = null;
+		if (plugin != null && stopped)
+			plugin.__giveTracker(tracker);
+		
 		// Snapshots were generated
 		if (exported != null)
 		{
@@ -319,11 +347,30 @@ public class ProfilerExecution
 		// Statistics at the start of method execution
 		this._beginstats = ManagementStatistics.snapshot(0);
 		
+		// Use storage from a previous execution if there is any
+		ProfilerPlugin plugin = this._plugin;
+		Tracker tracker = (plugin != null ? plugin.__takeTracker() :
+			new Tracker());
+		this._tracker = tracker;
+		
 		// Setup poller which will constantly read thread state
-		__Poller__ poller = new __Poller__(this._tracker,
+		__Poller__ poller = new __Poller__(tracker,
 			this.execution.threadGroup());
 		this._poller = poller;
 		
+		// Use a polling thread from a previous execution if one is available
+		ExecutorService pollers = (plugin != null ? plugin._pollers : null);
+		if (pollers != null)
+			try
+			{
+				pollers.execute(poller);
+				return;
+			}
+			catch (RejectedExecutionException e)
+			{
+				// Could have been shutdown, so use a new thread
+			}
+		
 		// Initialize the polling thread
 		Thread pollthread = new Thread(_SERVICE_GROUP, poller,
 			"IOpipe-ProfilerWorker");
@@ -341,7 +388,6 @@ public class ProfilerExecution
 		
 		// Start it
 		pollthread.start();
-		this._pollthread = pollthread;
 	}
 }
 
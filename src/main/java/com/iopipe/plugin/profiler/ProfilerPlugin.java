@@ -2,10 +2,18 @@ package com.iopipe.plugin.profiler;
 
 import com.iopipe.IOpipeConstants;
 import com.iopipe.IOpipeExecution;
+import com.iopipe.IOpipeService;
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
 import com.iopipe.plugin.IOpipePluginPreExecutable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class provides access to the profiler plugin which is used to profile
@@ -13,29 +21,26 @@ import com.iopipe.plugin.IOpipePluginPreExecutable;
  *
  * @since 2018/02/07
  */
+@IOpipePluginInfo(name = "profiler", version = "1.2.1",
+	homepage = "https://github.com/iopipe/iopipe-java")
 public class ProfilerPlugin
 	implements IOpipePlugin, IOpipePluginPreExecutable,
 		IOpipePluginPostExecutable
 {
 	/**
-	 * {@inheritDoc}
-	 * @since 2018/02/07
+	 * Threads which are used to poll for profiling, these are kept between
+	 * executions so that a new thread does not need to be created for each
+	 * one.
 	 */
-	@Override
-	public boolean enabledByDefault()
-	{
-		return false;
-	}
+	volatile ExecutorService _pollers;
 	
 	/**
-	 * {@inheritDoc}
-	 * @since 2018/02/07
+	 * Trackers which are free to be used, these are kept between executions
+	 * so that their storage can be reused. There is usually only one unless
+	 * executions run at the same time.
 	 */
-	@Override
-	public String homepage()
-	{
-		return "https://github.com/iopipe/iopipe-java";
-	}
+	private final Queue<Tracker> _trackers =
+		new ConcurrentLinkedQueue<>();
 	
 	/**
 	 * {@inheritDoc}
@@ -45,7 +50,7 @@ public class ProfilerPlugin
 	public IOpipePluginExecution execute(IOpipeExecution __e)
 		throws NullPointerException
 	{
-		return new ProfilerExecution(__e);
+		return new ProfilerExecution(__e, this);
 	}
 	
 	/**
@@ -60,12 +65,12 @@ public class ProfilerPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/02/07
+	 * @since 2026/10/18
 	 */
 	@Override
-	public String name()
+	public boolean isPrewarmable()
 	{
-		return "profiler";
+		return true;
 	}
 	
 	/**
@@ -98,12 +103,92 @@ public class ProfilerPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/02/07
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean isPostExecuteIndependent()
+	{
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void init(IOpipeService __sv)
+		throws NullPointerException
+	{
+		if (__sv == null)
+			throw new NullPointerException();
+		
+		this._pollers = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+			60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+			(__r) ->
+			{
+				// These threads are used by later executions, so they must not
+				// keep the execution which created them
+				Thread rv = new Thread(ProfilerExecution._SERVICE_GROUP,
+					IOpipeExecution.unbound(__r), "IOpipe-ProfilerWorker");
+				rv.setDaemon(true);
+				
+				// Set a higher priority if that is possible so that way the
+				// traces run as soon as they can, but this might not be
+				// permitted
+				try
+				{
+					rv.setPriority(Thread.MAX_PRIORITY);
+				}
+				catch (SecurityException e)
+				{
+				}
+				
+				return rv;
+			});
+	}
+	
+	/**
+	 * Returns a tracker which is reset and ready to be used.
+	 *
+	 * @return The tracker.
+	 * @since 2026/10/18
+	 */
+	final Tracker __takeTracker()
+	{
+		Tracker rv = this._trackers.poll();
+		return (rv != null ? rv : new Tracker());
+	}
+	
+	/**
+	 * Resets the given tracker and makes it available to later executions.
+	 *
+	 * @param __t The tracker to give back.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __giveTracker(Tracker __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		__t.__reset();
+		this._trackers.offer(__t);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
 	 */
 	@Override
-	public String version()
+	public void shutdown()
 	{
-		return "1.2.1";
+		ExecutorService pollers = this._pollers;
+		if (pollers != null)
+		{
+			this._pollers = null;
+			pollers.shutdownNow();
+		}
 	}
 }
 
@@ -14,7 +14,7 @@ import java.util.Objects;
 public final class TrackedThread
 	implements TrackedThreadNodeTraversal
 {
-	/** The thread to monitor. */
+	/** The thread to monitor, {@code null} if only known from dumps. */
 	protected final Thread thread;
 	
 	/** Currently tracked methods. */
@@ -70,6 +70,28 @@ public final class TrackedThread
 		this.name = Objects.toString(__thread.getName(), "");
 	}
 	
+	/**
+	 * Initializes the thread information for a thread which is only known
+	 * from a thread dump, such as a virtual thread.
+	 *
+	 * @param __name The name of the thread.
+	 * @param __ldx Logical thread index.
+	 * @param __m The owning method tracker.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	TrackedThread(String __name, int __ldx, MethodTracker __m)
+		throws NullPointerException
+	{
+		if (__name == null || __m == null)
+			throw new NullPointerException();
+		
+		this.thread = null;
+		this.methods = __m;
+		this.logicalindex = __ldx;
+		this.name = __name;
+	}
+	
 	/**
 	 * Returns the gross time executing all the nodes when not asleep.
 	 *
@@ -147,7 +169,8 @@ public final class TrackedThread
 	public final void parseStackTrace(long __abs, int __rel)
 	{
 		Thread thread = this.thread;
-		MethodTracker methods = this.methods;
+		if (thread == null)
+			return;
 		
 		// Do not track terminated threads, but treat all other states as
 		// being asleep
@@ -161,6 +184,30 @@ public final class TrackedThread
 			asleep = true;
 		}
 		
+		this.__parse(__abs, __rel, asleep, thread.getStackTrace());
+	}
+	
+	/**
+	 * Parses and keeps track of the given stack trace.
+	 *
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @param __rel The relative time since the last trace.
+	 * @param __asleep Is the thread asleep?
+	 * @param __traces The stack trace, the top of the stack is first.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __parse(long __abs, int __rel, boolean __asleep,
+		StackTraceElement[] __traces)
+		throws NullPointerException
+	{
+		if (__traces == null)
+			throw new NullPointerException();
+		
+		MethodTracker methods = this.methods;
+		boolean asleep = __asleep;
+		
 		// Add to whole graph time
 		this._wgabstime += __rel;
 		if (asleep)
@@ -181,7 +228,7 @@ public final class TrackedThread
 		// timers and such
 		// The last element is the lowest method in the trace so it will be
 		// the root node
-		StackTraceElement[] traces = thread.getStackTrace();
+		StackTraceElement[] traces = __traces;
 		int n = traces.length;
 		for (int i = n - 1; i >= 0; i--)
 		{
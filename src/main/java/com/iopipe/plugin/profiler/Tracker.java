@@ -1,7 +1,6 @@
 package com.iopipe.plugin.profiler;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,6 +19,13 @@ public final class Tracker
 	private final Map<Thread, TrackedThread> _threads =
 		new HashMap<>();
 	
+	/**
+	 * Recordings of threads which are only known from thread dumps, by
+	 * their thread ID (locked by {@link #_threads}).
+	 */
+	private final Map<Long, TrackedThread> _dumped =
+		new HashMap<>();
+	
 	/**
 	 * Returns the methods which have been tracked.
 	 *
@@ -56,13 +62,31 @@ public final class Tracker
 			stat = threads.get(__thread);
 			if (stat == null)
 				threads.put(__thread, (stat = new TrackedThread(__thread,
-					threads.size(), this.methods)));
+					threads.size() + this._dumped.size(), this.methods)));
 		}
 		
 		// Record thread information
 		stat.parseStackTrace(__abs, __rel);
 	}
 	
+	/**
+	 * Forgets everything which was tracked, so that this may be used for
+	 * another execution.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __reset()
+	{
+		Map<Thread, TrackedThread> threads = this._threads;
+		synchronized (threads)
+		{
+			threads.clear();
+			this._dumped.clear();
+		}
+		
+		this.methods.__reset();
+	}
+	
 	/**
 	 * Returns the state information for each thread.
 	 *
@@ -74,9 +98,54 @@ public final class Tracker
 		Map<Thread, TrackedThread> threads = this._threads;
 		synchronized (threads)
 		{
-			Collection<TrackedThread> values = threads.values();
-			return values.<TrackedThread>toArray(new TrackedThread[values.size()]);
+			Map<Long, TrackedThread> dumped = this._dumped;
+			TrackedThread[] rv = new TrackedThread[threads.size() +
+				dumped.size()];
+			
+			// Threads are sorted by their logical index
+			for (TrackedThread t : threads.values())
+				rv[t.logicalindex] = t;
+			for (TrackedThread t : dumped.values())
+				rv[t.logicalindex] = t;
+			
+			return rv;
+		}
+	}
+	
+	/**
+	 * Parses and keeps track of a stack trace which was obtained from a
+	 * thread dump.
+	 *
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @param __rel The relative time since the last trace.
+	 * @param __tid The ID of the thread.
+	 * @param __name The name of the thread.
+	 * @param __asleep Is the thread asleep?
+	 * @param __trace The stack trace, the top of the stack is first.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __parseDumped(long __abs, int __rel, long __tid, String __name,
+		boolean __asleep, StackTraceElement[] __trace)
+		throws NullPointerException
+	{
+		if (__name == null || __trace == null)
+			throw new NullPointerException();
+		
+		TrackedThread stat;
+		
+		Map<Thread, TrackedThread> threads = this._threads;
+		synchronized (threads)
+		{
+			Map<Long, TrackedThread> dumped = this._dumped;
+			stat = dumped.get(__tid);
+			if (stat == null)
+				dumped.put(__tid, (stat = new TrackedThread(__name,
+					threads.size() + dumped.size(), this.methods)));
 		}
+		
+		stat.__parse(__abs, __rel, __asleep, __trace);
 	}
 }
 
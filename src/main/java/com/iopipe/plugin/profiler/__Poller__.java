@@ -1,6 +1,7 @@
 package com.iopipe.plugin.profiler;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This class polls a thread group
@@ -20,6 +21,15 @@ final class __Poller__
 	final AtomicBoolean _stop =
 		new AtomicBoolean();
 	
+	/** The thread which is currently polling. */
+	private volatile Thread _thread;
+	
+	/** Has polling finished? */
+	private volatile boolean _done;
+	
+	/** The thread which is waiting for polling to finish. */
+	private volatile Thread _waiter;
+	
 	/**
 	 * Initializes the thread poller.
 	 *
@@ -44,6 +54,61 @@ final class __Poller__
 	 */
 	@Override
 	public void run()
+	{
+		// This thread may be reused for other polls, so it is only known
+		// while polling
+		this._thread = Thread.currentThread();
+		try
+		{
+			this.__poll();
+		}
+		finally
+		{
+			this._thread = null;
+			this._done = true;
+			
+			Thread waiter = this._waiter;
+			if (waiter != null)
+				LockSupport.unpark(waiter);
+		}
+	}
+	
+	/**
+	 * Stops polling, wakes up the polling thread and waits for it to stop.
+	 *
+	 * The polling thread is woken up by unparking it rather than
+	 * interrupting it, since by the time it is woken up it may already be
+	 * polling for another execution. That would only make the other poll
+	 * sample early.
+	 *
+	 * @param __wait The maximum number of nanoseconds to wait for.
+	 * @return If polling has stopped.
+	 * @since 2026/10/18
+	 */
+	final boolean __stop(long __wait)
+	{
+		this._waiter = Thread.currentThread();
+		this._stop.set(true);
+		
+		Thread thread = this._thread;
+		if (thread != null)
+			LockSupport.unpark(thread);
+		
+		// Spurious wake ups are possible, so this loops
+		long end = System.nanoTime() + __wait;
+		for (long left = __wait; !this._done && left > 0;
+			left = end - System.nanoTime())
+			LockSupport.parkNanos(this, left);
+		
+		return this._done;
+	}
+	
+	/**
+	 * Polls the thread group until polling is stopped.
+	 *
+	 * @since 2026/10/18
+	 */
+	private final void __poll()
 	{
 		ThreadGroup group = this.group;
 		Tracker tracker = this.tracker;
@@ -52,6 +117,9 @@ final class __Poller__
 		// Used as temporary storage for active thread enumeration
 		Thread[] threads = new Thread[1];
 		
+		// Virtual threads are never in the thread group
+		__VirtualThreads__ virtuals = __VirtualThreads__.__sampler();
+		
 		// Used to measure how long a method has been in execution
 		long basetime = System.nanoTime(),
 			lasttime = basetime;
@@ -61,22 +129,18 @@ final class __Poller__
 			resttime = 0;
 		for (;;)
 		{
-			// Sleep for the sample rate time using the higher precision
-			// sleep
+			// Sleep for the sample rate time, this is woken up early when
+			// polling is to stop
 			if (resttime > 0)
-				try
-				{
-					Thread.sleep(resttime / 1_000_000,
-						resttime % 1_000_000);
-				}
-				catch (InterruptedException e)
-				{
-					// Ignore
-				}
+				LockSupport.parkNanos(this, resttime);
 			
 			// Stop polling?
 			if (stop.get())
+			{
+				if (virtuals != null)
+					virtuals.__close();
 				break;
+			}
 			
 			// Calculate how long the method has been running, this is used
 			// to measure real time
@@ -100,6 +164,10 @@ final class __Poller__
 				tracker.parseStackTrace(runtime, reltime, thread);
 			}
 			
+			// Virtual threads are sampled at their own rate
+			if (virtuals != null)
+				virtuals.__sample(tracker, runtime);
+			
 			// Rest for a duration so that the next sample is the sampling
 			// rate after this one
 			resttime = samplerate - (int)(System.nanoTime() - nowtime);
@@ -0,0 +1,62 @@
+package com.iopipe.plugin.profiler;
+
+/**
+ * This samples virtual threads, which are never part of any thread group
+ * and as such cannot be enumerated by the poller.
+ *
+ * This Java 8 version does nothing since virtual threads do not exist, the
+ * version which samples them is in the Java 21 section of the multi-release
+ * JAR.
+ *
+ * @since 2026/10/18
+ */
+final class __VirtualThreads__
+{
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __VirtualThreads__()
+	{
+	}
+	
+	/**
+	 * Stops sampling and cleans up anything which was used to sample.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __close()
+	{
+	}
+	
+	/**
+	 * Samples virtual threads if enough time has passed since the last
+	 * sample.
+	 *
+	 * @param __t The tracker to record into.
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __sample(Tracker __t, long __abs)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+	}
+	
+	/**
+	 * Returns a sampler for virtual threads.
+	 *
+	 * @return The sampler or {@code null} if virtual threads are not
+	 * supported.
+	 * @since 2026/10/18
+	 */
+	static final __VirtualThreads__ __sampler()
+	{
+		return null;
+	}
+}
+
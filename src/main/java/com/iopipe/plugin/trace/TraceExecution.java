@@ -12,13 +12,23 @@ import com.iopipe.plugin.IOpipePluginExecution;
 public class TraceExecution
 	implements IOpipePluginExecution
 {
+	/** The execution this is tracing for. */
+	final IOpipeExecution _execution;
+	
 	/**
 	 * Initializes the trace execution instance.
 	 *
+	 * @param __e The execution this is tracing for.
+	 * @throws NullPointerException On null arguments.
 	 * @since 2018/01/20
 	 */
-	TraceExecution()
+	TraceExecution(IOpipeExecution __e)
+		throws NullPointerException
 	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		this._execution = __e;
 	}
 	
 	/**
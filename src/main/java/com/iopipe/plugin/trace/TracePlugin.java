@@ -4,6 +4,7 @@ import com.iopipe.IOpipeConstants;
 import com.iopipe.IOpipeExecution;
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
 
 /**
  * This is the trace plugin which is used to track specific marks and measure
@@ -11,19 +12,11 @@ import com.iopipe.plugin.IOpipePluginExecution;
  *
  * @since 2018/01/20
  */
+@IOpipePluginInfo(name = "trace", version = "1.8.0",
+	homepage = "https://github.com/iopipe/iopipe-java", enabledByDefault = true)
 public class TracePlugin
 	implements IOpipePlugin
 {
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/01/20
-	 */
-	@Override
-	public boolean enabledByDefault()
-	{
-		return true;
-	}
-	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/01/20
@@ -34,7 +27,7 @@ public class TracePlugin
 		if (__e == null)
 			throw new NullPointerException();
 		
-		return new TraceExecution();
+		return new TraceExecution(__e);
 	}
 	
 	/**
@@ -49,32 +42,12 @@ public class TracePlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/01/20
+	 * @since 2026/10/18
 	 */
 	@Override
-	public String homepage()
+	public boolean isPrewarmable()
 	{
-		return "https://github.com/iopipe/iopipe-java";
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/01/20
-	 */
-	@Override
-	public String name()
-	{
-		return "trace";
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 * @since 2018/01/20
-	 */
-	@Override
-	public String version()
-	{
-		return "1.8.0";
+		return true;
 	}
 }
 
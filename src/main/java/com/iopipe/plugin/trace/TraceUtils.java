@@ -1,6 +1,7 @@
 package com.iopipe.plugin.trace;
 
 import com.iopipe.IOpipeExecution;
+import com.iopipe.IOpipePluginHandle;
 import java.util.function.Supplier;
 
 /**
@@ -12,6 +13,10 @@ import java.util.function.Supplier;
  */
 public final class TraceUtils
 {
+	/** Handle to the trace execution, to make repeated tracing cheap. */
+	private static final IOpipePluginHandle<TraceExecution> _HANDLE =
+		IOpipePluginHandle.<TraceExecution>of(TraceExecution.class);
+	
 	/**
 	 * Not used.
 	 *
@@ -71,6 +76,11 @@ public final class TraceUtils
 		if (__name == null)
 			throw new NullPointerException();
 		
+		// If tracing is enabled then the execution is already known
+		TraceExecution trace = TraceUtils._HANDLE.get();
+		if (trace != null)
+			return new TraceMeasurement(true, trace._execution, __name);
+		
 		IOpipeExecution exec = IOpipeExecution.currentExecution();
 		if (exec == null)
 			return null;
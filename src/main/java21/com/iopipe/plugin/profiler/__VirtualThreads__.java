@@ -0,0 +1,447 @@
+package com.iopipe.plugin.profiler;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.io.InputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import org.pmw.tinylog.Logger;
+
+/**
+ * This samples virtual threads, which are never part of any thread group
+ * and as such cannot be enumerated by the poller.
+ *
+ * Virtual threads are found by dumping all threads with the JSON thread
+ * dump facility of the JDK. Since this is much more expensive than tracing
+ * platform threads, dumps are spaced out by a multiple of the time they
+ * take. The spacing is shared by every sampler in the container, so
+ * concurrent executions do not each dump threads, and no dump is taken
+ * while there are no carrier threads since then no virtual thread has run.
+ *
+ * @since 2026/10/18
+ */
+final class __VirtualThreads__
+{
+	/** The minimum number of nanoseconds between dumps. */
+	private static final long _MIN_INTERVAL =
+		100_000_000L;
+	
+	/** The maximum number of nanoseconds between dumps. */
+	private static final long _MAX_INTERVAL =
+		1_000_000_000L;
+	
+	/** Dumps are spaced out by this multiple of the time they take. */
+	private static final int _COST_FACTOR =
+		10;
+	
+	/** The class of threads which carry virtual threads. */
+	private static final String _CARRIER_CLASS =
+		"jdk.internal.misc.CarrierThread";
+	
+	/** The monotonic time when the next dump may be taken, container wide. */
+	private static final AtomicLong _NEXT =
+		new AtomicLong(System.nanoTime());
+	
+	/** The sequence number for the next dump, container wide. */
+	private static final AtomicInteger _SEQ =
+		new AtomicInteger();
+	
+	/** The bean used to dump threads, {@code null} if not yet known. */
+	private static volatile HotSpotDiagnosticMXBean _BEAN;
+	
+	/** The directory dumps are written to, {@code null} if not yet known. */
+	private static volatile Path _DIR;
+	
+	/** Are dumps not supported? */
+	private static volatile boolean _UNSUPPORTED;
+	
+	/** The monotonic time of the last sample by this sampler. */
+	private long _last =
+		System.nanoTime();
+	
+	/** Used to enumerate threads when looking for carrier threads. */
+	private Thread[] _threads =
+		new Thread[16];
+	
+	/**
+	 * Initializes the sampler.
+	 *
+	 * @since 2026/10/18
+	 */
+	private __VirtualThreads__()
+	{
+	}
+	
+	/**
+	 * Stops sampling, the dump directory is kept since it is shared by
+	 * every sampler.
+	 *
+	 * @since 2026/10/18
+	 */
+	final void __close()
+	{
+	}
+	
+	/**
+	 * Samples virtual threads if enough time has passed since the last
+	 * sample in the container.
+	 *
+	 * @param __t The tracker to record into.
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __sample(Tracker __t, long __abs)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException();
+		
+		// Only a single sampler may dump at a time
+		AtomicLong next = _NEXT;
+		long start = System.nanoTime(),
+			when = next.get();
+		if (_UNSUPPORTED || start - when < 0 ||
+			!next.compareAndSet(when, start + _MAX_INTERVAL))
+			return;
+		
+		// Virtual threads cannot exist without carriers, this is much
+		// cheaper to check than a dump
+		if (!this.__carriers())
+		{
+			next.set(start + _MIN_INTERVAL);
+			return;
+		}
+		
+		// The time since the last sample is attributed to these stacks
+		int rel = (int)Math.min(Integer.MAX_VALUE, start - this._last);
+		this._last = start;
+		
+		// The dump file must not exist, so each one gets a new name
+		HotSpotDiagnosticMXBean bean = _BEAN;
+		Path file = _DIR.resolve("dump-" + _SEQ.getAndIncrement() + ".json");
+		try
+		{
+			bean.dumpThreads(file.toString(),
+				HotSpotDiagnosticMXBean.ThreadDumpFormat.JSON);
+			
+			try (InputStream in = Files.newInputStream(file);
+				JsonParser parser = Json.createParser(in))
+			{
+				__VirtualThreads__.__parse(__t, __abs, rel, parser);
+			}
+		}
+		
+		// Do not try again since it will likely never work
+		catch (IOException|RuntimeException e)
+		{
+			Logger.debug(e, "Could not sample virtual threads.");
+			
+			_UNSUPPORTED = true;
+			return;
+		}
+		finally
+		{
+			try
+			{
+				Files.deleteIfExists(file);
+			}
+			catch (IOException e)
+			{
+			}
+		}
+		
+		// The first dump is slow since it needs to initialize, so that is
+		// not allowed to delay the next one too much
+		next.set(System.nanoTime() + Math.min(_MAX_INTERVAL,
+			Math.max(_MIN_INTERVAL, (System.nanoTime() - start) *
+			_COST_FACTOR)));
+	}
+	
+	/**
+	 * Checks if there are any carrier threads.
+	 *
+	 * @return If there are any carrier threads.
+	 * @since 2026/10/18
+	 */
+	private final boolean __carriers()
+	{
+		ThreadGroup root = Thread.currentThread().getThreadGroup();
+		for (ThreadGroup up; (up = root.getParent()) != null;)
+			root = up;
+		
+		// Grow the array until every thread fits
+		Thread[] threads = this._threads;
+		int count;
+		while ((count = root.enumerate(threads, true)) == threads.length)
+			this._threads = (threads = new Thread[count * 2]);
+		
+		for (int i = 0; i < count; i++)
+			if (threads[i].getClass().getName().equals(_CARRIER_CLASS))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Parses a single frame of a thread dump, which is in the same format
+	 * as {@link StackTraceElement#toString()}.
+	 *
+	 * @param __s The frame to parse.
+	 * @return The parsed frame or {@code null} if it is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static final StackTraceElement __frame(String __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException();
+		
+		int lp = __s.indexOf('('),
+			rp = __s.lastIndexOf(')');
+		if (lp < 0 || rp < lp)
+			return null;
+		
+		// Drop the class loader and module, but hidden classes also have a
+		// slash in their name
+		String qual = __s.substring(0, lp);
+		int sl = qual.lastIndexOf('/');
+		if (sl >= 0 && qual.startsWith("0x", sl + 1))
+			sl = qual.lastIndexOf('/', sl - 1);
+		qual = qual.substring(sl + 1);
+		
+		int dot = qual.lastIndexOf('.');
+		if (dot <= 0)
+			return null;
+		
+		// Source file and line, if known
+		String src = __s.substring(lp + 1, rp),
+			file = null;
+		int line = -1;
+		if (src.equals("Native Method"))
+			line = -2;
+		else if (!src.equals("Unknown Source"))
+		{
+			int col = src.lastIndexOf(':');
+			if (col < 0)
+				file = src;
+			else
+			{
+				file = src.substring(0, col);
+				try
+				{
+					line = Integer.parseInt(src.substring(col + 1));
+				}
+				catch (NumberFormatException e)
+				{
+				}
+			}
+		}
+		
+		return new StackTraceElement(qual.substring(0, dot),
+			qual.substring(dot + 1), file, line);
+	}
+	
+	/**
+	 * Parses a thread dump and records every virtual thread in it.
+	 *
+	 * @param __t The tracker to record into.
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @param __rel The relative time since the last sample.
+	 * @param __p The parser for the dump.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __parse(Tracker __t, long __abs, int __rel,
+		JsonParser __p)
+		throws NullPointerException
+	{
+		if (__t == null || __p == null)
+			throw new NullPointerException();
+		
+		// Dumps may contain very many threads, so they are streamed rather
+		// than read into a tree
+		List<String> stack = new ArrayList<>();
+		String key = null,
+			tid = null,
+			name = null;
+		boolean instack = false;
+		while (__p.hasNext())
+			switch (__p.next())
+			{
+				case KEY_NAME:
+					key = __p.getString();
+					break;
+				
+				case VALUE_STRING:
+					if (instack)
+						stack.add(__p.getString());
+					else if ("tid".equals(key))
+						tid = __p.getString();
+					else if ("name".equals(key))
+						name = __p.getString();
+					break;
+				
+				case START_ARRAY:
+					if ("stack".equals(key))
+					{
+						instack = true;
+						stack.clear();
+					}
+					break;
+				
+				case END_ARRAY:
+					if (instack)
+					{
+						instack = false;
+						if (tid != null)
+							__VirtualThreads__.__record(__t, __abs, __rel,
+								tid, name, stack);
+						tid = null;
+						name = null;
+					}
+					break;
+				
+				default:
+					break;
+			}
+	}
+	
+	/**
+	 * Records the given thread if it is a virtual thread.
+	 *
+	 * @param __t The tracker to record into.
+	 * @param __abs The absolute time since the start of execution in
+	 * nanoseconds.
+	 * @param __rel The relative time since the last sample.
+	 * @param __tid The thread ID.
+	 * @param __name The thread name, may be {@code null}.
+	 * @param __stack The stack of the thread, the top is first.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static final void __record(Tracker __t, long __abs, int __rel,
+		String __tid, String __name, List<String> __stack)
+		throws NullPointerException
+	{
+		if (__t == null || __tid == null || __stack == null)
+			throw new NullPointerException();
+		
+		// Virtual threads are the only ones which start in their own run
+		// method, platform threads are already traced by the poller
+		int n = __stack.size();
+		if (n == 0 ||
+			!__stack.get(n - 1).contains("java.lang.VirtualThread.run("))
+			return;
+		
+		StackTraceElement[] trace = new StackTraceElement[n];
+		int count = 0;
+		for (int i = 0; i < n; i++)
+		{
+			StackTraceElement e = __VirtualThreads__.__frame(__stack.get(i));
+			if (e != null)
+				trace[count++] = e;
+		}
+		if (count != n)
+			trace = Arrays.copyOf(trace, count);
+		
+		// Unmounted virtual threads are parked in their own park methods
+		String top = (count > 0 ? trace[0].getClassName() : "");
+		boolean asleep = top.equals("java.lang.VirtualThread") ||
+			top.equals("jdk.internal.vm.Continuation");
+		
+		long tid;
+		try
+		{
+			tid = Long.parseLong(__tid);
+		}
+		catch (NumberFormatException e)
+		{
+			return;
+		}
+		
+		__t.__parseDumped(__abs, __rel, tid,
+			(__name == null || __name.isEmpty() ? "virtual-" + tid : __name),
+			asleep, trace);
+	}
+	
+	/**
+	 * Returns a sampler for virtual threads.
+	 *
+	 * @return The sampler or {@code null} if virtual threads are not
+	 * supported.
+	 * @since 2026/10/18
+	 */
+	static final __VirtualThreads__ __sampler()
+	{
+		if (_UNSUPPORTED)
+			return null;
+		
+		// The bean and the directory are shared by every sampler
+		if (_DIR == null)
+			synchronized (__VirtualThreads__.class)
+			{
+				if (_UNSUPPORTED)
+					return null;
+				
+				if (_DIR == null && !__VirtualThreads__.__init())
+				{
+					_UNSUPPORTED = true;
+					return null;
+				}
+			}
+		
+		return new __VirtualThreads__();
+	}
+	
+	/**
+	 * Obtains the bean and creates the directory where dumps are written.
+	 *
+	 * @return If virtual threads can be sampled.
+	 * @since 2026/10/18
+	 */
+	private static final boolean __init()
+	{
+		// This is only available on HotSpot based virtual machines
+		HotSpotDiagnosticMXBean bean;
+		try
+		{
+			bean = ManagementFactory.getPlatformMXBean(
+				HotSpotDiagnosticMXBean.class);
+		}
+		catch (IllegalArgumentException|SecurityException e)
+		{
+			return false;
+		}
+		if (bean == null)
+			return false;
+		
+		// Dumps can only be written to files
+		Path dir;
+		try
+		{
+			dir = Files.createTempDirectory("iopipe-threads");
+			dir.toFile().deleteOnExit();
+		}
+		catch (IOException|SecurityException e)
+		{
+			Logger.debug(e, "Could not create thread dump directory.");
+			return false;
+		}
+		
+		_BEAN = bean;
+		_DIR = dir;
+		return true;
+	}
+}
+
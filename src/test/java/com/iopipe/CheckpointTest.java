@@ -0,0 +1,89 @@
+package com.iopipe;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.crac.Core;
+import org.crac.Resource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that the agent resets its state when the process is restored
+ * from a checkpoint.
+ *
+ * @since 2026/10/18
+ */
+public class CheckpointTest
+{
+	/**
+	 * Tests that the execution after a restore is a cold start and that the
+	 * process has a new identity.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void restore()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setUseLocalColdStart(true);
+		cb.setPluginEnabled("logger", true);
+		
+		// Other services may also be registered, so only this one is
+		// notified
+		IOpipeService sv = new IOpipeService(cb.build());
+		List<Resource> registered = Core.registered();
+		assertFalse(registered.isEmpty());
+		Resource resource = registered.get(registered.size() - 1);
+		
+		// Other services may still have temporary logs open
+		String templog = Paths.get(System.getProperty("java.io.tmpdir")).
+			toRealPath().resolve("iopipe-logger").toString();
+		int templogs = __Utils__.openFiles(templog);
+		
+		assertTrue(CheckpointTest.__run(sv, "before")[0]);
+		assertArrayEquals(new boolean[]{false, false},
+			CheckpointTest.__run(sv, "checkpointed"));
+		
+		UUID pid = __Shared__.__processId();
+		resource.beforeCheckpoint(Core.getGlobalContext());
+		
+		// Open files cannot be checkpointed
+		if (templogs >= 0)
+		{
+			assertEquals(0, __Utils__.openFiles("/proc/"),
+				"Files in /proc are open.");
+			assertTrue(__Utils__.openFiles(templog) <=
+				templogs, "Temporary logs are open.");
+		}
+		
+		resource.afterRestore(Core.getGlobalContext());
+		assertNotEquals(pid, __Shared__.__processId());
+		
+		assertArrayEquals(new boolean[]{true, true},
+			CheckpointTest.__run(sv, "restored"));
+		assertArrayEquals(new boolean[]{false, false},
+			CheckpointTest.__run(sv, "thawed"));
+	}
+	
+	/**
+	 * Runs a single execution.
+	 *
+	 * @param __sv The service to run in.
+	 * @param __n The name of the function.
+	 * @return If the execution was a cold start and if it was labeled as
+	 * being restored.
+	 * @since 2026/10/18
+	 */
+	private static boolean[] __run(IOpipeService __sv, String __n)
+	{
+		return __sv.<boolean[]>run(new MockContext(__n), (__exec) ->
+			new boolean[]{__exec.isColdStarted(),
+				Arrays.asList(__exec.getLabels()).contains("@iopipe/restored")});
+	}
+}
+
@@ -0,0 +1,71 @@
+package com.iopipe;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that booting the virtual machine and loading classes before
+ * the agent are recorded as separate phases.
+ *
+ * @since 2026/10/18
+ */
+public class ColdStartTimelineTest
+{
+	/**
+	 * Tests that booting ends when the virtual machine was initialized and
+	 * that loading classes runs from then until the agent loaded.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void bootThenClassload()
+	{
+		long inited = Math.min(IOpipeConstants.LOAD_TIME,
+			ManagementFactory.getRuntimeMXBean().getStartTime()),
+			jvmstart = ColdStartTimeline.__jvmStart();
+		assertTrue(jvmstart <= inited, "Started after initializing.");
+		
+		ColdStartTimeline.Entry boot = ColdStartTimelineTest.__entry(
+				ColdStartTimeline.PHASE_BOOT),
+			classload = ColdStartTimelineTest.__entry(
+				ColdStartTimeline.PHASE_CLASSLOAD);
+		assertNotNull(classload, "No class loading.");
+		
+		// The start of the process is only known on Linux
+		if (Files.isReadable(Paths.get("/proc/self/stat")))
+		{
+			assertNotNull(boot, "No boot.");
+			assertEquals(0.0, boot.startms, 0.0);
+			assertEquals(inited - jvmstart, boot.durationms, 0.0);
+			assertEquals(ColdStartTimeline.UNKNOWN_CLASSES, boot.classes);
+		}
+		
+		assertEquals(inited - jvmstart, classload.startms, 0.0);
+		assertEquals(IOpipeConstants.LOAD_TIME - inited, classload.durationms,
+			0.0);
+		assertEquals(IOpipeConstants.LOAD_CLASS_COUNT, classload.classes);
+		assertTrue(classload.classes > 0, "No classes were counted.");
+	}
+	
+	/**
+	 * Returns the entry for the given phase.
+	 *
+	 * @param __n The name of the phase.
+	 * @return The entry or {@code null} if it was not recorded.
+	 * @since 2026/10/18
+	 */
+	private static ColdStartTimeline.Entry __entry(String __n)
+	{
+		List<ColdStartTimeline.Entry> entries = ColdStartTimeline.__entries();
+		for (ColdStartTimeline.Entry e : entries)
+			if (__n.equals(e.name))
+				return e;
+		return null;
+	}
+}
+
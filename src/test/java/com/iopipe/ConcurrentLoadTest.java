@@ -0,0 +1,402 @@
+package com.iopipe;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import org.junit.jupiter.api.Test;
+import org.pmw.tinylog.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This runs many executions at the same time in a concurrent service and
+ * checks that each report only contains what its own execution did, it
+ * also checks that throughput scales as more threads are used.
+ *
+ * @since 2026/10/18
+ */
+public class ConcurrentLoadTest
+{
+	/** The number of executions each thread runs. */
+	private static final int _PER_THREAD =
+		200;
+	
+	/**
+	 * The fraction of each extra processor which must be turned into
+	 * throughput, this is low since machines running tests may be busy.
+	 */
+	private static final double _SCALING =
+		0.35;
+	
+	/** The most processors which are measured. */
+	private static final int _MAX_CORES =
+		4;
+	
+	/**
+	 * Tests that executions are attributed to their own reports.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void attribution()
+		throws Exception
+	{
+		int numthreads = Math.max(2,
+			Runtime.getRuntime().availableProcessors()) * 4;
+		
+		Queue<JsonObject> reports = new ConcurrentLinkedQueue<>();
+		AtomicInteger mismatched = new AtomicInteger();
+		
+		ConcurrentLoadTest.__load(numthreads, reports, mismatched);
+		
+		// Every execution must have been reported once
+		assertEquals(0, mismatched.get(),
+			"Current execution did not match running execution.");
+		assertEquals(numthreads * _PER_THREAD, reports.size());
+		
+		// Each report must have only the label of its own execution
+		Set<String> seen = new HashSet<>();
+		for (JsonObject report : reports)
+		{
+			List<String> loadlabels = new ArrayList<>();
+			for (JsonValue v : report.getJsonArray("labels"))
+			{
+				String label = ((JsonString)v).getString();
+				if (label.startsWith("load-"))
+					loadlabels.add(label);
+			}
+			
+			assertEquals(1, loadlabels.size(),
+				"Report has labels of other executions: " + loadlabels);
+			assertTrue(seen.add(loadlabels.get(0)),
+				"Execution reported twice: " + loadlabels.get(0));
+		}
+	}
+	
+	/**
+	 * Tests that a concurrent service does not isolate the executions of
+	 * other services which are not concurrent.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void isolationPerService()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setConcurrent(true);
+		
+		// The concurrent service only needs to exist
+		assertNotNull(new IOpipeService(cb.build()));
+		
+		cb.setConcurrent(false);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try
+		{
+			// Make sure the thread exists before any execution
+			pool.submit(() -> {}).get();
+			
+			// Threads which do not know the execution still find it since
+			// this service is not concurrent
+			sv.<Object>run(new MockContext("isolationPerService"), (__exec) ->
+				{
+					try
+					{
+						assertSame(__exec, pool.submit(
+							IOpipeExecution::currentExecution).get());
+					}
+					catch (Exception e)
+					{
+						throw new RuntimeException(e);
+					}
+					
+					return null;
+				});
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that a concurrent service does not use the execution of a
+	 * service which is not concurrent that is running in another thread.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void concurrentIgnoresLast()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		cb.setConcurrent(true);
+		IOpipeService csv = new IOpipeService(cb.build());
+		
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try
+		{
+			// Make sure the thread exists before any execution
+			pool.submit(() -> {}).get();
+			
+			MockContext context = new MockContext("concurrentIgnoresLast");
+			sv.<Object>run(new MockContext("last"), (__exec) ->
+				{
+					IOpipeExecution nested;
+					try
+					{
+						nested = pool.submit(() -> csv.<IOpipeExecution>run(
+							context, (__e) -> __e)).get();
+					}
+					catch (Exception e)
+					{
+						throw new RuntimeException(e);
+					}
+					
+					assertNotSame(__exec, nested,
+						"Used the execution of another thread.");
+					assertSame(context, nested.context());
+					return null;
+				});
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that wrapped tasks run with the execution which submitted them,
+	 * even in threads which were created before the execution started.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void propagation()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setConcurrent(true);
+		
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try
+		{
+			// Make sure the thread exists before any execution
+			pool.submit(() -> {}).get();
+			
+			ExecutorService wrapped = IOpipeExecution.wrap(pool);
+			for (int i = 0; i < 4; i++)
+				sv.<Object>run(new MockContext("propagation-" + i), (__exec) ->
+					{
+						try
+						{
+							assertSame(__exec, wrapped.submit(
+								IOpipeExecution::currentExecution).get());
+							assertSame(__exec,
+								IOpipeExecution.supplyAsync(
+								IOpipeExecution::currentExecution, pool).get());
+						}
+						catch (Exception e)
+						{
+							throw new RuntimeException(e);
+						}
+						
+						return null;
+					});
+			
+			// The pool thread must not keep the execution once done
+			assertFalse(pool.submit(IOpipeExecution::currentExecution).get()
+				instanceof __ActiveExecution__);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that tasks which are wrapped in a thread without an execution do
+	 * not pick up the execution which is running in another thread.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void propagationOnlyBound()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try
+		{
+			// Make sure the thread exists before any execution
+			pool.submit(() -> {}).get();
+			
+			Callable<IOpipeExecution> c = IOpipeExecution::currentExecution;
+			Supplier<IOpipeExecution> s = IOpipeExecution::currentExecution;
+			Runnable r = () -> {};
+			sv.<Object>run(new MockContext("propagationOnlyBound"), (__exec) ->
+				{
+					try
+					{
+						assertTrue(pool.submit(() ->
+							IOpipeExecution.wrapCallable(c) == c &&
+							IOpipeExecution.wrapSupplier(s) == s &&
+							IOpipeExecution.wrap(r) == r).get(),
+							"Task captured an execution which was not bound.");
+					}
+					catch (Exception e)
+					{
+						throw new RuntimeException(e);
+					}
+					
+					return null;
+				});
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Measures throughput with a single thread and with a thread for every
+	 * processor, each extra thread must add to the throughput.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void throughput()
+		throws Exception
+	{
+		int cores = Math.min(_MAX_CORES,
+			Runtime.getRuntime().availableProcessors());
+		
+		// Warm up so that the first measurement is not penalized
+		ConcurrentLoadTest.__load(cores, new ConcurrentLinkedQueue<>(),
+			new AtomicInteger());
+		
+		double single = ConcurrentLoadTest.__throughput(1),
+			multi = ConcurrentLoadTest.__throughput(cores);
+		
+		Logger.info("Concurrent throughput: 1 thread {}/s, {} threads {}/s " +
+			"({}x).", (long)single, cores, (long)multi, multi / single);
+		
+		// Nothing can scale with a single processor
+		double scaling = 1 + ((cores - 1) * _SCALING);
+		if (cores > 1)
+			assertTrue(multi >= single * scaling, String.format(
+				"Throughput scaled %.2fx with %d threads, expected %.2fx.",
+				multi / single, cores, scaling));
+	}
+	
+	/**
+	 * Runs executions in the given number of threads.
+	 *
+	 * @param __n The number of threads.
+	 * @param __reports Where reports are placed.
+	 * @param __mismatched Incremented if the current execution is not the
+	 * one which is running.
+	 * @return The number of nanoseconds it took.
+	 * @throws Exception If the executions could not run.
+	 * @since 2026/10/18
+	 */
+	private static long __load(int __n, Queue<JsonObject> __reports,
+		AtomicInteger __mismatched)
+		throws Exception
+	{
+		// Record every report which is sent
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setRemoteConnectionFactory(new MockConnectionFactory((__r) ->
+			__reports.add((JsonObject)__r.bodyAsJsonStructure())));
+		cb.setConcurrent(true);
+		
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		// Threads all start at the same time
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[__n];
+		for (int t = 0; t < __n; t++)
+		{
+			final int id = t;
+			threads[t] = new Thread(() ->
+				{
+					try
+					{
+						start.await();
+					}
+					catch (InterruptedException e)
+					{
+						return;
+					}
+					
+					for (int i = 0; i < _PER_THREAD; i++)
+					{
+						String label = "load-" + id + "-" + i;
+						sv.<Object>run(new MockContext(label), (__exec) ->
+							{
+								__exec.label(label);
+								
+								IOpipeExecution cur =
+									IOpipeExecution.currentExecution();
+								if (cur != __exec)
+									__mismatched.incrementAndGet();
+								
+								return null;
+							});
+					}
+				}, "LoadTest-" + t);
+			threads[t].start();
+		}
+		
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread t : threads)
+			t.join();
+		return System.nanoTime() - begin;
+	}
+	
+	/**
+	 * Returns the number of executions per second for the given number of
+	 * threads.
+	 *
+	 * @param __n The number of threads.
+	 * @return The executions per second.
+	 * @throws Exception If the executions could not run.
+	 * @since 2026/10/18
+	 */
+	private static double __throughput(int __n)
+		throws Exception
+	{
+		long ns = ConcurrentLoadTest.__load(__n,
+			new ConcurrentLinkedQueue<>(), new AtomicInteger());
+		return (__n * (double)_PER_THREAD) / (ns / 1_000_000_000.0);
+	}
+}
+
@@ -0,0 +1,184 @@
+package com.iopipe;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Test;
+import org.pmw.tinylog.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that functions are called directly when the service is
+ * disabled or switched off, and compares the overhead with calling the
+ * function without the service.
+ *
+ * @since 2026/10/18
+ */
+public class DisabledTest
+{
+	/** The number of calls for the benchmark. */
+	private static final int _ROUNDS =
+		1_000_000;
+	
+	/** The number of times each is measured, the fastest is used. */
+	private static final int _MEASURES =
+		5;
+	
+	/**
+	 * How much slower than calling the function directly a disabled service
+	 * may be, as a ratio.
+	 */
+	private static final double _MAX_RATIO =
+		1.5;
+	
+	/** Nanoseconds a call may differ by due to timer noise. */
+	private static final long _NOISE_NANOS =
+		10;
+	
+	/** The input to the function. */
+	private static final String _INPUT =
+		"squirrels";
+	
+	/**
+	 * Compares the time and allocation of a disabled service with calling
+	 * the function directly.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void benchmark()
+		throws Exception
+	{
+		IOpipeService sv = new IOpipeService(
+			IOpipeConfiguration.DISABLED_CONFIG);
+		assertFalse(sv.isActive());
+		
+		// The handler does a little work which cannot be optimized out, so
+		// that there is a time to compare against
+		MockContext context = new MockContext("disabled");
+		RequestHandler<String, String> handler = (__i, __c) ->
+			(__c.getRemainingTimeInMillis() >= 0 ? __i : null);
+		
+		AtomicInteger mismatched = new AtomicInteger();
+		Callable<Object> calldirect = () ->
+			{
+				if (_INPUT != handler.handleRequest(_INPUT, context))
+					mismatched.incrementAndGet();
+				return null;
+			};
+		Callable<Object> callwrapped = () ->
+			{
+				if (_INPUT != sv.run(context, handler, _INPUT))
+					mismatched.incrementAndGet();
+				return null;
+			};
+		
+		// Warm up both, so that both are compiled
+		for (int i = 0; i < 3; i++)
+		{
+			__Utils__.bench(_ROUNDS, calldirect);
+			__Utils__.bench(_ROUNDS, callwrapped);
+		}
+		
+		// Use the fastest of each since machines running tests may be busy
+		long[] direct = null,
+			wrapped = null;
+		for (int i = 0; i < _MEASURES; i++)
+		{
+			long[] d = __Utils__.bench(_ROUNDS, calldirect),
+				w = __Utils__.bench(_ROUNDS, callwrapped);
+			if (direct == null || d[0] < direct[0])
+				direct = d;
+			if (wrapped == null || w[0] < wrapped[0])
+				wrapped = w;
+		}
+		assertEquals(0, mismatched.get(), "mismatched");
+		
+		Logger.info("Disabled: direct {}ns {}B, wrapped {}ns {}B per call.",
+			direct[0], direct[1], wrapped[0], wrapped[1]);
+		
+		// Allocation does not depend on how busy the machine is
+		if (direct[1] >= 0 && wrapped[1] >= 0)
+			assertEquals(direct[1], wrapped[1], "Disabled service allocates.");
+		
+		long limit = (long)(direct[0] * _MAX_RATIO) + _NOISE_NANOS;
+		assertTrue(wrapped[0] <= limit, String.format(
+			"Disabled service took %dns per call, limit is %dns.",
+			wrapped[0], limit));
+	}
+	
+	/**
+	 * Tests that functions which are given an execution while the service
+	 * is disabled see that execution and its context as the current one.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void functionBound()
+	{
+		IOpipeService sv = new IOpipeService(
+			IOpipeConfiguration.DISABLED_CONFIG);
+		
+		MockContext context = new MockContext("functionBound");
+		IOpipeExecution exec = sv.<IOpipeExecution>run(context, (__e) ->
+			{
+				assertSame(__e, IOpipeExecution.currentExecution());
+				assertSame(context, __e.context());
+				return __e;
+			});
+		
+		assertNotSame(exec, IOpipeExecution.currentExecution(),
+			"Execution was left bound.");
+	}
+	
+	/**
+	 * Tests that the kill switch file is checked again by its thread, the
+	 * service itself is checked by {@link __DoKillSwitch__}.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void killSwitch()
+		throws Exception
+	{
+		Path file = Files.createTempFile("iopipe-", ".killswitch");
+		try
+		{
+			__KillSwitch__ killswitch = new __KillSwitch__(file, 1_000_000L);
+			assertTrue(killswitch.__isOff());
+			
+			Files.delete(file);
+			assertTrue(DisabledTest.__await(killswitch, false), "on");
+			
+			Files.createFile(file);
+			assertTrue(DisabledTest.__await(killswitch, true), "off");
+		}
+		finally
+		{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	/**
+	 * Waits for the kill switch to be in the given state.
+	 *
+	 * @param __k The kill switch.
+	 * @param __off The state to wait for.
+	 * @return If the switch is in the given state.
+	 * @throws InterruptedException If the wait was interrupted.
+	 * @since 2026/10/18
+	 */
+	private static boolean __await(__KillSwitch__ __k, boolean __off)
+		throws InterruptedException
+	{
+		long end = System.nanoTime() + 2_000_000_000L;
+		while (__k.__isOff() != __off && System.nanoTime() - end < 0)
+			Thread.sleep(1);
+		return __k.__isOff() == __off;
+	}
+}
+
@@ -93,6 +93,9 @@ public abstract class Engine
 			__DoLongValueCustomMetric__::new,
 			__DoLongNameCustomMetric__::new,
 			__DoDiskReportCheck__::new,
+			__DoInvocationResources__::new,
+			__DoChildProcesses__::new,
+			__DoThreadUsage__::new,
 			__DoColdStartAutoLabel__::new,
 			__DoRecursive__::new,
 			__DoGenericEntryPoint__::new,
@@ -202,6 +205,7 @@ public abstract class Engine
 			(__e) -> new __DoLoggerTest__(__e, true),
 			(__e) -> new __DoLoggerTest__(__e, false),
 			__DoConfigFileTest__::new,
+			__DoKillSwitch__::new,
 		};
 	
 	/** The base name for this engine. */
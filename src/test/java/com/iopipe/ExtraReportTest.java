@@ -0,0 +1,175 @@
+package com.iopipe;
+
+import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.logger.LoggerExecution;
+import com.iopipe.plugin.profiler.ProfilerExecution;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that the extra plugin information which is written directly
+ * into the report is the same as the object plugins return.
+ *
+ * @since 2026/10/18
+ */
+public class ExtraReportTest
+{
+	/** Fields in the plugin information which are not extra. */
+	private static final List<String> _BASE_FIELDS =
+		Arrays.asList("name", "version", "homepage", "enabled");
+	
+	/**
+	 * Tests that the default streaming implementation writes the same
+	 * fields as the object, including nested values.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void defaultMatches()
+	{
+		JsonObject extra = Json.createObjectBuilder().
+			add("uploads", Json.createArrayBuilder().add("token").add(1)).
+			add("nested", Json.createObjectBuilder().
+				add("flag", true).
+				add("none", JsonValue.NULL).
+				add("number", 1.5)).
+			add("text", "squirrels \"and\" acorns").
+			build();
+		
+		IOpipePluginExecution exec = new IOpipePluginExecution()
+			{
+				/**
+				 * {@inheritDoc}
+				 * @since 2026/10/18
+				 */
+				@Override
+				public JsonObject extraReport()
+				{
+					return extra;
+				}
+			};
+		
+		assertEquals(extra, ExtraReportTest.__write(exec));
+	}
+	
+	/**
+	 * Tests that nothing is written if there is no extra information.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void defaultEmpty()
+	{
+		assertEquals(JsonValue.EMPTY_JSON_OBJECT,
+			ExtraReportTest.__write(new IOpipePluginExecution()
+			{
+			}));
+	}
+	
+	/**
+	 * Tests that the plugin information in a sent report has the same extra
+	 * fields as the logger and profiler return.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void reportMatches()
+	{
+		Queue<JsonObject> reports = new ConcurrentLinkedQueue<>();
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setRemoteConnectionFactory(new MockConnectionFactory((__r) ->
+			{
+				// Only the report lists the plugins
+				if (__r.mimeType().startsWith("application/json"))
+				{
+					JsonObject body = (JsonObject)__r.bodyAsJsonStructure();
+					if (body.containsKey("plugins"))
+						reports.add(body);
+				}
+			}));
+		cb.setPluginEnabled("logger", true);
+		cb.setPluginEnabled("profiler", true);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		Map<String, IOpipePluginExecution> execs = new HashMap<>();
+		sv.<Object>run(new MockContext("reportMatches"), (__exec) ->
+			{
+				LoggerExecution logger = __exec.optionalPlugin(
+					LoggerExecution.class);
+				logger.log("INFO", "test", "squirrels");
+				execs.put("logger", logger);
+				execs.put("profiler", __exec.optionalPlugin(
+					ProfilerExecution.class));
+				return null;
+			});
+		
+		assertEquals(1, reports.size());
+		Map<String, JsonObject> infos = new HashMap<>();
+		for (JsonValue v : reports.peek().getJsonArray("plugins"))
+		{
+			JsonObject info = (JsonObject)v;
+			
+			JsonObjectBuilder extra = Json.createObjectBuilder();
+			for (Map.Entry<String, JsonValue> e : info.entrySet())
+				if (!_BASE_FIELDS.contains(e.getKey()))
+					extra.add(e.getKey(), e.getValue());
+			infos.put(info.getString("name"), extra.build());
+		}
+		
+		for (Map.Entry<String, IOpipePluginExecution> e : execs.entrySet())
+		{
+			String name = e.getKey();
+			assertNotNull(e.getValue(), name);
+			
+			// Both upload their data, so they have extra information
+			JsonObject expected = e.getValue().extraReport();
+			assertNotNull(expected, name);
+			assertEquals(expected, infos.get(name), name);
+		}
+	}
+	
+	/**
+	 * Writes the extra information of the given execution into an object.
+	 *
+	 * @param __e The execution to write.
+	 * @return The object which was written.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static JsonObject __write(IOpipePluginExecution __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		StringWriter out = new StringWriter();
+		try (JsonGenerator gen = Json.createGenerator(out))
+		{
+			gen.writeStartObject();
+			__e.writeExtraReport(gen);
+			gen.writeEnd();
+		}
+		
+		try (JsonReader in = Json.createReader(
+			new StringReader(out.toString())))
+		{
+			return in.readObject();
+		}
+	}
+}
+
@@ -0,0 +1,166 @@
+package com.iopipe;
+
+import com.iopipe.plugin.logger.LoggerExecution;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that plugins are told about the life of the container, that
+ * only plugins which allow it are prewarmed, and that the logger reuses its
+ * temporary logs without letting old executions write to them.
+ *
+ * @since 2026/10/18
+ */
+public class LifecycleTest
+{
+	/**
+	 * Tests that enabled plugins are initialized with the service, thawed
+	 * for every warm execution and shutdown.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void enabled()
+	{
+		int inits = TestPlugin.inits(),
+			thaws = TestPlugin.thaws(),
+			shutdowns = TestPlugin.shutdowns();
+		
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setUseLocalColdStart(true);
+		cb.setPluginEnabled("test", true);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		assertEquals(inits + 1, TestPlugin.inits(), "init");
+		assertSame(sv, TestPlugin.service());
+		
+		// Cold starts are not thaws
+		sv.<Object>run(new MockContext("cold"), (__exec) -> null);
+		assertEquals(thaws, TestPlugin.thaws(), "cold");
+		
+		sv.<Object>run(new MockContext("warm"), (__exec) -> null);
+		sv.<Object>run(new MockContext("warm"), (__exec) -> null);
+		assertEquals(thaws + 2, TestPlugin.thaws(), "warm");
+		
+		sv._plugins.__shutdown();
+		assertEquals(shutdowns + 1, TestPlugin.shutdowns(), "shutdown");
+	}
+	
+	/**
+	 * Tests that disabled plugins are never told about the container.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void disabled()
+	{
+		int inits = TestPlugin.inits(),
+			thaws = TestPlugin.thaws(),
+			shutdowns = TestPlugin.shutdowns();
+		
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setUseLocalColdStart(true);
+		cb.setPluginEnabled("test", false);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		sv.<Object>run(new MockContext("cold"), (__exec) -> null);
+		sv.<Object>run(new MockContext("warm"), (__exec) -> null);
+		sv._plugins.__shutdown();
+		
+		assertEquals(inits, TestPlugin.inits(), "init");
+		assertEquals(thaws, TestPlugin.thaws(), "thaw");
+		assertEquals(shutdowns, TestPlugin.shutdowns(), "shutdown");
+	}
+	
+	/**
+	 * Tests that only the enabled plugins which allow it are prewarmed.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void prewarmable()
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setPluginEnabled("test", true);
+		cb.setPluginEnabled("logger", true);
+		cb.setPluginEnabled("profiler", false);
+		__Plugins__ plugins = new IOpipeService(cb.build())._plugins;
+		
+		__Plugins__.__Info__[] infos = plugins._infos;
+		int[] slots = plugins._prewarmslots;
+		for (int x = 0, n = infos.length; x < n; x++)
+		{
+			__Plugins__.__Info__ i = infos[x];
+			int slot = x;
+			boolean primed = Arrays.stream(slots).anyMatch(
+				(__s) -> __s == slot);
+			
+			if (!i.isEnabled())
+				assertFalse(primed, i.name());
+			else
+				assertEquals(i.plugin().isPrewarmable(), primed, i.name());
+		}
+		
+		assertFalse(new TestPlugin().isPrewarmable(), "test");
+	}
+	
+	/**
+	 * Tests that the logger reuses the temporary log of a finished execution
+	 * and that the finished execution can no longer write to it.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void loggerReuse()
+		throws Exception
+	{
+		Queue<String> uploads = new ConcurrentLinkedQueue<>();
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setRemoteConnectionFactory(new MockConnectionFactory((__r) ->
+			uploads.add(__r.bodyAsString())));
+		cb.setPluginEnabled("logger", true);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		// Other services may still have temporary logs open
+		String templog = Paths.get(System.getProperty("java.io.tmpdir")).
+			toRealPath().resolve("iopipe-logger").toString();
+		int templogs = __Utils__.openFiles(templog);
+		
+		LoggerExecution first = sv.<LoggerExecution>run(
+			new MockContext("first"), (__exec) ->
+			{
+				LoggerExecution rv = __exec.optionalPlugin(
+					LoggerExecution.class);
+				assertNotNull(rv, "logger");
+				rv.log("INFO", "test", "first-message");
+				return rv;
+			});
+		
+		// The old execution writes while the log belongs to the next one
+		sv.<Object>run(new MockContext("second"), (__exec) ->
+			{
+				first.log("INFO", "test", "stale-message");
+				__exec.optionalPlugin(LoggerExecution.class).log("INFO",
+					"test", "second-message");
+				return null;
+			});
+		
+		String all = String.join("\n", uploads);
+		assertTrue(all.contains("first-message"), "first");
+		assertTrue(all.contains("second-message"), "second");
+		assertFalse(all.contains("stale-message"),
+			"Finished execution wrote to a reused log.");
+		
+		// Only the spare log is kept open
+		if (templogs >= 0)
+			assertTrue(__Utils__.openFiles(templog) <= templogs + 1,
+				"Temporary logs were not reused.");
+	}
+}
+
@@ -33,6 +33,9 @@ public final class MockConnection
 	/** The authorization token. */
 	protected final String authtoken;
 	
+	/** Is called with every request which is sent, may be {@code null}. */
+	protected final Consumer<RemoteRequest> listener;
+	
 	/**
 	 * Initializes the mock connection.
 	 *
@@ -43,12 +46,30 @@ public final class MockConnection
 	 */
 	public MockConnection(String __url, String __auth)
 		throws NullPointerException
+	{
+		this(__url, __auth, null);
+	}
+	
+	/**
+	 * Initializes the mock connection which calls the given listener with
+	 * every request which is sent.
+	 *
+	 * @param __url The remote URL.
+	 * @param __auth The authorization token.
+	 * @param __l The listener, may be {@code null}.
+	 * @throws NullPointerException If no URL was specified.
+	 * @since 2026/10/18
+	 */
+	public MockConnection(String __url, String __auth,
+		Consumer<RemoteRequest> __l)
+		throws NullPointerException
 	{
 		if (__url == null)
 			throw new NullPointerException();
 		
 		this.url = __url;
 		this.authtoken = __auth;
+		this.listener = __l;
 	}
 	
 	/**
@@ -62,6 +83,11 @@ public final class MockConnection
 		if (__t == null || __r == null)
 			throw new NullPointerException();
 		
+		// Let the test see the request
+		Consumer<RemoteRequest> listener = this.listener;
+		if (listener != null)
+			listener.accept(__r);
+		
 		// Check the authorization token
 		String url = this.url;
 		if (url.equals(MockEngine.EVENT_URL))
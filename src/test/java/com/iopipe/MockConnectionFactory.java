@@ -4,6 +4,8 @@ import com.iopipe.http.RemoteConnection;
 import com.iopipe.http.RemoteConnectionFactory;
 import com.iopipe.http.RemoteException;
 import com.iopipe.http.RemoteRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * This is the connection factory which is only meant to be used for testing.
@@ -14,6 +16,35 @@ import com.iopipe.http.RemoteRequest;
 public final class MockConnectionFactory
 	implements RemoteConnectionFactory
 {
+	/** Is called with every request which is sent, may be {@code null}. */
+	protected final Consumer<RemoteRequest> listener;
+	
+	/** The number of connections which were made. */
+	private final AtomicInteger _connections =
+		new AtomicInteger();
+	
+	/**
+	 * Initializes the factory.
+	 *
+	 * @since 2026/10/18
+	 */
+	public MockConnectionFactory()
+	{
+		this(null);
+	}
+	
+	/**
+	 * Initializes the factory which calls the given listener with every
+	 * request which is sent.
+	 *
+	 * @param __l The listener, may be {@code null}.
+	 * @since 2026/10/18
+	 */
+	public MockConnectionFactory(Consumer<RemoteRequest> __l)
+	{
+		this.listener = __l;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2017/12/19
@@ -25,7 +56,19 @@ public final class MockConnectionFactory
 		if (__url == null)
 			throw new NullPointerException();
 		
-		return new MockConnection(__url, __auth);
+		this._connections.incrementAndGet();
+		return new MockConnection(__url, __auth, this.listener);
+	}
+	
+	/**
+	 * Returns the number of connections which were made.
+	 *
+	 * @return The number of connections.
+	 * @since 2026/10/18
+	 */
+	public final int connections()
+	{
+		return this._connections.get();
 	}
 }
 
@@ -29,6 +29,9 @@ public final class MockContext
 	protected final long starttime =
 		System.nanoTime();
 	
+	/** The duration of this context in nanoseconds. */
+	protected final long duration;
+	
 	/**
 	 * Initializes the context with the given parameters.
 	 *
@@ -38,11 +41,26 @@ public final class MockContext
 	 */
 	public MockContext(String __funcname)
 		throws NullPointerException
+	{
+		this(__funcname, CONTEXT_DURATION_MS);
+	}
+	
+	/**
+	 * Initializes the context with the given duration.
+	 *
+	 * @param __funcname The name of the function being invoked.
+	 * @param __ms The duration of the context in milliseconds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public MockContext(String __funcname, int __ms)
+		throws NullPointerException
 	{
 		if (__funcname == null)
 			throw new NullPointerException();
 		
 		this.functionname = __funcname;
+		this.duration = __ms * 1_000_000L;
 	}
 	
 	/**
@@ -154,7 +172,7 @@ public final class MockContext
 	@Override
 	public final int getRemainingTimeInMillis()
 	{
-		long left = (CONTEXT_DURATION_NS -
+		long left = (this.duration -
 			(System.nanoTime() - this.starttime)) / 1_000_000L;
 		if (left < 0)
 			return 0;
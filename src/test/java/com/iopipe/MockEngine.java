@@ -47,6 +47,17 @@ public class MockEngine
 		if (__s == null)
 			throw new NullPointerException();
 		
+		return MockEngine.mockConfig();
+	}
+	
+	/**
+	 * Returns a new configuration which uses the mock service.
+	 *
+	 * @return The configuration for the mock service.
+	 * @since 2026/10/18
+	 */
+	public static IOpipeConfigurationBuilder mockConfig()
+	{
 		IOpipeConfigurationBuilder rv = new IOpipeConfigurationBuilder();
 		
 		rv.setEnabled(true);
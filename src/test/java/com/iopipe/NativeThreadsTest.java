@@ -0,0 +1,71 @@
+package com.iopipe;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that the stat files of native threads are kept open between
+ * snapshots and are closed once their threads finish.
+ *
+ * @since 2026/10/18
+ */
+public class NativeThreadsTest
+{
+	/** The number of short lived threads to start. */
+	private static final int _THREADS =
+		32;
+	
+	/**
+	 * Tests that the files of live threads are kept open and that the files
+	 * of finished threads are closed.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void keptOpen()
+		throws Exception
+	{
+		// Only Linux has these files
+		if (!Files.isReadable(Paths.get("/proc/self/task")))
+			return;
+		
+		// Open files are linked to the real process directory
+		String prefix = Paths.get("/proc/self").toRealPath() + "/task/";
+		
+		// Each thread is seen by a snapshot before it finishes
+		for (int i = 0; i < _THREADS; i++)
+		{
+			CountDownLatch release = new CountDownLatch(1);
+			Thread thread = new Thread(() ->
+				{
+					try
+					{
+						release.await();
+					}
+					catch (InterruptedException e)
+					{
+					}
+				}, "NativeThreadsTest-" + i);
+			thread.start();
+			
+			__NativeThreads__.__snapshot();
+			
+			release.countDown();
+			thread.join();
+		}
+		
+		__NativeThreads__ last = __NativeThreads__.__snapshot();
+		int open = __Utils__.openFiles(prefix);
+		
+		assertTrue(open > 0, "Not kept open.");
+		assertTrue(open < last.tids.length + (_THREADS / 2),
+			"Finished threads were kept open: " + open + " > " +
+			last.tids.length);
+	}
+}
+
@@ -0,0 +1,205 @@
+package com.iopipe;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that plugins which are disabled and never created are reported
+ * the same as when they are created, that the registries keep the plugin
+ * order, and that plugin handles do not keep executions alive.
+ *
+ * @since 2026/10/18
+ */
+public class PluginsTest
+{
+	/** The names of the built-in plugins. */
+	private static final String[] _BUILTINS =
+		{"trace", "profiler", "event-info", "logger"};
+	
+	/**
+	 * Checks that the information of disabled plugins matches the plugins.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void disabledMatchesCreated()
+	{
+		Map<String, __Plugins__.__Info__> created =
+			PluginsTest.__infos(true, true),
+			disabled = PluginsTest.__infos(true, false);
+		
+		for (String name : _BUILTINS)
+		{
+			__Plugins__.__Info__ c = created.get(name),
+				d = disabled.get(name);
+			
+			assertNotNull(c, name);
+			assertNotNull(d, name);
+			assertNotNull(c.plugin(), name);
+			assertNull(d.plugin(), name);
+			
+			assertEquals(c.version(), d.version(), name);
+			assertEquals(c.homepage(), d.homepage(), name);
+			assertTrue(c.isEnabled(), name);
+			assertFalse(d.isEnabled(), name);
+		}
+	}
+	
+	/**
+	 * Checks that the built-in plugins are first and in the same order
+	 * whether they come from the application registry or the registries
+	 * which are searched for.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void registryOrder()
+	{
+		Collection<__Plugins__.__Registered__> application =
+			__Plugins__.__application();
+		assertNotNull(application, "No application registry.");
+		
+		List<String> searched = new ArrayList<>();
+		for (__Plugins__.__Registered__ r : __Plugins__.__registry())
+			searched.add(r.name);
+		List<String> loaded = new ArrayList<>();
+		for (__Plugins__.__Registered__ r : application)
+			loaded.add(r.name);
+		
+		assertEquals(searched, loaded);
+		assertEquals(Arrays.asList(_BUILTINS),
+			loaded.subList(0, _BUILTINS.length));
+		assertTrue(loaded.contains("test"), "test");
+	}
+	
+	/**
+	 * Checks that plugins are enabled by default the same as the plugins
+	 * say they are.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void enabledByDefault()
+	{
+		Map<String, __Plugins__.__Info__> defaults =
+			PluginsTest.__infos(false, false);
+		
+		for (__Plugins__.__Info__ i : defaults.values())
+			if (i.isEnabled())
+				assertTrue(i.plugin().enabledByDefault(), i.name());
+			else if (i.plugin() != null)
+				assertFalse(i.plugin().enabledByDefault(), i.name());
+		
+		// Every built-in plugin which was not created must not be enabled
+		// by default
+		Map<String, __Plugins__.__Info__> created =
+			PluginsTest.__infos(true, true);
+		for (String name : _BUILTINS)
+			if (defaults.get(name).plugin() == null)
+				assertFalse(created.get(name).plugin().enabledByDefault(),
+					name);
+	}
+	
+	/**
+	 * Checks that a plugin handle does not keep the plugin execution alive
+	 * after the execution has ended.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void handleDoesNotRetain()
+		throws Exception
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setPluginEnabled("test", true);
+		IOpipeService sv = new IOpipeService(cb.build());
+		
+		IOpipePluginHandle<TestExecution> handle =
+			IOpipePluginHandle.<TestExecution>of(TestExecution.class);
+		Reference<TestExecution> ref = sv.<Reference<TestExecution>>run(
+			new MockContext("handleDoesNotRetain"), (__exec) ->
+			{
+				TestExecution rv = handle.get();
+				assertNotNull(rv);
+				assertSame(rv, handle.get());
+				return new WeakReference<>(rv);
+			});
+		
+		// Collection is only a request, so try a few times
+		for (int i = 0; i < 50 && ref.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+		}
+		
+		assertNull(ref.get(), "Handle kept the plugin execution.");
+	}
+	
+	/**
+	 * Checks that a plugin handle finds the plugin of the service which the
+	 * current execution is in, when services are used one after another.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void handlePerService()
+	{
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setPluginEnabled("test", true);
+		IOpipeService enabled = new IOpipeService(cb.build());
+		
+		cb.setPluginEnabled("test", false);
+		IOpipeService disabled = new IOpipeService(cb.build());
+		
+		IOpipePluginHandle<TestExecution> handle =
+			IOpipePluginHandle.<TestExecution>of(TestExecution.class);
+		assertNull(handle.get());
+		
+		for (int i = 0; i < 2; i++)
+		{
+			assertTrue(enabled.<Boolean>run(new MockContext("enabled"),
+				(__exec) -> handle.get() ==
+					__exec.optionalPlugin(TestExecution.class) &&
+					handle.get() != null));
+			assertTrue(disabled.<Boolean>run(new MockContext("disabled"),
+				(__exec) -> handle.get() == null));
+		}
+	}
+	
+	/**
+	 * Returns the plugin information by name.
+	 *
+	 * @param __set Should the built-in plugins be explicitly set?
+	 * @param __on The state to set the built-in plugins to.
+	 * @return The plugin information by name.
+	 * @since 2026/10/18
+	 */
+	private static Map<String, __Plugins__.__Info__> __infos(boolean __set,
+		boolean __on)
+	{
+		IOpipeConfigurationBuilder cb = new IOpipeConfigurationBuilder();
+		cb.setEnabled(true);
+		cb.setProjectToken(MockConnection.VALID_TOKEN);
+		cb.setRemoteConnectionFactory(new MockConnectionFactory());
+		if (__set)
+			for (String name : _BUILTINS)
+				cb.setPluginEnabled(name, __on);
+		
+		Map<String, __Plugins__.__Info__> rv = new HashMap<>();
+		for (__Plugins__.__Info__ i : new __Plugins__(true,
+			cb.build()).__info())
+			rv.put(i.name(), i);
+		return rv;
+	}
+}
+
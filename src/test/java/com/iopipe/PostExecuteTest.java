@@ -0,0 +1,122 @@
+package com.iopipe;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that independent post-executions run outside of the handler
+ * thread, that the report waits for them, and that they are only waited on
+ * until the timeout window.
+ *
+ * @since 2026/10/18
+ */
+public class PostExecuteTest
+{
+	/**
+	 * Tests that the report is only built once every post-execution has
+	 * finished, including those which run on the agent executor.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void reportWaits()
+		throws Exception
+	{
+		Queue<JsonObject> reports = new ConcurrentLinkedQueue<>();
+		IOpipeService sv = PostExecuteTest.__service(reports);
+		
+		TestAsyncPlugin.delay(100);
+		sv.<Object>run(new MockContext("reportWaits"), (__exec) -> null);
+		
+		assertNotSame(Thread.currentThread(), TestAsyncPlugin.thread(),
+			"Independent post-execution ran in the handler thread.");
+		
+		assertEquals(1, reports.size());
+		Set<String> metrics = PostExecuteTest.__metrics(reports.peek());
+		assertTrue(metrics.contains("post"), "post");
+		assertTrue(metrics.contains("async"), "async");
+	}
+	
+	/**
+	 * Tests that post-executions which take too long are not waited on past
+	 * the timeout window.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void deadline()
+		throws Exception
+	{
+		Queue<JsonObject> reports = new ConcurrentLinkedQueue<>();
+		IOpipeService sv = PostExecuteTest.__service(reports);
+		
+		// The window is 150 milliseconds, so this waits at most 250
+		TestAsyncPlugin.delay(3_000);
+		long start = System.nanoTime();
+		sv.<Object>run(new MockContext("deadline", 400), (__exec) -> null);
+		long took = (System.nanoTime() - start) / 1_000_000L;
+		
+		assertTrue(took < 1_500, "Waited " + took + "ms for plugins.");
+		
+		// Only one report may be sent, either by the invocation or by the
+		// time out tracker, and it cannot have the unfinished plugin
+		assertEquals(1, reports.size());
+		assertFalse(PostExecuteTest.__metrics(reports.peek()).
+			contains("async"), "async");
+	}
+	
+	/**
+	 * Returns the names of the custom metrics in the report.
+	 *
+	 * @param __r The report.
+	 * @return The metric names.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static Set<String> __metrics(JsonObject __r)
+		throws NullPointerException
+	{
+		if (__r == null)
+			throw new NullPointerException();
+		
+		Set<String> rv = new HashSet<>();
+		JsonArray metrics = __r.getJsonArray("custom_metrics");
+		if (metrics != null)
+			for (JsonValue v : metrics)
+				rv.add(((JsonObject)v).getString("name"));
+		return rv;
+	}
+	
+	/**
+	 * Creates a service with both test plugins enabled.
+	 *
+	 * @param __reports Where reports are placed.
+	 * @return The service.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static IOpipeService __service(Queue<JsonObject> __reports)
+		throws NullPointerException
+	{
+		if (__reports == null)
+			throw new NullPointerException();
+		
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setRemoteConnectionFactory(new MockConnectionFactory((__r) ->
+			__reports.add((JsonObject)__r.bodyAsJsonStructure())));
+		cb.setPluginEnabled("test", true);
+		cb.setPluginEnabled("test-async", true);
+		return new IOpipeService(cb.build());
+	}
+}
+
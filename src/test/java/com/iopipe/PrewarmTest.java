@@ -0,0 +1,54 @@
+package com.iopipe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that prewarming the service never sends anything.
+ *
+ * @since 2026/10/18
+ */
+public class PrewarmTest
+{
+	/**
+	 * Tests that prewarming sends nothing, even with plugins which upload
+	 * data, that plugins which do not opt in are not primed and that
+	 * executions still report afterwards.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void sendsNothing()
+		throws Exception
+	{
+		AtomicInteger sends = new AtomicInteger();
+		MockConnectionFactory factory = new MockConnectionFactory((__r) ->
+			sends.incrementAndGet());
+		
+		IOpipeConfigurationBuilder cb = MockEngine.mockConfig();
+		cb.setRemoteConnectionFactory(factory);
+		cb.setUseLocalColdStart(true);
+		cb.setPrewarm(true);
+		cb.setPluginEnabled("logger", true);
+		cb.setPluginEnabled("profiler", true);
+		cb.setPluginEnabled("test", true);
+		
+		IOpipeService sv = new IOpipeService(cb.build());
+		assertTrue(sv.config().isPrewarm());
+		
+		// Only plugins which opt in are primed
+		int executions = TestPlugin.executions();
+		sv.prewarm();
+		assertEquals(1, factory.connections(), "connects");
+		assertEquals(0, sends.get(), "sends");
+		assertEquals(executions, TestPlugin.executions(), "test plugin");
+		
+		assertTrue(sv.<Boolean>run(new MockContext("prewarm"),
+			IOpipeExecution::isColdStarted));
+		assertTrue(sends.get() > 0);
+	}
+}
+
@@ -0,0 +1,168 @@
+package com.iopipe;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that cached stacks are rendered the same as they would be
+ * printed, even when the messages of causes differ.
+ *
+ * @since 2026/10/18
+ */
+public class StackCacheTest
+{
+	/**
+	 * Tests that throwables with the same fingerprint but different cause
+	 * messages are rendered with their own messages.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void differingCauses()
+	{
+		Throwable a = StackCacheTest.__make("user=alice token=123"),
+			b = StackCacheTest.__make("user=bob token=456");
+		
+		__Stacks__.__Chain__ ca = __Stacks__.__chain(a),
+			cb = __Stacks__.__chain(b);
+		__StackCache__.__Rendered__ ra = __StackCache__.__lookup(ca),
+			rb = __StackCache__.__lookup(cb);
+		assertSame(ra, rb);
+		
+		assertEquals(StackCacheTest.__print(a), ra.__stack(ca));
+		assertEquals(StackCacheTest.__print(b), rb.__stack(cb));
+	}
+	
+	/**
+	 * Tests that throwables which are thrown from the same place but whose
+	 * causes come from different places are not rendered with the frames of
+	 * each other.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void differingCauseFrames()
+	{
+		Throwable a = StackCacheTest.__make("same"),
+			b = StackCacheTest.__make("same");
+		b.getCause().setStackTrace(new StackTraceElement[]{
+			new StackTraceElement("org.example.Cache", "load", "Cache.java",
+			99)});
+		
+		__Stacks__.__Chain__ ca = __Stacks__.__chain(a),
+			cb = __Stacks__.__chain(b);
+		__StackCache__.__Rendered__ ra = __StackCache__.__lookup(ca),
+			rb = __StackCache__.__lookup(cb);
+		assertNotSame(ra, rb, "Causes are not part of the fingerprint.");
+		
+		assertEquals(StackCacheTest.__print(a), ra.__stack(ca));
+		assertEquals(StackCacheTest.__print(b), rb.__stack(cb));
+	}
+	
+	/**
+	 * Tests that the stack trace of each throwable is only taken once when
+	 * it is looked up and rendered, whether or not it was cached.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void stackTraceOnce()
+	{
+		for (int pass = 0; pass < 2; pass++)
+		{
+			Counted cause = new Counted(null),
+				top = new Counted(cause);
+			
+			__Stacks__.__Chain__ chain = __Stacks__.__chain(top);
+			__StackCache__.__lookup(chain).__stack(chain);
+			
+			assertEquals(1, top.traces, "top " + pass);
+			assertEquals(1, cause.traces, "cause " + pass);
+		}
+	}
+	
+	/**
+	 * Makes a throwable with a cause and a suppressed throwable, the frames
+	 * are not from the agent so none of them are filtered out.
+	 *
+	 * @param __m The message of the cause.
+	 * @return The throwable.
+	 * @since 2026/10/18
+	 */
+	private static Throwable __make(String __m)
+	{
+		StackTraceElement handler = new StackTraceElement(
+				"org.example.Handler", "handle", "Handler.java", 42),
+			main = new StackTraceElement(
+				"org.example.Main", "main", "Main.java", 7);
+		
+		MockException cause = new MockException(__m);
+		cause.setStackTrace(new StackTraceElement[]{new StackTraceElement(
+			"org.example.Dao", "load", "Dao.java", 13), handler, main});
+		
+		MockException suppressed = new MockException("closing " + __m);
+		suppressed.setStackTrace(new StackTraceElement[]{
+			new StackTraceElement("org.example.Dao", "close", "Dao.java",
+			20), handler, main});
+		
+		MockException rv = new MockException("Failed", cause);
+		rv.setStackTrace(new StackTraceElement[]{handler, main});
+		rv.addSuppressed(suppressed);
+		return rv;
+	}
+	
+	/**
+	 * Prints the stack of the given throwable.
+	 *
+	 * @param __t The throwable to print.
+	 * @return The printed stack.
+	 * @since 2026/10/18
+	 */
+	private static String __print(Throwable __t)
+	{
+		StringWriter out = new StringWriter();
+		try (PrintWriter pw = new PrintWriter(out))
+		{
+			__t.printStackTrace(pw);
+		}
+		return out.toString().replace(System.lineSeparator(), "\n");
+	}
+	
+	/**
+	 * A throwable which counts how many times its stack trace was taken.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class Counted
+		extends RuntimeException
+	{
+		/** The number of times the stack trace was taken. */
+		volatile int traces;
+		
+		/**
+		 * Initializes the throwable.
+		 *
+		 * @param __c The cause.
+		 * @since 2026/10/18
+		 */
+		Counted(Throwable __c)
+		{
+			super("counted", __c);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public StackTraceElement[] getStackTrace()
+		{
+			this.traces++;
+			return super.getStackTrace();
+		}
+	}
+}
+
@@ -0,0 +1,198 @@
+package com.iopipe;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that stacks are rendered in the same format as
+ * {@link Throwable#printStackTrace()}, that they are limited in depth and
+ * that noisy frames are dropped.
+ *
+ * @since 2026/10/18
+ */
+public class StacksTest
+{
+	/**
+	 * Tests that stacks without limited or filtered frames are rendered
+	 * exactly as the virtual machine prints them, including the common
+	 * frames of causes and suppressed throwables.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void sameAsPrinted()
+	{
+		StackTraceElement[] outer = StacksTest.__frames("app.Outer", 6);
+		
+		Exception cause = new IllegalStateException("cause");
+		cause.setStackTrace(StacksTest.__join(
+			StacksTest.__frames("app.Cause", 2), outer, 3));
+		
+		Exception suppressed = new IllegalArgumentException("suppressed");
+		suppressed.setStackTrace(StacksTest.__join(
+			StacksTest.__frames("app.Suppressed", 1), outer, 6));
+		
+		Exception top = new RuntimeException("top", cause);
+		top.setStackTrace(outer);
+		top.addSuppressed(suppressed);
+		
+		StringWriter sw = new StringWriter();
+		try (PrintWriter pw = new PrintWriter(sw))
+		{
+			top.printStackTrace(pw);
+		}
+		
+		String rendered = __Stacks__.__render(top);
+		assertEquals(sw.toString().replace(System.lineSeparator(), "\n"),
+			rendered);
+		assertTrue(rendered.contains("\t... 3 more\n"), rendered);
+	}
+	
+	/**
+	 * Tests that only the top frames are rendered and the rest are counted.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void depthLimit()
+	{
+		int extra = 10;
+		Exception e = new RuntimeException("deep");
+		e.setStackTrace(StacksTest.__frames("app.Deep",
+			__Stacks__.MAX_DEPTH + extra));
+		
+		String rendered = __Stacks__.__render(e);
+		assertEquals(__Stacks__.MAX_DEPTH,
+			StacksTest.__count(rendered, "\tat "));
+		assertTrue(rendered.contains("app.Deep.m" +
+			(__Stacks__.MAX_DEPTH - 1) + "("), rendered);
+		assertFalse(rendered.contains("app.Deep.m" +
+			__Stacks__.MAX_DEPTH + "("), rendered);
+		assertTrue(rendered.endsWith("\t... " + extra + " omitted\n"),
+			rendered);
+	}
+	
+	/**
+	 * Tests that frames of the agent and reflection are dropped, except for
+	 * the top frame since that is where the throwable came from.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void filtered()
+	{
+		Exception e = new RuntimeException("filtered");
+		e.setStackTrace(new StackTraceElement[]{
+			new StackTraceElement("com.iopipe.__Top__", "top", "T.java", 1),
+			new StackTraceElement("app.Handler", "handle", "H.java", 2),
+			new StackTraceElement("jdk.internal.reflect.Method", "invoke",
+				null, -1),
+			new StackTraceElement("java.lang.reflect.Method", "invoke",
+				"Method.java", 3),
+			new StackTraceElement("com.iopipe.IOpipeService", "run",
+				"IOpipeService.java", 4),
+			new StackTraceElement("com.iopipe.IOpipeExecution", "label",
+				"IOpipeExecution.java", 5),
+			new StackTraceElement("app.Main", "main", null, -2),
+		});
+		
+		assertEquals("java.lang.RuntimeException: filtered\n" +
+			"\tat com.iopipe.__Top__.top(T.java:1)\n" +
+			"\tat app.Handler.handle(H.java:2)\n" +
+			"\tat com.iopipe.IOpipeExecution.label(IOpipeExecution.java:5)\n" +
+			"\tat app.Main.main(Native Method)\n" +
+			"\t... 3 omitted\n", __Stacks__.__render(e));
+	}
+	
+	/**
+	 * Tests that throwables which cause each other are only rendered once.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void circular()
+	{
+		Exception a = new RuntimeException("a"),
+			b = new RuntimeException("b", a);
+		a.initCause(b);
+		a.setStackTrace(StacksTest.__frames("app.A", 1));
+		b.setStackTrace(StacksTest.__frames("app.B", 1));
+		
+		assertTrue(__Stacks__.__render(a).endsWith("Caused by: " +
+			"[CIRCULAR REFERENCE: java.lang.RuntimeException: a]\n"));
+	}
+	
+	/**
+	 * Tests that rendering with frames which were rendered before is the
+	 * same as rendering everything.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void prerenderedFrames()
+	{
+		Exception cause = new IllegalStateException("cause");
+		cause.addSuppressed(new IllegalArgumentException("suppressed"));
+		
+		Exception e = new RuntimeException("top", cause);
+		e.setStackTrace(StacksTest.__frames("app.Top", 3));
+		
+		__Stacks__.__Chain__ chain = __Stacks__.__chain(e);
+		assertEquals(__Stacks__.__render(e),
+			chain.__render(chain.__renderFrames()));
+	}
+	
+	/**
+	 * Counts the number of times the given string appears.
+	 *
+	 * @param __s The string to search.
+	 * @param __f The string to find.
+	 * @return The number of times it appears.
+	 * @since 2026/10/18
+	 */
+	private static int __count(String __s, String __f)
+	{
+		int rv = 0;
+		for (int i = __s.indexOf(__f); i >= 0; i = __s.indexOf(__f, i + 1))
+			rv++;
+		return rv;
+	}
+	
+	/**
+	 * Creates frames in the given class, with methods numbered from the top.
+	 *
+	 * @param __cl The class of the frames.
+	 * @param __n The number of frames.
+	 * @return The frames.
+	 * @since 2026/10/18
+	 */
+	private static StackTraceElement[] __frames(String __cl, int __n)
+	{
+		StackTraceElement[] rv = new StackTraceElement[__n];
+		for (int i = 0; i < __n; i++)
+			rv[i] = new StackTraceElement(__cl, "m" + i, "F.java", i + 1);
+		return rv;
+	}
+	
+	/**
+	 * Returns the given frames followed by the bottom frames of another.
+	 *
+	 * @param __top The top frames.
+	 * @param __bot The frames to take the bottom of.
+	 * @param __n The number of bottom frames to take.
+	 * @return The joined frames.
+	 * @since 2026/10/18
+	 */
+	private static StackTraceElement[] __join(StackTraceElement[] __top,
+		StackTraceElement[] __bot, int __n)
+	{
+		StackTraceElement[] rv = new StackTraceElement[__top.length + __n];
+		System.arraycopy(__top, 0, rv, 0, __top.length);
+		System.arraycopy(__bot, __bot.length - __n, rv, __top.length, __n);
+		return rv;
+	}
+}
+
@@ -75,6 +75,15 @@ public final class StandardPushEvent
 	/** Plugins. */
 	public final Map<String, Plugin> plugins;
 	
+	/** CPU time used by threads which ran the execution. */
+	public final long cpunanos;
+	
+	/** Bytes allocated by threads which ran the execution. */
+	public final long allocatedbytes;
+	
+	/** The ratio of CPU time to the duration. */
+	public final double utilization;
+	
 	/**
 	 * Intializes the event.
 	 *
@@ -94,6 +103,9 @@ public final class StandardPushEvent
 	 * @param __performanceentries Performance entries measured.
 	 * @param __labels Labels recorded.
 	 * @param __plugins Plugins used.
+	 * @param __cpu CPU time used by threads which ran the execution.
+	 * @param __alloc Bytes allocated by threads which ran the execution.
+	 * @param __util The ratio of CPU time to the duration.
 	 * @since 2018/07/13
 	 */
 	public StandardPushEvent(String __token, String __installmethod,
@@ -102,7 +114,8 @@ public final class StandardPushEvent
 		Errors __errors, boolean __coldstart,
 		Map<String, CustomMetric> __custommetrics,
 		Map<String, PerformanceEntry> __performanceentries,
-		Set<String> __labels, Map<String, Plugin> __plugins)
+		Set<String> __labels, Map<String, Plugin> __plugins, long __cpu,
+		long __alloc, double __util)
 	{
 		this.token = __token;
 		this.installmethod = __installmethod;
@@ -116,6 +129,9 @@ public final class StandardPushEvent
 		this.environment = __environment;
 		this.errors = __errors;
 		this.coldstart = __coldstart;
+		this.cpunanos = __cpu;
+		this.allocatedbytes = __alloc;
+		this.utilization = __util;
 		
 		this.custommetrics = Collections.<String, CustomMetric>unmodifiableMap(
 			(__custommetrics == null ? new LinkedHashMap<>() :
@@ -195,6 +211,9 @@ public final class StandardPushEvent
 			new LinkedHashMap<>();
 		Set<String> labels = new LinkedHashSet<>();
 		Map<String, Plugin> plugins = new LinkedHashMap<>();
+		long cpunanos = Long.MIN_VALUE;
+		long allocatedbytes = Long.MIN_VALUE;
+		double utilization = Double.NaN;
 		
 		for (Map.Entry<String, JsonValue> e : __data.entrySet())
 		{
@@ -216,6 +235,18 @@ public final class StandardPushEvent
 					duration = ((JsonNumber)v).longValue();
 					break;
 				
+				case "cpuNanos":
+					cpunanos = ((JsonNumber)v).longValue();
+					break;
+				
+				case "allocatedBytes":
+					allocatedbytes = ((JsonNumber)v).longValue();
+					break;
+				
+				case "utilization":
+					utilization = ((JsonNumber)v).doubleValue();
+					break;
+				
 				case "processId":
 					processid = ((JsonString)v).getString();
 					break;
@@ -287,7 +318,8 @@ public final class StandardPushEvent
 		
 		return new StandardPushEvent(token, installmethod, duration, stat,
 			processid, timestamp, timestampend, aws, disk, environment, errors,
-			coldstart, custommetrics, performanceentries, labels, plugins);
+			coldstart, custommetrics, performanceentries, labels, plugins,
+			cpunanos, allocatedbytes, utilization);
 	}
 	
 	/**
@@ -352,19 +384,33 @@ public final class StandardPushEvent
 		/** Load time. */
 		public final long loadtime;
 		
+		/** Virtual machine start time, only for cold starts. */
+		public final long jvmstart;
+		
+		/** Cold start phases, by name. */
+		public final Map<String, Map<String, Double>> coldstart;
+		
 		/**
 		 * Initializes the agent information.
 		 *
 		 * @param __runtime The current runtime.
 		 * @param __version The current version.
 		 * @param __loadtime The current load time.
+		 * @param __jvmstart The virtual machine start time.
+		 * @param __cold The cold start phases.
 		 * @since 2018/07/13
 		 */
-		public Agent(String __runtime, String __version, long __loadtime)
+		public Agent(String __runtime, String __version, long __loadtime,
+			long __jvmstart, Map<String, Map<String, Double>> __cold)
 		{
 			this.runtime = __runtime;
 			this.version = __version;
 			this.loadtime = __loadtime;
+			this.jvmstart = __jvmstart;
+			this.coldstart = Collections.<String, Map<String, Double>>
+				unmodifiableMap((__cold == null ?
+				new LinkedHashMap<String, Map<String, Double>>() :
+				new LinkedHashMap<>(__cold)));
 		}
 		
 		/**
@@ -384,6 +430,8 @@ public final class StandardPushEvent
 			String runtime = null;
 			String version = null;
 			long loadtime = Long.MIN_VALUE;
+			long jvmstart = Long.MIN_VALUE;
+			Map<String, Map<String, Double>> coldstart = new LinkedHashMap<>();
 			
 			for (Map.Entry<String, JsonValue> e : __data.entrySet())
 			{
@@ -404,6 +452,25 @@ public final class StandardPushEvent
 						loadtime = ((JsonNumber)v).longValue();
 						break;
 						
+					case "coldstart":
+						JsonObject o = (JsonObject)v;
+						jvmstart = o.getJsonNumber("jvm_start").longValue();
+						for (JsonValue c : o.getJsonArray("phases"))
+						{
+							Map<String, Double> values = new LinkedHashMap<>();
+							String name = null;
+							for (Map.Entry<String, JsonValue> f :
+								((JsonObject)c).entrySet())
+								if (f.getKey().equals("name"))
+									name = ((JsonString)f.getValue()).
+										getString();
+								else
+									values.put(f.getKey(), ((JsonNumber)
+										f.getValue()).doubleValue());
+							coldstart.put(name, values);
+						}
+						break;
+						
 						// Unknown
 					default:
 						throw new RuntimeException(
@@ -411,7 +478,8 @@ public final class StandardPushEvent
 				}
 			}
 			
-			return new Agent(runtime, version, loadtime);
+			return new Agent(runtime, version, loadtime, jvmstart,
+				coldstart);
 		}
 	}
 	
@@ -802,19 +870,25 @@ public final class StandardPushEvent
 		/** Message of the error. */
 		public final String message;
 		
+		/** The number of times this error has occurred. */
+		public final long occurrences;
+		
 		/**
 		 * Initializes error information.
 		 *
 		 * @param __stack The stack.
 		 * @param __name The error name.
 		 * @param __message The message.
+		 * @param __occurrences The number of times the error occurred.
 		 * @since 2018/07/13
 		 */
-		public Errors(String __stack, String __name, String __message)
+		public Errors(String __stack, String __name, String __message,
+			long __occurrences)
 		{
 			this.stack = __stack;
 			this.name = __name;
 			this.message = __message;
+			this.occurrences = __occurrences;
 		}
 		
 		/**
@@ -834,7 +908,7 @@ public final class StandardPushEvent
 			String stack = null;
 			String name = null;
 			String message = null;
-			
+			long occurrences = 0;
 			
 			for (Map.Entry<String, JsonValue> e : __data.entrySet())
 			{
@@ -855,6 +929,10 @@ public final class StandardPushEvent
 						message = ((JsonString)v).getString();
 						break;
 						
+					case "occurrences":
+						occurrences = ((JsonNumber)v).longValue();
+						break;
+						
 						// Unknown
 					default:
 						throw new RuntimeException(
@@ -862,7 +940,7 @@ public final class StandardPushEvent
 				}
 			}
 			
-			return new Errors(stack, name, message);
+			return new Errors(stack, name, message, occurrences);
 		}
 	}
 	
@@ -925,6 +1003,254 @@ public final class StandardPushEvent
 		}
 	}
 	
+	/**
+	 * Resources used by a single invocation.
+	 *
+	 * @since 2026/10/18
+	 */
+	public static final class Invocation
+	{
+		/** User time. */
+		public final long utime;
+		
+		/** System time. */
+		public final long stime;
+		
+		/** Minor page faults. */
+		public final long minflt;
+		
+		/** Major page faults. */
+		public final long majflt;
+		
+		/** Voluntary context switches. */
+		public final long vctx;
+		
+		/** Involuntary context switches. */
+		public final long nvctx;
+		
+		/** The busy time of each CPU. */
+		public final List<Long> cpubusy;
+		
+		/** The idle time of each CPU. */
+		public final List<Long> cpuidle;
+		
+		/** The ratio of busy time of each CPU. */
+		public final List<Double> cpubusyratio;
+		
+		/** Control group values, may be empty. */
+		public final Map<String, Long> cgroup;
+		
+		/** Stall times, keyed by the resource and stall type. */
+		public final Map<String, Long> pressure;
+		
+		/** Storage I/O. */
+		public final Map<String, Long> io;
+		
+		/** Network traffic. */
+		public final Map<String, Long> net;
+		
+		/** CPU time of native threads, by the class of thread. */
+		public final Map<String, Long> threads;
+		
+		/** Processes which were started, by executable name. */
+		public final Map<String, Map<String, Long>> children;
+		
+		/**
+		 * Initializes the invocation resources.
+		 *
+		 * @param __ut User time.
+		 * @param __st System time.
+		 * @param __minf Minor page faults.
+		 * @param __majf Major page faults.
+		 * @param __vc Voluntary context switches.
+		 * @param __nvc Involuntary context switches.
+		 * @param __busy The busy time of each CPU.
+		 * @param __idle The idle time of each CPU.
+		 * @param __ratio The ratio of busy time of each CPU.
+		 * @param __cg Control group values.
+		 * @param __psi Stall times.
+		 * @param __io Storage I/O.
+		 * @param __net Network traffic.
+		 * @param __th CPU time of native threads.
+		 * @param __kids Processes which were started.
+		 * @since 2026/10/18
+		 */
+		public Invocation(long __ut, long __st, long __minf, long __majf,
+			long __vc, long __nvc, List<Long> __busy, List<Long> __idle,
+			List<Double> __ratio, Map<String, Long> __cg,
+			Map<String, Long> __psi, Map<String, Long> __io,
+			Map<String, Long> __net, Map<String, Long> __th,
+			Map<String, Map<String, Long>> __kids)
+		{
+			this.utime = __ut;
+			this.stime = __st;
+			this.minflt = __minf;
+			this.majflt = __majf;
+			this.vctx = __vc;
+			this.nvctx = __nvc;
+			this.cpubusy = Collections.<Long>unmodifiableList(
+				(__busy == null ? new ArrayList<Long>() :
+				new ArrayList<>(__busy)));
+			this.cpuidle = Collections.<Long>unmodifiableList(
+				(__idle == null ? new ArrayList<Long>() :
+				new ArrayList<>(__idle)));
+			this.cpubusyratio = Collections.<Double>unmodifiableList(
+				(__ratio == null ? new ArrayList<Double>() :
+				new ArrayList<>(__ratio)));
+			this.cgroup = Collections.<String, Long>unmodifiableMap(
+				(__cg == null ? new LinkedHashMap<String, Long>() :
+				new LinkedHashMap<>(__cg)));
+			this.pressure = Collections.<String, Long>unmodifiableMap(
+				(__psi == null ? new LinkedHashMap<String, Long>() :
+				new LinkedHashMap<>(__psi)));
+			this.io = Collections.<String, Long>unmodifiableMap(
+				(__io == null ? new LinkedHashMap<String, Long>() :
+				new LinkedHashMap<>(__io)));
+			this.net = Collections.<String, Long>unmodifiableMap(
+				(__net == null ? new LinkedHashMap<String, Long>() :
+				new LinkedHashMap<>(__net)));
+			this.threads = Collections.<String, Long>unmodifiableMap(
+				(__th == null ? new LinkedHashMap<String, Long>() :
+				new LinkedHashMap<>(__th)));
+			this.children = Collections.<String, Map<String, Long>>
+				unmodifiableMap((__kids == null ?
+				new LinkedHashMap<String, Map<String, Long>>() :
+				new LinkedHashMap<>(__kids)));
+		}
+		
+		/**
+		 * Decodes the specified event.
+		 *
+		 * @param __data The data to decode.
+		 * @return The decoded data.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		public static Invocation decodeEvent(JsonObject __data)
+			throws NullPointerException
+		{
+			if (__data == null)
+				throw new NullPointerException();
+			
+			long utime = Long.MIN_VALUE;
+			long stime = Long.MIN_VALUE;
+			long minflt = Long.MIN_VALUE;
+			long majflt = Long.MIN_VALUE;
+			long vctx = Long.MIN_VALUE;
+			long nvctx = Long.MIN_VALUE;
+			List<Long> busy = new ArrayList<>();
+			List<Long> idle = new ArrayList<>();
+			List<Double> ratio = new ArrayList<>();
+			Map<String, Long> cgroup = new LinkedHashMap<>();
+			Map<String, Long> pressure = new LinkedHashMap<>();
+			Map<String, Long> io = new LinkedHashMap<>();
+			Map<String, Long> net = new LinkedHashMap<>();
+			Map<String, Long> threads = new LinkedHashMap<>();
+			Map<String, Map<String, Long>> children = new LinkedHashMap<>();
+			
+			for (Map.Entry<String, JsonValue> e : __data.entrySet())
+			{
+				JsonValue v = e.getValue();
+				
+				String k;
+				switch ((k = e.getKey()))
+				{
+					case "utime":
+						utime = ((JsonNumber)v).longValue();
+						break;
+						
+					case "stime":
+						stime = ((JsonNumber)v).longValue();
+						break;
+						
+					case "minflt":
+						minflt = ((JsonNumber)v).longValue();
+						break;
+						
+					case "majflt":
+						majflt = ((JsonNumber)v).longValue();
+						break;
+						
+					case "voluntary_ctxt_switches":
+						vctx = ((JsonNumber)v).longValue();
+						break;
+						
+					case "nonvoluntary_ctxt_switches":
+						nvctx = ((JsonNumber)v).longValue();
+						break;
+						
+					case "cpus":
+						for (JsonValue c : (JsonArray)v)
+						{
+							JsonObject o = (JsonObject)c;
+							busy.add(o.getJsonNumber("busy").longValue());
+							idle.add(o.getJsonNumber("idle").longValue());
+							ratio.add(o.getJsonNumber("busyRatio").
+								doubleValue());
+						}
+						break;
+						
+					case "cgroup":
+						for (Map.Entry<String, JsonValue> f :
+							((JsonObject)v).entrySet())
+							cgroup.put(f.getKey(),
+								((JsonNumber)f.getValue()).longValue());
+						break;
+						
+					case "pressure":
+						for (Map.Entry<String, JsonValue> f :
+							((JsonObject)v).entrySet())
+							for (Map.Entry<String, JsonValue> g :
+								((JsonObject)f.getValue()).entrySet())
+								pressure.put(f.getKey() + "." + g.getKey(),
+									((JsonNumber)g.getValue()).longValue());
+						break;
+						
+					case "io":
+					case "net":
+						for (Map.Entry<String, JsonValue> f :
+							((JsonObject)v).entrySet())
+							(k.equals("io") ? io : net).put(f.getKey(),
+								((JsonNumber)f.getValue()).longValue());
+						break;
+						
+					case "threads":
+						for (Map.Entry<String, JsonValue> f :
+							((JsonObject)v).entrySet())
+							threads.put(f.getKey(),
+								((JsonNumber)f.getValue()).longValue());
+						break;
+						
+					case "children":
+						for (JsonValue c : (JsonArray)v)
+						{
+							Map<String, Long> values = new LinkedHashMap<>();
+							String name = null;
+							for (Map.Entry<String, JsonValue> f :
+								((JsonObject)c).entrySet())
+								if (f.getKey().equals("name"))
+									name = ((JsonString)f.getValue()).
+										getString();
+								else
+									values.put(f.getKey(), ((JsonNumber)
+										f.getValue()).longValue());
+							children.put(name, values);
+						}
+						break;
+						
+						// Unknown
+					default:
+						throw new RuntimeException(
+							"Invalid key in Invocation event: " + k);
+				}
+			}
+			
+			return new Invocation(utime, stime, minflt, majflt, vctx, nvctx,
+				busy, idle, ratio, cgroup, pressure, io, net, threads,
+				children);
+		}
+	}
+	
 	/**
 	 * Linux information.
 	 *
@@ -935,14 +1261,19 @@ public final class StandardPushEvent
 		/** PID. */
 		public final Map<String, Pid> pids;
 		
+		/** Resources used by the invocation, may be {@code null}. */
+		public final Invocation invocation;
+		
 		/**
 		 * Initializes the Linux information.
 		 *
 		 * @param __pids Process ID maps.
+		 * @param __inv Resources used by the invocation.
 		 * @since 2018/07/13
 		 */
-		public Linux(Map<String, Pid> __pids)
+		public Linux(Map<String, Pid> __pids, Invocation __inv)
 		{
+			this.invocation = __inv;
 			this.pids = Collections.<String, Pid>unmodifiableMap(
 				(__pids == null ? new LinkedHashMap<String, Pid>() :
 				new LinkedHashMap<>(__pids)));
@@ -963,6 +1294,7 @@ public final class StandardPushEvent
 				throw new NullPointerException();
 			
 			Map<String, Pid> pids = new LinkedHashMap<>();
+			Invocation invocation = null;
 			
 			for (Map.Entry<String, JsonValue> e : __data.entrySet())
 			{
@@ -978,6 +1310,10 @@ public final class StandardPushEvent
 								Pid.decodeEvent((JsonObject)f.getValue()));
 						break;
 						
+					case "invocation":
+						invocation = Invocation.decodeEvent((JsonObject)v);
+						break;
+						
 						// Unknown
 					default:
 						throw new RuntimeException(
@@ -985,7 +1321,7 @@ public final class StandardPushEvent
 				}
 			}
 			
-			return new Linux(pids);
+			return new Linux(pids, invocation);
 		}
 	}
 	
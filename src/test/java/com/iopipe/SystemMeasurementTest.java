@@ -0,0 +1,217 @@
+package com.iopipe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.pmw.tinylog.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that system measurements read the same values as simply
+ * reading and splitting the files, and compares how long each takes and how
+ * much each allocates.
+ *
+ * @since 2026/10/18
+ */
+public class SystemMeasurementTest
+{
+	/** The number of times to measure for the benchmark. */
+	private static final int _ROUNDS =
+		2000;
+	
+	/**
+	 * Checks that the values which are read match.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void values()
+		throws Exception
+	{
+		// Only Linux has these files
+		if (!Files.isReadable(Paths.get("/proc/self/stat")))
+			return;
+		
+		// Times only go up
+		long[] was = __Reference__.__times();
+		SystemMeasurement.Times times = SystemMeasurement.measureTimes(
+			SystemMeasurement.SELF_PROCESS);
+		assertTrue(times.utime >= was[0]);
+		assertTrue(times.stime >= was[1]);
+		assertTrue(times.cutime >= was[2]);
+		assertTrue(times.cstime >= was[3]);
+		
+		SystemMeasurement.Stat stat = SystemMeasurement.measureStat(
+			SystemMeasurement.SELF_PROCESS);
+		assertEquals(__Reference__.__status("Pid:"), stat.pid);
+		assertTrue(stat.threads > 0);
+		assertTrue(stat.vmrsskib > 0);
+		
+		assertEquals(__Reference__.__meminfo("MemTotal:"),
+			SystemMeasurement.measureMemory().totalbytes);
+		
+		assertEquals(__Reference__.__cpus(),
+			SystemMeasurement.measureCPUs().size());
+	}
+	
+	/**
+	 * Compares the time and allocation of measurements with the reference.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void benchmark()
+		throws Exception
+	{
+		// Only Linux has these files
+		if (!Files.isReadable(Paths.get("/proc/self/stat")))
+			return;
+		
+		// Warm up both
+		for (int i = 0; i < _ROUNDS; i++)
+		{
+			__Reference__.__measure();
+			SystemMeasurementTest.__measure();
+		}
+		
+		long[] ref = __Utils__.bench(_ROUNDS, () ->
+				{
+					__Reference__.__measure();
+					return null;
+				}),
+			now = __Utils__.bench(_ROUNDS, () ->
+				{
+					SystemMeasurementTest.__measure();
+					return null;
+				});
+		
+		Logger.info("SystemMeasurement: reference {}ns {}B, reader {}ns {}B " +
+			"per measurement.", ref[0], ref[1], now[0], now[1]);
+		
+		// Allocation does not depend on how busy the machine is
+		if (ref[1] >= 0 && now[1] >= 0)
+			assertTrue(now[1] < ref[1], "Reader allocates more.");
+	}
+	
+	/**
+	 * Performs the measurements which are done on every report, other than
+	 * disk usage since that is not read from {@code /proc}.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static void __measure()
+	{
+		SystemMeasurement.measureMemory();
+		SystemMeasurement.measureCPUs();
+		SystemMeasurement.measureTimes(SystemMeasurement.SELF_PROCESS);
+		SystemMeasurement.measureStat(SystemMeasurement.SELF_PROCESS);
+	}
+	
+	/**
+	 * This reads the files by reading all of the lines and splitting them,
+	 * which is how measurements were read before.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Reference__
+	{
+		/**
+		 * Returns the number of CPUs.
+		 *
+		 * @return The number of CPUs.
+		 * @throws IOException If it could not be read.
+		 * @since 2026/10/18
+		 */
+		static int __cpus()
+			throws IOException
+		{
+			int rv = 0;
+			for (String l : Files.readAllLines(Paths.get("/proc/stat")))
+				if (l.startsWith("cpu") && l.length() > 3 &&
+					Character.isDigit(l.charAt(3)))
+					rv++;
+			return rv;
+		}
+		
+		/**
+		 * Performs all of the measurements.
+		 *
+		 * @throws IOException If they could not be read.
+		 * @since 2026/10/18
+		 */
+		static void __measure()
+			throws IOException
+		{
+			__Reference__.__meminfo("MemTotal:");
+			__Reference__.__meminfo("MemFree:");
+			__Reference__.__cpus();
+			__Reference__.__times();
+			__Reference__.__status("Pid:");
+			__Reference__.__status("FDSize:");
+			__Reference__.__status("Threads:");
+			__Reference__.__status("VmRSS:");
+		}
+		
+		/**
+		 * Reads a memory value in bytes.
+		 *
+		 * @param __k The key to read.
+		 * @return The value in bytes.
+		 * @throws IOException If it could not be read.
+		 * @since 2026/10/18
+		 */
+		static long __meminfo(String __k)
+			throws IOException
+		{
+			for (String l : Files.readAllLines(Paths.get("/proc/meminfo")))
+				if (l.startsWith(__k))
+					return Long.parseLong(l.substring(__k.length()).
+						replace("kB", "").trim()) * 1024;
+			return 0;
+		}
+		
+		/**
+		 * Reads a status value.
+		 *
+		 * @param __k The key to read.
+		 * @return The value.
+		 * @throws IOException If it could not be read.
+		 * @since 2026/10/18
+		 */
+		static int __status(String __k)
+			throws IOException
+		{
+			for (String l : Files.readAllLines(
+				Paths.get("/proc/self/status")))
+				if (l.startsWith(__k))
+					return Integer.parseInt(l.substring(__k.length()).
+						replace("kB", "").trim());
+			return 0;
+		}
+		
+		/**
+		 * Reads the process times.
+		 *
+		 * @return The user, system, child user and child system times.
+		 * @throws IOException If it could not be read.
+		 * @since 2026/10/18
+		 */
+		static long[] __times()
+			throws IOException
+		{
+			List<String> lines = Files.readAllLines(
+				Paths.get("/proc/self/stat"));
+			String l = lines.get(0);
+			String[] fields = l.substring(l.lastIndexOf(')') + 2).split(" ");
+			return new long[]{Long.parseLong(fields[11]),
+				Long.parseLong(fields[12]), Long.parseLong(fields[13]),
+				Long.parseLong(fields[14])};
+		}
+	}
+}
+
@@ -0,0 +1,130 @@
+package com.iopipe;
+
+import com.iopipe.plugin.IOpipePlugin;
+import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
+import com.iopipe.plugin.IOpipePluginPostExecutable;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This is a test plugin whose post-execution is independent and so runs on
+ * the agent executor, it takes as long as the test asks it to.
+ *
+ * @since 2026/10/18
+ */
+@IOpipePluginInfo(name = "test-async", version = "1.0.0",
+	homepage = "https://github.com/iopipe/iopipe-java")
+public class TestAsyncPlugin
+	implements IOpipePlugin, IOpipePluginPostExecutable
+{
+	/** How long post-execution takes, in milliseconds. */
+	private static volatile long _delay;
+	
+	/** The thread which last ran post-execution. */
+	private static volatile Thread _thread;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final IOpipePluginExecution execute(IOpipeExecution __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		return new Execution(__e);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final Class<? extends IOpipePluginExecution> executionClass()
+	{
+		return Execution.class;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final boolean isPostExecuteIndependent()
+	{
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void postExecute(IOpipePluginExecution __e)
+		throws NullPointerException
+	{
+		if (__e == null)
+			throw new NullPointerException();
+		
+		TestAsyncPlugin._thread = Thread.currentThread();
+		
+		long end = System.nanoTime() + (_delay * 1_000_000L);
+		for (long left; (left = end - System.nanoTime()) > 0;)
+			LockSupport.parkNanos(left);
+		
+		((Execution)__e).execution.customMetric("async", "async");
+	}
+	
+	/**
+	 * Sets how long post-execution takes.
+	 *
+	 * @param __ms The time in milliseconds.
+	 * @since 2026/10/18
+	 */
+	static void delay(long __ms)
+	{
+		TestAsyncPlugin._delay = __ms;
+	}
+	
+	/**
+	 * Returns the thread which last ran post-execution.
+	 *
+	 * @return The thread or {@code null} if it never ran.
+	 * @since 2026/10/18
+	 */
+	static Thread thread()
+	{
+		return TestAsyncPlugin._thread;
+	}
+	
+	/**
+	 * This is the execution for the plugin.
+	 *
+	 * @since 2026/10/18
+	 */
+	public static final class Execution
+		implements IOpipePluginExecution
+	{
+		/** The execution to refer to. */
+		protected final IOpipeExecution execution;
+		
+		/**
+		 * Initializes the execution.
+		 *
+		 * @param __e The execution to modify.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		Execution(IOpipeExecution __e)
+			throws NullPointerException
+		{
+			if (__e == null)
+				throw new NullPointerException();
+			
+			this.execution = __e;
+		}
+	}
+}
+
@@ -2,18 +2,41 @@ package com.iopipe;
 
 import com.iopipe.plugin.IOpipePlugin;
 import com.iopipe.plugin.IOpipePluginExecution;
+import com.iopipe.plugin.IOpipePluginInfo;
 import com.iopipe.plugin.IOpipePluginPreExecutable;
 import com.iopipe.plugin.IOpipePluginPostExecutable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is a test plugin which exists within the test system.
  *
  * @since 2018/01/20
  */
+@IOpipePluginInfo(name = "test", version = "1.0.0",
+	homepage = "https://github.com/iopipe/iopipe-java")
 public class TestPlugin
 	implements IOpipePlugin, IOpipePluginPreExecutable,
 		IOpipePluginPostExecutable
 {
+	/** The number of times an execution was created. */
+	private static final AtomicInteger _EXECUTIONS =
+		new AtomicInteger();
+	
+	/** The number of times the plugin was initialized. */
+	private static final AtomicInteger _INITS =
+		new AtomicInteger();
+	
+	/** The number of times the plugin was thawed. */
+	private static final AtomicInteger _THAWS =
+		new AtomicInteger();
+	
+	/** The number of times the plugin was shutdown. */
+	private static final AtomicInteger _SHUTDOWNS =
+		new AtomicInteger();
+	
+	/** The service the plugin was last initialized with. */
+	private static volatile IOpipeService _service;
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/01/20
@@ -25,6 +48,7 @@ public class TestPlugin
 		if (__e == null)
 			throw new NullPointerException();
 		
+		TestPlugin._EXECUTIONS.incrementAndGet();
 		return new TestExecution(__e);
 	}
 	
@@ -40,22 +64,37 @@ public class TestPlugin
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/01/20
+	 * @since 2026/10/18
 	 */
 	@Override
-	public final String homepage()
+	public final void init(IOpipeService __sv)
+		throws NullPointerException
 	{
-		return "https://github.com/iopipe/iopipe-java";
+		if (__sv == null)
+			throw new NullPointerException();
+		
+		TestPlugin._service = __sv;
+		TestPlugin._INITS.incrementAndGet();
 	}
 	
 	/**
 	 * {@inheritDoc}
-	 * @since 2018/01/20
+	 * @since 2026/10/18
 	 */
 	@Override
-	public final String name()
+	public final void onThaw()
 	{
-		return "test";
+		TestPlugin._THAWS.incrementAndGet();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void shutdown()
+	{
+		TestPlugin._SHUTDOWNS.incrementAndGet();
 	}
 	
 	/**
@@ -89,13 +128,58 @@ public class TestPlugin
 	}
 	
 	/**
-	 * {@inheritDoc}
-	 * @since 2018/01/20
+	 * Returns the number of times an execution was created.
+	 *
+	 * @return The number of created executions.
+	 * @since 2026/10/18
 	 */
-	@Override
-	public final String version()
+	static int executions()
+	{
+		return TestPlugin._EXECUTIONS.get();
+	}
+	
+	/**
+	 * Returns the number of times the plugin was initialized.
+	 *
+	 * @return The number of initializations.
+	 * @since 2026/10/18
+	 */
+	static int inits()
+	{
+		return TestPlugin._INITS.get();
+	}
+	
+	/**
+	 * Returns the service the plugin was last initialized with.
+	 *
+	 * @return The service or {@code null} if it was never initialized.
+	 * @since 2026/10/18
+	 */
+	static IOpipeService service()
+	{
+		return TestPlugin._service;
+	}
+	
+	/**
+	 * Returns the number of times the plugin was shutdown.
+	 *
+	 * @return The number of shutdowns.
+	 * @since 2026/10/18
+	 */
+	static int shutdowns()
+	{
+		return TestPlugin._SHUTDOWNS.get();
+	}
+	
+	/**
+	 * Returns the number of times the plugin was thawed.
+	 *
+	 * @return The number of thaws.
+	 * @since 2026/10/18
+	 */
+	static int thaws()
 	{
-		return "1.0.0";
+		return TestPlugin._THAWS.get();
 	}
 }
 
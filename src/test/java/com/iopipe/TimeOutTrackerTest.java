@@ -0,0 +1,190 @@
+package com.iopipe;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that the time out tracker reports invocations when their
+ * deadline passes, including those which are further out than the wheel, and
+ * that cancelled invocations are not reported.
+ *
+ * @since 2026/10/18
+ */
+public class TimeOutTrackerTest
+{
+	/** The timeout window, in milliseconds. */
+	private static final int _WINDOW =
+		1;
+	
+	/** The service which executions are created in. */
+	private final IOpipeService _service =
+		new IOpipeService(MockEngine.mockConfig().build());
+	
+	/**
+	 * Tests that invocations are reported once their deadline passes and not
+	 * before then.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void expiry()
+		throws Exception
+	{
+		__TimeOutTracker__ tracker = this.__tracker(1_000_000L);
+		
+		long start = System.nanoTime();
+		AtomicBoolean soon = this.__track(tracker, 50),
+			later = this.__track(tracker, 5_000);
+		
+		assertTrue(TimeOutTrackerTest.__await(soon, 2_000), "soon");
+		assertTrue(System.nanoTime() - start >= 49_000_000L, "early");
+		assertFalse(later.get(), "later");
+	}
+	
+	/**
+	 * Tests that cancelled invocations are never reported.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void cancel()
+		throws Exception
+	{
+		__TimeOutTracker__ tracker = this.__tracker(1_000_000L);
+		
+		AtomicBoolean cancelled = new AtomicBoolean(),
+			kept = new AtomicBoolean();
+		tracker.__cancel(this.__track(tracker, 30, cancelled));
+		this.__track(tracker, 60, kept);
+		
+		assertTrue(TimeOutTrackerTest.__await(kept, 2_000), "kept");
+		Thread.sleep(50);
+		assertFalse(cancelled.get(), "cancelled");
+	}
+	
+	/**
+	 * Tests that invocations which are further out than a single turn of the
+	 * wheel are reported at their deadline rather than a turn early.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void pastWheel()
+		throws Exception
+	{
+		// The wheel turns every 512 milliseconds
+		__TimeOutTracker__ tracker = this.__tracker(1_000_000L);
+		
+		long start = System.nanoTime();
+		AtomicBoolean far = this.__track(tracker, 1_200);
+		
+		Thread.sleep(600);
+		assertFalse(far.get(), "A turn early.");
+		
+		assertTrue(TimeOutTrackerTest.__await(far, 5_000), "far");
+		assertTrue(System.nanoTime() - start >= 1_199_000_000L, "early");
+	}
+	
+	/**
+	 * Tests that tracking an earlier deadline wakes the tracker when it is
+	 * sleeping until a later one.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void earlierDeadline()
+		throws Exception
+	{
+		// The wheel turns every 1024 milliseconds, so the later deadline
+		// is almost a second away on the wheel
+		__TimeOutTracker__ tracker = this.__tracker(2_000_000L);
+		
+		AtomicBoolean later = this.__track(tracker, 3_000);
+		Thread.sleep(20);
+		
+		long start = System.nanoTime();
+		AtomicBoolean soon = this.__track(tracker, 30);
+		
+		assertTrue(TimeOutTrackerTest.__await(soon, 2_000), "soon");
+		assertTrue(System.nanoTime() - start < 500_000_000L,
+			"Was not woken for the earlier deadline.");
+		assertFalse(later.get(), "later");
+	}
+	
+	/**
+	 * Tracks a new execution.
+	 *
+	 * @param __t The tracker.
+	 * @param __ms The remaining time of the execution in milliseconds.
+	 * @return The flag which is set when the execution timed out.
+	 * @since 2026/10/18
+	 */
+	private AtomicBoolean __track(__TimeOutTracker__ __t, int __ms)
+	{
+		AtomicBoolean rv = new AtomicBoolean();
+		this.__track(__t, __ms, rv);
+		return rv;
+	}
+	
+	/**
+	 * Tracks a new execution.
+	 *
+	 * @param __t The tracker.
+	 * @param __ms The remaining time of the execution in milliseconds.
+	 * @param __sent The flag which is set when the execution timed out.
+	 * @return The tracked invocation.
+	 * @since 2026/10/18
+	 */
+	private __TimeOutTracker__.__Track__ __track(__TimeOutTracker__ __t,
+		int __ms, AtomicBoolean __sent)
+	{
+		IOpipeService sv = this._service;
+		MockContext context = new MockContext("timeout", __ms);
+		__ActiveExecution__ exec = new __ActiveExecution__(sv, sv.config(),
+			context, System.currentTimeMillis(), null, System.nanoTime(),
+			false, sv._plugins);
+		
+		__TimeOutTracker__.__Track__ rv = __t.__track(context, exec, __sent,
+			Thread.currentThread());
+		assertNotNull(rv);
+		return rv;
+	}
+	
+	/**
+	 * Creates a new tracker.
+	 *
+	 * @param __tn The duration of a tick, in nanoseconds.
+	 * @return The tracker.
+	 * @since 2026/10/18
+	 */
+	private __TimeOutTracker__ __tracker(long __tn)
+	{
+		return new __TimeOutTracker__(new __RequestSender__(
+			new MockConnection(MockEngine.EVENT_URL, null)), _WINDOW, __tn);
+	}
+	
+	/**
+	 * Waits for the given flag to be set.
+	 *
+	 * @param __f The flag to wait for.
+	 * @param __ms The maximum time to wait, in milliseconds.
+	 * @return If the flag was set.
+	 * @throws InterruptedException If the wait was interrupted.
+	 * @since 2026/10/18
+	 */
+	private static boolean __await(AtomicBoolean __f, long __ms)
+		throws InterruptedException
+	{
+		long end = System.nanoTime() + (__ms * 1_000_000L);
+		while (!__f.get() && System.nanoTime() - end < 0)
+			Thread.sleep(1);
+		return __f.get();
+	}
+}
+
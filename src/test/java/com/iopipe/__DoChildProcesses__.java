@@ -0,0 +1,133 @@
+package com.iopipe;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * This checks that processes which are started by the function are reported.
+ *
+ * @since 2026/10/18
+ */
+class __DoChildProcesses__
+	extends Single
+{
+	/** The command which is run. */
+	private static final String _COMMAND =
+		"/bin/sleep";
+	
+	/** Can the command be run? */
+	private static final boolean _CAN_RUN =
+		"linux".compareToIgnoreCase(
+			System.getProperty("os.name", "unknown")) == 0 &&
+		Files.isExecutable(Paths.get(_COMMAND));
+	
+	/** Sent with no exception? */
+	protected final BooleanValue noerror =
+		new BooleanValue("noerror");
+		
+	/** Got a result from the server okay? */
+	protected final BooleanValue remoterecvokay =
+		new BooleanValue("remoterecvokay");
+	
+	/** Was the process reported? */
+	protected final BooleanValue hasprocess =
+		new BooleanValue("hasprocess");
+	
+	/** Was the process seen running for some time? */
+	protected final BooleanValue haswalltime =
+		new BooleanValue("haswalltime");
+	
+	/** Was the memory of the process reported? */
+	protected final BooleanValue hasrss =
+		new BooleanValue("hasrss");
+	
+	/**
+	 * Constructs the test.
+	 *
+	 * @param __e The owning engine.
+	 * @since 2026/10/18
+	 */
+	__DoChildProcesses__(Engine __e)
+	{
+		super(__e, "childprocesses");
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void end()
+	{
+		super.assertTrue(this.remoterecvokay);
+		super.assertTrue(this.noerror);
+		
+		// Processes are only tracked on Linux
+		if (!_CAN_RUN)
+			return;
+		
+		super.assertTrue(this.hasprocess);
+		super.assertTrue(this.haswalltime);
+		super.assertTrue(this.hasrss);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteRequest(WrappedRequest __r)
+	{
+		StandardPushEvent event = (StandardPushEvent)__r.event;
+		
+		// It is invalid if there is an error
+		if (!event.hasError())
+			this.noerror.set(true);
+		
+		StandardPushEvent.Environment env = event.environment;
+		if (env == null || env.os == null || env.os.linux == null ||
+			env.os.linux.invocation == null)
+			return;
+		
+		Map<String, Long> sleep = env.os.linux.invocation.children.get(
+			"sleep");
+		if (sleep == null || sleep.get("processes") < 1)
+			return;
+		this.hasprocess.set(true);
+		
+		if (sleep.get("wall_ms") > 0)
+			this.haswalltime.set(true);
+		
+		if (sleep.get("peak_rss_kib") > 0)
+			this.hasrss.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteResult(WrappedResult __r)
+	{
+		if (__Utils__.isResultOkay(__r.result))
+			this.remoterecvokay.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run(IOpipeExecution __e)
+		throws Throwable
+	{
+		if (!_CAN_RUN)
+			return;
+		
+		// Wait long enough for the process to be sampled
+		Process p = new ProcessBuilder(_COMMAND, "0.3").start();
+		p.waitFor();
+	}
+}
+
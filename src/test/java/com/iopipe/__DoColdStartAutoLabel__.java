@@ -32,6 +32,10 @@ class __DoColdStartAutoLabel__
 	protected final BooleanValue haslabel =
 		new BooleanValue("haslabel");
 	
+	/** Was the cold start timeline reported? */
+	protected final BooleanValue hastimeline =
+		new BooleanValue("hastimeline");
+	
 	/**
 	 * Constructs the test.
 	 *
@@ -55,6 +59,7 @@ class __DoColdStartAutoLabel__
 		
 		super.assertTrue(this.hascoldstart);
 		super.assertTrue(this.haslabel);
+		super.assertTrue(this.hastimeline);
 		
 		// These conditions must be the same
 		super.assertEquals(this.hascoldstart.get(), this.haslabel);
@@ -94,6 +99,19 @@ class __DoColdStartAutoLabel__
 		// The label must be added
 		if (event.labels.contains("@iopipe/coldstart"))
 			this.haslabel.set(true);
+		
+		// The time the agent took to load and the service took to
+		// initialize must be known, the classes loaded while booting are
+		// never known
+		StandardPushEvent.Agent agent = (event.environment == null ? null :
+			event.environment.agent);
+		Map<String, Double> boot = (agent == null ? null :
+			agent.coldstart.get(ColdStartTimeline.PHASE_BOOT));
+		if (agent != null && agent.jvmstart > 0 &&
+			agent.coldstart.containsKey(ColdStartTimeline.PHASE_CLASSLOAD) &&
+			agent.coldstart.containsKey(ColdStartTimeline.PHASE_SERVICE) &&
+			(boot == null || !boot.containsKey("classes")))
+			this.hastimeline.set(true);
 	}
 	
 	/**
@@ -0,0 +1,163 @@
+package com.iopipe;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This checks that the resources used by an invocation are reported.
+ *
+ * @since 2026/10/18
+ */
+class __DoInvocationResources__
+	extends Single
+{
+	/** Is this a Linux system? */
+	private static final boolean _IS_LINUX =
+		"linux".compareToIgnoreCase(
+			System.getProperty("os.name", "unknown")) == 0;
+	
+	/** Sent with no exception? */
+	protected final BooleanValue noerror =
+		new BooleanValue("noerror");
+		
+	/** Got a result from the server okay? */
+	protected final BooleanValue remoterecvokay =
+		new BooleanValue("remoterecvokay");
+	
+	/** Were the invocation resources reported? */
+	protected final BooleanValue hasinvocation =
+		new BooleanValue("hasinvocation");
+	
+	/** Are the deltas not negative? */
+	protected final BooleanValue positivedeltas =
+		new BooleanValue("positivedeltas");
+	
+	/** Was network traffic reported? */
+	protected final BooleanValue hasnet =
+		new BooleanValue("hasnet");
+	
+	/** Was native thread time reported? */
+	protected final BooleanValue hasthreads =
+		new BooleanValue("hasthreads");
+	
+	/** Are there CPUs with valid ratios? */
+	protected final BooleanValue validcpus =
+		new BooleanValue("validcpus");
+	
+	/** Used to keep the CPU busy. */
+	private volatile long _spin;
+	
+	/**
+	 * Constructs the test.
+	 *
+	 * @param __e The owning engine.
+	 * @since 2026/10/18
+	 */
+	__DoInvocationResources__(Engine __e)
+	{
+		super(__e, "invocationresources");
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void end()
+	{
+		super.assertTrue(this.remoterecvokay);
+		super.assertTrue(this.noerror);
+		
+		// Only Linux has these measurements
+		if (!_IS_LINUX)
+			return;
+		
+		super.assertTrue(this.hasinvocation);
+		super.assertTrue(this.positivedeltas);
+		super.assertTrue(this.validcpus);
+		super.assertTrue(this.hasnet);
+		super.assertTrue(this.hasthreads);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteRequest(WrappedRequest __r)
+	{
+		StandardPushEvent event = (StandardPushEvent)__r.event;
+		
+		// It is invalid if there is an error
+		if (!event.hasError())
+			this.noerror.set(true);
+		
+		StandardPushEvent.Environment env = event.environment;
+		if (env == null || env.os == null || env.os.linux == null)
+			return;
+		
+		StandardPushEvent.Invocation inv = env.os.linux.invocation;
+		if (inv == null)
+			return;
+		this.hasinvocation.set(true);
+		
+		boolean positive = (inv.utime >= 0 && inv.stime >= 0 &&
+			inv.minflt >= 0 && inv.majflt >= 0 && inv.vctx >= 0 &&
+			inv.nvctx >= 0);
+		for (String k : new String[]{"nr_throttled", "throttled_usec"})
+		{
+			Long v = inv.cgroup.get(k);
+			if (v != null && v < -1)
+				positive = false;
+		}
+		for (Map<String, Long> m : Arrays.<Map<String, Long>>asList(
+			inv.pressure, inv.io, inv.net, inv.threads))
+			for (long v : m.values())
+				if (v < 0)
+					positive = false;
+		if (positive)
+			this.positivedeltas.set(true);
+		
+		if (inv.net.containsKey("rx_bytes") && inv.net.containsKey("tx_bytes"))
+			this.hasnet.set(true);
+		
+		if (inv.threads.containsKey("gc") &&
+			inv.threads.containsKey("application"))
+			this.hasthreads.set(true);
+		
+		boolean valid = !inv.cpubusyratio.isEmpty();
+		for (double r : inv.cpubusyratio)
+			if (r < -1.0 || r > 1.0)
+				valid = false;
+		if (valid)
+			this.validcpus.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteResult(WrappedResult __r)
+	{
+		if (__Utils__.isResultOkay(__r.result))
+			this.remoterecvokay.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run(IOpipeExecution __e)
+		throws Throwable
+	{
+		// Use some CPU so there is something to measure
+		long spin = 0;
+		for (int i = 0; i < 1000000; i++)
+			spin += Objects.hashCode(i);
+		this._spin = spin;
+	}
+}
+
@@ -0,0 +1,119 @@
+package com.iopipe;
+
+import com.iopipe.IOpipeConfigurationBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests that the function is called directly and nothing is sent while the
+ * kill switch file exists.
+ *
+ * @since 2026/10/18
+ */
+class __DoKillSwitch__
+	extends Single
+{
+	/** Was the function called without an active execution? */
+	protected final BooleanValue inactive =
+		new BooleanValue("inactive");
+	
+	/** The number of requests which were sent. */
+	protected final IntegerValue requests =
+		new IntegerValue("requests");
+	
+	/** The kill switch file. */
+	private volatile Path _file;
+	
+	/**
+	 * Constructs the test.
+	 *
+	 * @param __e The owning engine.
+	 * @since 2026/10/18
+	 */
+	__DoKillSwitch__(Engine __e)
+	{
+		super(__e, "killswitch");
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void end()
+	{
+		try
+		{
+			Files.deleteIfExists(this._file);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		
+		super.assertTrue(this.inactive);
+		super.assertEquals(0, this.requests);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void modifyConfig(IOpipeConfigurationBuilder __cb)
+		throws NullPointerException
+	{
+		if (__cb == null)
+			throw new NullPointerException();
+		
+		Path file;
+		try
+		{
+			file = Files.createTempFile("iopipe-", ".killswitch");
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		
+		// Do not leave the file around if the test fails
+		file.toFile().deleteOnExit();
+		this._file = file;
+		
+		__cb.setKillSwitchFile(file.toString());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteRequest(WrappedRequest __r)
+	{
+		this.requests.increment();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteResult(WrappedResult __r)
+	{
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run(IOpipeExecution __e)
+		throws Throwable
+	{
+		if (!(__e instanceof __ActiveExecution__))
+			this.inactive.set(true);
+	}
+}
+
@@ -0,0 +1,124 @@
+package com.iopipe;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * This checks that the CPU time and allocations of the handler thread and of
+ * tasks which ran for the execution in other threads are reported.
+ *
+ * @since 2026/10/18
+ */
+class __DoThreadUsage__
+	extends Single
+{
+	/** The number of bytes allocated in each thread. */
+	private static final int _ALLOCATE =
+		8 * 1024 * 1024;
+	
+	/** Can allocations be measured? */
+	private static final boolean _CAN_MEASURE =
+		ManagementFactory.getThreadMXBean() instanceof
+		com.sun.management.ThreadMXBean;
+	
+	/** Sent with no exception? */
+	protected final BooleanValue noerror =
+		new BooleanValue("noerror");
+		
+	/** Got a result from the server okay? */
+	protected final BooleanValue remoterecvokay =
+		new BooleanValue("remoterecvokay");
+	
+	/** Was CPU time reported? */
+	protected final BooleanValue hascpu =
+		new BooleanValue("hascpu");
+	
+	/** Were the allocations of both threads reported? */
+	protected final BooleanValue hasallocated =
+		new BooleanValue("hasallocated");
+	
+	/** Was the utilization reported? */
+	protected final BooleanValue hasutilization =
+		new BooleanValue("hasutilization");
+	
+	/** Keeps allocations from being removed. */
+	private volatile byte[] _keep;
+	
+	/**
+	 * Constructs the test.
+	 *
+	 * @param __e The owning engine.
+	 * @since 2026/10/18
+	 */
+	__DoThreadUsage__(Engine __e)
+	{
+		super(__e, "threadusage");
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void end()
+	{
+		super.assertTrue(this.remoterecvokay);
+		super.assertTrue(this.noerror);
+		
+		// Only some virtual machines can measure this
+		if (!_CAN_MEASURE)
+			return;
+		
+		super.assertTrue(this.hascpu);
+		super.assertTrue(this.hasallocated);
+		super.assertTrue(this.hasutilization);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteRequest(WrappedRequest __r)
+	{
+		StandardPushEvent event = (StandardPushEvent)__r.event;
+		
+		// It is invalid if there is an error
+		if (!event.hasError())
+			this.noerror.set(true);
+		
+		if (event.cpunanos > 0)
+			this.hascpu.set(true);
+		
+		if (event.allocatedbytes >= 2L * _ALLOCATE)
+			this.hasallocated.set(true);
+		
+		if (event.utilization > 0)
+			this.hasutilization.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void remoteResult(WrappedResult __r)
+	{
+		if (__Utils__.isResultOkay(__r.result))
+			this.remoterecvokay.set(true);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run(IOpipeExecution __e)
+		throws Throwable
+	{
+		// Allocate in this thread and in another one
+		this._keep = new byte[_ALLOCATE];
+		this._keep = IOpipeExecution.supplyAsync(
+			() -> new byte[_ALLOCATE]).get();
+	}
+}
+
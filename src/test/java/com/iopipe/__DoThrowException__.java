@@ -2,6 +2,9 @@ package com.iopipe;
 
 import com.iopipe.http.RemoteRequest;
 import com.iopipe.http.RemoteResult;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.json.JsonObject;
 
 /**
@@ -24,6 +27,20 @@ class __DoThrowException__
 	protected final BooleanValue hasautolabel =
 		new BooleanValue("hasautolabel");
 	
+	/** Was the error counted and its stack rendered? */
+	protected final BooleanValue hasoccurrences =
+		new BooleanValue("hasoccurrences");
+	
+	/**
+	 * Counts the number of times this was run, so that the message of the
+	 * cause differs each time.
+	 */
+	private static final AtomicInteger _RUNS =
+		new AtomicInteger();
+	
+	/** The stack as it would be printed. */
+	private volatile String _expected;
+	
 	/**
 	 * Constructs the test.
 	 *
@@ -44,6 +61,7 @@ class __DoThrowException__
 		super.assertTrue(this.remoterecvokay);
 		super.assertTrue(this.errorwassent);
 		super.assertTrue(this.hasautolabel);
+		super.assertTrue(this.hasoccurrences);
 	}
 	
 	/**
@@ -56,7 +74,14 @@ class __DoThrowException__
 		StandardPushEvent event = (StandardPushEvent)__r.event;
 		
 		if (event.hasError())
+		{
 			this.errorwassent.set(true);
+			
+			StandardPushEvent.Errors errors = event.errors;
+			if (errors.occurrences >= 1 &&
+				errors.stack.equals(this._expected))
+				this.hasoccurrences.set(true);
+		}
 		
 		if (event.labels.contains("@iopipe/error"))
 			this.hasautolabel.set(true);
@@ -81,7 +106,32 @@ class __DoThrowException__
 	public void run(IOpipeExecution __e)
 		throws Throwable
 	{
-		throw new MockException("Mock Exception");
+		// The frames are not from the agent so that none are filtered out
+		// and the stack is the same as it would be printed
+		StackTraceElement handler = new StackTraceElement(
+				"org.example.Handler", "handle", "Handler.java", 42),
+			main = new StackTraceElement(
+				"org.example.Main", "main", "Main.java", 7);
+		
+		// The cause message differs each time, the cached stack must not
+		// contain it
+		MockException cause = new MockException("user=" +
+			_RUNS.incrementAndGet());
+		cause.setStackTrace(new StackTraceElement[]{new StackTraceElement(
+			"org.example.Dao", "load", "Dao.java", 13), handler, main});
+		
+		MockException thrown = new MockException("Mock Exception", cause);
+		thrown.setStackTrace(new StackTraceElement[]{handler, main});
+		
+		StringWriter out = new StringWriter();
+		try (PrintWriter pw = new PrintWriter(out))
+		{
+			thrown.printStackTrace(pw);
+		}
+		this._expected = out.toString().replace(System.lineSeparator(),
+			"\n");
+		
+		throw thrown;
 	}
 }
 
@@ -2,6 +2,13 @@ package com.iopipe;
 
 import com.iopipe.http.RemoteRequest;
 import com.iopipe.http.RemoteResult;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
 import java.util.Map;
 import java.util.TreeMap;
 import javax.json.JsonArray;
@@ -26,6 +33,51 @@ final class __Utils__
 	{
 	}
 	
+	/**
+	 * Returns the number of bytes the current thread allocated.
+	 *
+	 * @return The allocated bytes or {@code -1} if it is not supported.
+	 * @since 2026/10/18
+	 */
+	public static long allocated()
+	{
+		java.lang.management.ThreadMXBean bean =
+			ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+			return -1;
+		
+		return ((com.sun.management.ThreadMXBean)bean).
+			getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * Measures the time and allocation of calling the given code.
+	 *
+	 * @param __n The number of times to call the code.
+	 * @param __c The code to call.
+	 * @return The nanoseconds and bytes allocated per call, the bytes are
+	 * negative if they could not be measured.
+	 * @throws Exception If the code threw an exception.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static long[] bench(int __n, Callable<?> __c)
+		throws Exception, NullPointerException
+	{
+		if (__c == null)
+			throw new NullPointerException();
+		
+		long startalloc = __Utils__.allocated(),
+			start = System.nanoTime();
+		
+		for (int i = 0; i < __n; i++)
+			__c.call();
+		
+		long time = System.nanoTime() - start,
+			alloc = __Utils__.allocated() - startalloc;
+		return new long[]{time / __n, (startalloc < 0 ? -1 : alloc / __n)};
+	}
+	
 	/**
 	 * Checks if the result status code is okay.
 	 *
@@ -43,5 +95,45 @@ final class __Utils__
 		int code = __r.code();
 		return code >= 200 && code < 300;
 	}
+	
+	/**
+	 * Returns the number of files this process has open which start with
+	 * the given path.
+	 *
+	 * @param __p The start of the path.
+	 * @return The number of open files or {@code -1} if they cannot be
+	 * listed.
+	 * @throws IOException If they could not be listed.
+	 * @since 2026/10/18
+	 */
+	public static int openFiles(String __p)
+		throws IOException
+	{
+		Path fds = Paths.get("/proc/self/fd");
+		if (!Files.isDirectory(fds))
+			return -1;
+		
+		// The listing is open while it is being read
+		Path self = fds.toRealPath();
+		
+		int rv = 0;
+		try (DirectoryStream<Path> ds = Files.newDirectoryStream(fds))
+		{
+			for (Path fd : ds)
+				try
+				{
+					Path file = Files.readSymbolicLink(fd);
+					if (file.toString().startsWith(__p) && !file.equals(self))
+						rv++;
+				}
+				
+				// The file may have been closed while listing
+				catch (IOException e)
+				{
+				}
+		}
+		
+		return rv;
+	}
 }
 
@@ -0,0 +1,176 @@
+package com.iopipe.generic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This checks that the class list generator handles its arguments and that
+ * the lists it writes have the classes of the function but not its own.
+ *
+ * @since 2026/10/18
+ */
+public class ClassListGeneratorTest
+{
+	/**
+	 * Tests that the usage is printed for invalid arguments.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void usage()
+	{
+		for (String[] args : new String[][]{
+			{},
+			{"Handler"},
+			{"Handler", "event.json", "out.classlist", "extra"},
+			{"--run-handler", "event.json"},
+			{"--run-handler", "Handler", "event.json", "extra"},
+			})
+		{
+			Output out = new Output(),
+				err = new Output();
+			
+			assertEquals(1, ClassListGenerator.__main(out.stream, err.stream,
+				args), Arrays.toString(args));
+			assertTrue(err.toString().startsWith("Usage: "),
+				Arrays.toString(args));
+			assertEquals("", out.toString(), Arrays.toString(args));
+		}
+	}
+	
+	/**
+	 * Tests that nothing is run when the event cannot be read.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void missingEvent()
+		throws Exception
+	{
+		Path dir = Files.createTempDirectory("iopipe-");
+		try
+		{
+			Path list = dir.resolve("out.classlist");
+			for (Path event : new Path[]{dir.resolve("missing.json"), dir})
+			{
+				Output out = new Output(),
+					err = new Output();
+				
+				assertEquals(1, ClassListGenerator.__main(out.stream,
+					err.stream, "Handler", event.toString(),
+					list.toString()), event.toString());
+				assertTrue(err.toString().startsWith("Cannot read the event"),
+					err.toString());
+				assertFalse(Files.exists(list), "Wrote a list.");
+			}
+		}
+		finally
+		{
+			Files.delete(dir);
+		}
+	}
+	
+	/**
+	 * Tests that the classes and lambdas of the tool are removed.
+	 *
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void filter()
+	{
+		assertEquals(Arrays.asList(
+				"java/lang/Object",
+				"com/iopipe/IOpipeService",
+				"@lambda-proxy com/iopipe/IOpipeService run ()V",
+				"com/iopipe/generic/GenericAWSRequestHandler"),
+			ClassListGenerator.__filter(Arrays.asList(
+				"java/lang/Object",
+				"com/iopipe/generic/ClassListGenerator",
+				"com/iopipe/IOpipeService",
+				"@lambda-proxy com/iopipe/IOpipeService run ()V",
+				"@lambda-proxy com/iopipe/generic/ClassListGenerator " +
+					"lambda ()V",
+				"com/sun/net/httpserver/HttpServer",
+				"sun/net/httpserver/ServerImpl",
+				"com/iopipe/generic/GenericAWSRequestHandler")));
+	}
+	
+	/**
+	 * Tests that the list has the classes which the function loaded.
+	 *
+	 * @throws Exception If the test fails.
+	 * @since 2026/10/18
+	 */
+	@Test
+	public void generate()
+		throws Exception
+	{
+		Path dir = Files.createTempDirectory("iopipe-"),
+			event = dir.resolve("event.json"),
+			list = dir.resolve("out.classlist");
+		try
+		{
+			Files.write(event, "{\"squirrels\":1}".getBytes(
+				StandardCharsets.UTF_8));
+			
+			Output out = new Output(),
+				err = new Output();
+			assertEquals(0, ClassListGenerator.__main(out.stream, err.stream,
+				"com.iopipe.elsewhere.AWSEntries::static1", event.toString(),
+				list.toString()), err.toString());
+			assertTrue(out.toString().contains("Wrote the class list to " +
+				list.toAbsolutePath()), out.toString());
+			
+			List<String> lines = Files.readAllLines(list,
+				StandardCharsets.UTF_8);
+			assertTrue(lines.contains("com/iopipe/elsewhere/AWSEntries"),
+				"No handler.");
+			assertTrue(lines.contains("com/iopipe/IOpipeService"),
+				"No service.");
+			assertEquals(lines, ClassListGenerator.__filter(lines),
+				"Has classes of the tool.");
+		}
+		finally
+		{
+			Files.deleteIfExists(event);
+			Files.deleteIfExists(list);
+			Files.delete(dir);
+		}
+	}
+	
+	/**
+	 * Collects what is printed to a stream.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class Output
+	{
+		/** The bytes which were written. */
+		final ByteArrayOutputStream bytes =
+			new ByteArrayOutputStream();
+		
+		/** The stream to print to. */
+		final PrintStream stream =
+			new PrintStream(this.bytes, true);
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public String toString()
+		{
+			return new String(this.bytes.toByteArray());
+		}
+	}
+}
+
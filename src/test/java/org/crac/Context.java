@@ -0,0 +1,20 @@
+package org.crac;
+
+/**
+ * A group of resources which are notified of checkpoints and restores.
+ *
+ * @param <R> The type of resources.
+ * @since 2026/10/18
+ */
+public abstract class Context<R extends Resource>
+	implements Resource
+{
+	/**
+	 * Registers the given resource.
+	 *
+	 * @param __r The resource to register.
+	 * @since 2026/10/18
+	 */
+	public abstract void register(R __r);
+}
+
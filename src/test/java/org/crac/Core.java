@@ -0,0 +1,115 @@
+package org.crac;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This contains the global context, like the actual API resources are only
+ * weakly referenced.
+ *
+ * @since 2026/10/18
+ */
+public final class Core
+{
+	/** The global context. */
+	private static final __Global__ _GLOBAL =
+		new __Global__();
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private Core()
+	{
+	}
+	
+	/**
+	 * Returns the global context.
+	 *
+	 * @return The global context.
+	 * @since 2026/10/18
+	 */
+	public static Context<Resource> getGlobalContext()
+	{
+		return _GLOBAL;
+	}
+	
+	/**
+	 * Returns the resources which are registered and still alive, this is
+	 * not part of the API and is used so that tests can notify only their
+	 * own resources.
+	 *
+	 * @return The registered resources, in the order they were registered.
+	 * @since 2026/10/18
+	 */
+	public static List<Resource> registered()
+	{
+		List<Resource> rv = new ArrayList<>();
+		synchronized (_GLOBAL)
+		{
+			for (Reference<Resource> ref : _GLOBAL._resources)
+			{
+				Resource r = ref.get();
+				if (r != null)
+					rv.add(r);
+			}
+		}
+		return rv;
+	}
+	
+	/**
+	 * The global context.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Global__
+		extends Context<Resource>
+	{
+		/** The registered resources. */
+		final List<Reference<Resource>> _resources =
+			new ArrayList<>();
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final void beforeCheckpoint(Context<? extends Resource> __c)
+			throws Exception
+		{
+			// Resources are notified in reverse order before checkpoints
+			List<Resource> all = Core.registered();
+			for (int i = all.size() - 1; i >= 0; i--)
+				all.get(i).beforeCheckpoint(this);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final void afterRestore(Context<? extends Resource> __c)
+			throws Exception
+		{
+			for (Resource r : Core.registered())
+				r.afterRestore(this);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final synchronized void register(Resource __r)
+		{
+			if (__r == null)
+				throw new NullPointerException();
+			
+			this._resources.add(new WeakReference<>(__r));
+		}
+	}
+}
+
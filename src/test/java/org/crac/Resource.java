@@ -0,0 +1,31 @@
+package org.crac;
+
+/**
+ * This is a copy of the checkpoint API so that the agent can be tested
+ * without depending on it, only what the agent and tests use is here.
+ *
+ * @since 2026/10/18
+ */
+public interface Resource
+{
+	/**
+	 * Called before the checkpoint is taken.
+	 *
+	 * @param __c The context the resource is registered in.
+	 * @throws Exception If the checkpoint cannot be taken.
+	 * @since 2026/10/18
+	 */
+	public abstract void beforeCheckpoint(Context<? extends Resource> __c)
+		throws Exception;
+	
+	/**
+	 * Called after the process was restored.
+	 *
+	 * @param __c The context the resource is registered in.
+	 * @throws Exception If the restore failed.
+	 * @since 2026/10/18
+	 */
+	public abstract void afterRestore(Context<? extends Resource> __c)
+		throws Exception;
+}
+